@@ -12,7 +12,7 @@ import org.immutables.value.Value.Style.ImplementationVisibility;
 
 @Immutable(singleton = true, builder = false)
 @Style(visibility = ImplementationVisibility.PACKAGE)
-abstract class BuildInfoService {
+public abstract class BuildInfoService {
 
     public static BuildInfoService getInstance() {
         return ImmutableBuildInfoService.of();
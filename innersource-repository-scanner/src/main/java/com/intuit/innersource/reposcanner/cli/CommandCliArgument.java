@@ -3,4 +3,7 @@ package com.intuit.innersource.reposcanner.cli;
 public enum CommandCliArgument {
     REPORT,
     FIXUP,
+    REPORT_AND_FIXUP,
+    BATCH_REPORT,
+    ORG_REPORT,
 }
@@ -1,24 +1,47 @@
 package com.intuit.innersource.reposcanner.cli;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Sets;
 import com.google.common.net.InternetDomainName;
 import com.intuit.innersource.reposcanner.commands.fixup.FixupFileTemplates;
 import com.intuit.innersource.reposcanner.commands.fixup.InnerSourceReadinessFixupCommand;
 import com.intuit.innersource.reposcanner.commands.report.InnerSourceReadinessReport;
 import com.intuit.innersource.reposcanner.commands.report.InnerSourceReadinessReportCommand;
 import com.intuit.innersource.reposcanner.commands.report.InnerSourceReadinessReportCommand.Builder;
+import com.intuit.innersource.reposcanner.commands.report.ScanResultStore;
+import com.intuit.innersource.reposcanner.loggingservice.LoggingService;
+import com.intuit.innersource.reposcanner.loggingservice.console.ConsoleLoggingService;
 import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import com.intuit.innersource.reposcanner.repofilepath.bare.BareRepositoryPath;
+import com.intuit.innersource.reposcanner.repofilepath.github.CachingHttpConnector;
 import com.intuit.innersource.reposcanner.repofilepath.github.GitHubRepositoryPath;
+import com.intuit.innersource.reposcanner.repofilepath.github.GitHubRequestScheduler;
 import com.intuit.innersource.reposcanner.repofilepath.local.LocalRepositoryFilePath;
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.kohsuke.github.GHOrganization;
+import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.GitHubBuilder;
 import picocli.CommandLine;
@@ -40,6 +63,8 @@ import picocli.CommandLine.Spec;
 )
 public final class CommandLineRunner implements Callable<Integer> {
 
+    private static final String PUBLIC_GITHUB_API_ENDPOINT = "https://api.github.com";
+
     @Option(
         names = { "-c", "--command" },
         required = true,
@@ -50,12 +75,75 @@ public final class CommandLineRunner implements Callable<Integer> {
 
     @Option(
         names = { "-r", "--repository" },
-        required = true,
         paramLabel = "REPOSITORY",
-        description = "The root directory of a local git repository or the URL of a remote GitHub repository."
+        description = "The root directory of a local git repository or the URL of a remote GitHub repository. " +
+        "Required by the REPORT, FIXUP and REPORT_AND_FIXUP commands."
     )
     private URI repository;
 
+    @Option(
+        names = { "--revision" },
+        paramLabel = "REVISION",
+        description = "The branch, tag or commit sha to scan when a local repository is a bare git repository, " +
+        "whose files are read straight from its object database without a checkout. Defaults to HEAD."
+    )
+    private String revision;
+
+    @Option(
+        names = { "--repositories" },
+        paramLabel = "REPOSITORIES FILE",
+        description = "A file listing one local git repository directory or remote GitHub repository URL per " +
+        "line, or - to read the list from standard input. Required by the BATCH_REPORT command, which prints " +
+        "one json report per line as each repository is scanned. Blank lines and lines starting with # are ignored."
+    )
+    private String repositoriesFile;
+
+    @Option(
+        names = { "-o", "--organization" },
+        paramLabel = "ORGANIZATION",
+        description = "The name of a public GitHub organization, or the URL of an organization on a GitHub " +
+        "enterprise server, e.g. https://github.yourorg.com/org-name. Required by the ORG_REPORT command, which " +
+        "pages through the organization's repositories and prints one json report per line as each repository " +
+        "is scanned."
+    )
+    private String organization;
+
+    @Option(
+        names = { "--skip-archived" },
+        description = "Skips archived repositories when running the ORG_REPORT command."
+    )
+    private boolean skipArchived;
+
+    @Option(
+        names = { "--skip-forks" },
+        description = "Skips forked repositories when running the ORG_REPORT command."
+    )
+    private boolean skipForks;
+
+    @Option(
+        names = { "--skip-empty" },
+        description = "Skips empty repositories when running the ORG_REPORT command."
+    )
+    private boolean skipEmpty;
+
+    @Option(
+        names = { "--checkpoint" },
+        paramLabel = "CHECKPOINT FILE",
+        description = "A file the ORG_REPORT command appends the name of each repository to once its report is " +
+        "printed. Repositories already listed in the file are skipped, so an interrupted run resumes where it " +
+        "stopped when run again with the same checkpoint file. Repositories which could not be scanned are not " +
+        "listed, and are scanned again."
+    )
+    private Path checkpointFile;
+
+    @Option(
+        names = { "-p", "--parallelism" },
+        paramLabel = "PARALLELISM",
+        description = "The number of repositories the BATCH_REPORT and ORG_REPORT commands scan concurrently, " +
+        "defaults to 1."
+    )
+    private int parallelism = 1;
+
     @Option(
         names = { "-s", "--spec" },
         paramLabel = "INNERSOURCE READINESS SPEC",
@@ -83,71 +171,281 @@ public final class CommandLineRunner implements Callable<Integer> {
     )
     private String authToken;
 
+    @Option(
+        names = { "--tree-snapshot" },
+        description = "Lists remote GitHub repositories with a single recursive Git Trees API request " +
+        "instead of one request per directory."
+    )
+    private boolean useTreeSnapshot;
+
+    @Option(
+        names = { "--stage-changes" },
+        description = "Makes the FIXUP command stage every fix in memory and write them at once: as a single " +
+        "commit to a remote GitHub repository, or by replacing each file of a local repository atomically, once."
+    )
+    private boolean stageChanges;
+
+    @Option(
+        names = { "--cache-dir" },
+        paramLabel = "CACHE DIRECTORY",
+        description = "A directory to cache GitHub api responses in. Cached responses are revalidated with " +
+        "conditional requests, which do not count against the GitHub rate limit when the response has not " +
+        "changed, so re-scanning unchanged remote GitHub repositories is nearly free."
+    )
+    private Path cacheDirectory;
+
+    @Option(
+        names = { "--cache-size" },
+        paramLabel = "CACHE SIZE MB",
+        description = "The maximum size in megabytes of the GitHub api response cache, the least recently used " +
+        "responses are evicted first. Defaults to 512."
+    )
+    private long cacheSizeMegabytes = 512;
+
+    @Option(
+        names = { "--result-store" },
+        paramLabel = "RESULT STORE DIRECTORY",
+        description = "A directory to store the result of each repository scan in. A repository whose head " +
+        "commit has not changed since it was last scanned according to the same specification is reported " +
+        "from the stored result instead of being scanned again."
+    )
+    private Path resultStoreDirectory;
+
     @Spec
     private CommandSpec cmdlnArgSpec;
 
+    /**
+     * GitHub api clients by api endpoint, so that every repository scanned by a batch shares one client (and its
+     * connection pool and rate limit tracking) per GitHub server.
+     */
+    private final ConcurrentMap<String, GitHub> githubApisByEndpoint = new ConcurrentHashMap<>();
+
+    /**
+     * GitHub request schedulers by GitHub api client, each installed as its client's rate limit checker, so that the
+     * requests of every repository scanned through a client are throttled together against the client's rate limit.
+     */
+    private final ConcurrentMap<GitHub, GitHubRequestScheduler> requestSchedulersByGithubApi = new ConcurrentHashMap<>();
+
+    /**
+     * The store of scan results shared by every report, if a result store directory was given.
+     */
+    private final Supplier<ScanResultStore> scanResultStore = Suppliers.memoize(
+        () -> ScanResultStore.inDirectory(resultStoreDirectory)
+    );
+
+    /**
+     * The GitHub api response cache shared by every GitHub api client, if a cache directory was given.
+     */
+    private final Supplier<CachingHttpConnector> cachingConnector = Suppliers.memoize(
+        () ->
+            CachingHttpConnector.create(
+                cacheDirectory,
+                cacheSizeMegabytes * 1024L * 1024L
+            )
+    );
+
     private CommandLineRunner() {}
 
     @Override
     public Integer call() throws Exception {
-        final RepositoryFilePath repoPath = resolveRepositoryFilePath();
+        if (command == CommandCliArgument.BATCH_REPORT) {
+            return batchReport();
+        }
+        if (command == CommandCliArgument.ORG_REPORT) {
+            return organizationReport();
+        }
+        if (repository == null) {
+            throw new ParameterException(
+                cmdlnArgSpec.commandLine(),
+                "Missing required option: '--repository=REPOSITORY'"
+            );
+        }
+
+        final RepositoryFilePath repoPath = resolveRepositoryFilePath(repository);
 
         switch (command) {
             case REPORT:
-                final Builder reportCommandBuilder = InnerSourceReadinessReportCommand.create(
-                    repoPath
-                );
-                Optional
-                    .ofNullable(innerSourceReadinessSpec)
-                    .ifPresent(reportCommandBuilder::specification);
-                final InnerSourceReadinessReport report = reportCommandBuilder
-                    .build()
-                    .call();
+                final InnerSourceReadinessReport report = report(repoPath);
                 System.out.println(report.toJson());
                 break;
             case FIXUP:
-                final InnerSourceReadinessFixupCommand.Builder fixupCommandBuilder = InnerSourceReadinessFixupCommand.create(
-                    repoPath
-                );
-                Optional
-                    .ofNullable(innerSourceReadinessSpec)
-                    .ifPresent(fixupCommandBuilder::specification);
-                Optional
-                    .ofNullable(fixupFileTemplates)
-                    .ifPresent(fixupCommandBuilder::fileTemplates);
-                fixupCommandBuilder.build().call();
+                fixup(repoPath, report(repoPath), ConsoleLoggingService.INSTANCE);
+                break;
+            case REPORT_AND_FIXUP:
+                final InnerSourceReadinessReport reportToFix = report(repoPath);
+                System.out.println(reportToFix.toJson());
+                // keeps standard out a single json document
+                fixup(repoPath, reportToFix, ConsoleLoggingService.STANDARD_ERROR);
                 break;
         }
         return 0;
     }
 
-    private RepositoryFilePath resolveRepositoryFilePath() throws IOException {
-        final RepositoryFilePath result;
-        if (isRemoteGitHubRepository()) {
-            final URL repoUrl = repository.toURL();
+    /**
+     * Fixes up the repository based on the {@code report} just generated for it, rather than scanning it again, and
+     * through the same {@code repoPath}, so that the files read by the report are not read again. The files created
+     * are logged to {@code loggingService}.
+     */
+    private void fixup(
+        final RepositoryFilePath repoPath,
+        final InnerSourceReadinessReport report,
+        final LoggingService loggingService
+    ) {
+        final InnerSourceReadinessFixupCommand.Builder fixupCommandBuilder = InnerSourceReadinessFixupCommand.create(
+            repoPath
+        );
+        Optional
+            .ofNullable(innerSourceReadinessSpec)
+            .ifPresent(fixupCommandBuilder::specification);
+        Optional
+            .ofNullable(fixupFileTemplates)
+            .ifPresent(fixupCommandBuilder::fileTemplates);
+        fixupCommandBuilder
+            .report(report)
+            .stageChanges(stageChanges)
+            .loggingService(loggingService)
+            .build()
+            .call();
+    }
 
-            GitHubBuilder gitHubBuilder;
-            if (StringUtils.isBlank(authToken)) {
-                gitHubBuilder = GitHubBuilder.fromEnvironment();
-            } else {
-                gitHubBuilder = new GitHubBuilder().withOAuthToken(authToken);
-            }
+    private InnerSourceReadinessReport report(final RepositoryFilePath repoPath) {
+        final Builder reportCommandBuilder = InnerSourceReadinessReportCommand.create(
+            repoPath
+        );
+        Optional
+            .ofNullable(innerSourceReadinessSpec)
+            .ifPresent(reportCommandBuilder::specification);
+        if (resultStoreDirectory != null) {
+            reportCommandBuilder.scanResultStore(scanResultStore.get());
+        }
+        return reportCommandBuilder.build().call();
+    }
 
-            if (!isRepoHostedOnPublicGitHub(repoUrl)) {
-                gitHubBuilder =
-                    gitHubBuilder.withEndpoint(
-                        StringUtils.removeEndIgnoreCase(
-                            repoUrl.toString(),
-                            repoUrl.getPath()
-                        ) +
-                        "/api/v3"
-                    );
-            }
+    /**
+     * Scans every repository listed in the {@code --repositories} file with a pool of {@code --parallelism} workers,
+     * printing one json line per repository in the order the scans complete. A repository which cannot be scanned is
+     * reported as a json line with an {@code error} property instead of a {@code report}, and makes the command exit
+     * with status 1 once the rest of the batch is done.
+     */
+    private int batchReport() throws IOException, InterruptedException {
+        if (StringUtils.isBlank(repositoriesFile)) {
+            throw new ParameterException(
+                cmdlnArgSpec.commandLine(),
+                "Missing required option: '--repositories=REPOSITORIES FILE'"
+            );
+        }
+        checkParallelism();
+
+        final int failureCount = new RepositoryReportPipeline<URI>(
+            parallelism,
+            URI::toString,
+            this::resolveRepositoryFilePath,
+            this::report
+        )
+            .run(readRepositories().iterator(), System.out, repositoryName -> {});
+        return failureCount == 0 ? 0 : 1;
+    }
+
+    /**
+     * Scans the repositories of the {@code --organization} like {@link #batchReport()}, listing them a page at a time
+     * as the workers become available. Repositories are named by their full name, e.g. {@code org-name/repo-name}.
+     */
+    private int organizationReport() throws IOException, InterruptedException {
+        if (StringUtils.isBlank(organization)) {
+            throw new ParameterException(
+                cmdlnArgSpec.commandLine(),
+                "Missing required option: '--organization=ORGANIZATION'"
+            );
+        }
+        checkParallelism();
+
+        final URL organizationUrl = isRemoteGitHubRepository(URI.create(organization))
+            ? new URL(organization)
+            : new URL("https://github.com/" + organization);
+        final GitHub githubApi = getGitHubApi(organizationUrl);
+        final GHOrganization githubOrganization = githubApi.getOrganization(
+            StringUtils.strip(organizationUrl.getPath(), "/")
+        );
+
+        final Set<String> checkpointedRepositories = Sets.newHashSet();
+        if (checkpointFile != null && Files.exists(checkpointFile)) {
+            checkpointedRepositories.addAll(
+                Files.readAllLines(checkpointFile, StandardCharsets.UTF_8)
+            );
+        }
+
+        final Iterator<GHRepository> repositoriesToScan = Iterators.filter(
+            githubOrganization.listRepositories(100).iterator(),
+            repository ->
+                !(skipArchived && repository.isArchived()) &&
+                !(skipForks && repository.isFork()) &&
+                !(skipEmpty && repository.getSize() == 0) &&
+                !checkpointedRepositories.contains(repository.getFullName())
+        );
 
-            final GitHub githubApi = gitHubBuilder.build();
+        final int failureCount = new RepositoryReportPipeline<GHRepository>(
+            parallelism,
+            GHRepository::getFullName,
+            repository -> toRepositoryFilePath(githubApi, repository),
+            this::report
+        )
+            .run(repositoriesToScan, System.out, this::checkpoint);
+        return failureCount == 0 ? 0 : 1;
+    }
+
+    private void checkpoint(final String repositoryName) {
+        if (checkpointFile == null) {
+            return;
+        }
+        try {
+            Files.write(
+                checkpointFile,
+                Collections.singletonList(repositoryName),
+                StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND
+            );
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void checkParallelism() {
+        if (parallelism < 1) {
+            throw new ParameterException(
+                cmdlnArgSpec.commandLine(),
+                "parallelism must be at least 1, was " + parallelism
+            );
+        }
+    }
+
+    private List<URI> readRepositories() throws IOException {
+        final List<String> lines;
+        if ("-".equals(repositoriesFile)) {
+            lines = IOUtils.readLines(System.in, StandardCharsets.UTF_8);
+        } else {
+            lines =
+                Files.readAllLines(Paths.get(repositoriesFile), StandardCharsets.UTF_8);
+        }
+        return lines
+            .stream()
+            .map(String::trim)
+            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+            .map(URI::create)
+            .collect(Collectors.toList());
+    }
+
+    private RepositoryFilePath resolveRepositoryFilePath(final URI repository)
+        throws IOException {
+        final RepositoryFilePath result;
+        if (isRemoteGitHubRepository(repository)) {
+            final URL repoUrl = repository.toURL();
+
+            final GitHub githubApi = getGitHubApi(repoUrl);
 
             result =
-                GitHubRepositoryPath.of(
+                toRepositoryFilePath(
+                    githubApi,
                     githubApi.getRepository(
                         StringUtils.removeStart(repoUrl.getPath(), "/")
                     )
@@ -160,12 +458,68 @@ public final class CommandLineRunner implements Callable<Integer> {
                     "local git repository path is not a directory"
                 );
             }
-            result = LocalRepositoryFilePath.of(localRepoFilePath);
+            result =
+                BareRepositoryPath.isGitDirectory(localRepoFilePath)
+                    ? BareRepositoryPath
+                        .create(localRepoFilePath)
+                        .revision(StringUtils.defaultIfBlank(revision, "HEAD"))
+                        .build()
+                    : LocalRepositoryFilePath.of(localRepoFilePath);
         }
         return result;
     }
 
-    private boolean isRemoteGitHubRepository() {
+    private RepositoryFilePath toRepositoryFilePath(
+        final GitHub githubApi,
+        final GHRepository repository
+    ) {
+        return GitHubRepositoryPath
+            .create(repository)
+            .useTreeSnapshot(useTreeSnapshot)
+            .requestScheduler(requestSchedulersByGithubApi.get(githubApi))
+            .build();
+    }
+
+    private GitHub getGitHubApi(final URL repoUrl) throws IOException {
+        final String endpoint = isRepoHostedOnPublicGitHub(repoUrl)
+            ? PUBLIC_GITHUB_API_ENDPOINT
+            : StringUtils.removeEndIgnoreCase(repoUrl.toString(), repoUrl.getPath()) +
+            "/api/v3";
+        try {
+            return githubApisByEndpoint.computeIfAbsent(
+                endpoint,
+                githubEndpoint -> {
+                    try {
+                        GitHubBuilder gitHubBuilder;
+                        if (StringUtils.isBlank(authToken)) {
+                            gitHubBuilder = GitHubBuilder.fromEnvironment();
+                        } else {
+                            gitHubBuilder = new GitHubBuilder().withOAuthToken(authToken);
+                        }
+                        if (!PUBLIC_GITHUB_API_ENDPOINT.equals(githubEndpoint)) {
+                            gitHubBuilder = gitHubBuilder.withEndpoint(githubEndpoint);
+                        }
+                        if (cacheDirectory != null) {
+                            gitHubBuilder =
+                                gitHubBuilder.withConnector(cachingConnector.get());
+                        }
+                        final GitHubRequestScheduler requestScheduler = GitHubRequestScheduler.create();
+                        final GitHub githubApi = gitHubBuilder
+                            .withRateLimitChecker(requestScheduler.rateLimitChecker())
+                            .build();
+                        requestSchedulersByGithubApi.put(githubApi, requestScheduler);
+                        return githubApi;
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            );
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static boolean isRemoteGitHubRepository(final URI repository) {
         return StringUtils.startsWithIgnoreCase(repository.getScheme(), "http");
     }
 
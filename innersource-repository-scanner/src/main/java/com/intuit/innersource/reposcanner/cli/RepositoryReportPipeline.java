@@ -0,0 +1,156 @@
+package com.intuit.innersource.reposcanner.cli;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.intuit.innersource.reposcanner.commands.report.InnerSourceReadinessReport;
+import com.intuit.innersource.reposcanner.jsonservice.JsonService;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Reports on a stream of repositories with a pool of workers, printing one json line per repository in the order the
+ * scans complete. At most twice as many repositories as there are workers are taken from the stream ahead of being
+ * scanned, so a paged listing of repositories is fetched only as fast as its repositories can be scanned.
+ *
+ * @param <T> the type identifying a repository to scan, e.g. a URI or a GitHub api repository.
+ */
+final class RepositoryReportPipeline<T> {
+
+    /**
+     * Resolves the {@link RepositoryFilePath} of a repository to scan.
+     */
+    @FunctionalInterface
+    interface RepositoryResolver<T> {
+        RepositoryFilePath resolve(T repository) throws IOException;
+    }
+
+    private final int parallelism;
+    private final Function<T, String> repositoryName;
+    private final RepositoryResolver<T> repositoryResolver;
+    private final Function<RepositoryFilePath, InnerSourceReadinessReport> reporter;
+
+    RepositoryReportPipeline(
+        final int parallelism,
+        final Function<T, String> repositoryName,
+        final RepositoryResolver<T> repositoryResolver,
+        final Function<RepositoryFilePath, InnerSourceReadinessReport> reporter
+    ) {
+        this.parallelism = parallelism;
+        this.repositoryName = repositoryName;
+        this.repositoryResolver = repositoryResolver;
+        this.reporter = reporter;
+    }
+
+    /**
+     * Scans every one of the {@code repositories}. A repository which cannot be scanned is printed as a json line with
+     * an {@code error} property instead of a {@code report}.
+     *
+     * @param out where the json lines are printed.
+     * @param onReported called with the name of each repository after its report has been printed. It is not called
+     *                   for the repositories which could not be scanned.
+     * @return the number of repositories which could not be scanned.
+     */
+    int run(
+        final Iterator<T> repositories,
+        final PrintStream out,
+        final Consumer<String> onReported
+    ) throws InterruptedException {
+        final ExecutorService workers = Executors.newFixedThreadPool(
+            parallelism,
+            new ThreadFactoryBuilder()
+                .setNameFormat("innersource-batch-%d")
+                .setDaemon(true)
+                .build()
+        );
+        try {
+            final CompletionService<ReportLine> reportLines = new ExecutorCompletionService<>(
+                workers
+            );
+            final int maximumPending = 2 * parallelism;
+            int pending = 0;
+            int failureCount = 0;
+            while (repositories.hasNext() || pending > 0) {
+                if (repositories.hasNext() && pending < maximumPending) {
+                    final T repository = repositories.next();
+                    reportLines.submit(() -> scan(repository));
+                    pending++;
+                    continue;
+                }
+                final ReportLine reportLine = take(reportLines);
+                pending--;
+                // serialized here rather than by the workers, gson is not safe to use concurrently before it has
+                // created the adapters of the recursive specification types
+                out.println(toJsonLine(reportLine));
+                out.flush();
+                if (reportLine.failed) {
+                    failureCount++;
+                } else {
+                    onReported.accept(reportLine.repositoryName);
+                }
+            }
+            return failureCount;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private ReportLine scan(final T repository) {
+        final String name = repositoryName.apply(repository);
+        try {
+            return new ReportLine(
+                name,
+                false,
+                reporter.apply(repositoryResolver.resolve(repository))
+            );
+        } catch (final Exception e) {
+            return new ReportLine(name, true, String.valueOf(e));
+        }
+    }
+
+    private static String toJsonLine(final ReportLine reportLine) {
+        final Map<String, Object> line = ImmutableMap.of(
+            "repository",
+            reportLine.repositoryName,
+            reportLine.failed ? "error" : "report",
+            reportLine.value
+        );
+        return JsonService.getInstance().toJsonLine(line);
+    }
+
+    private static ReportLine take(final CompletionService<ReportLine> reportLines)
+        throws InterruptedException {
+        try {
+            return reportLines.take().get();
+        } catch (final ExecutionException e) {
+            // unreachable, each scan reports its own failure as a report line
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static final class ReportLine {
+
+        private final String repositoryName;
+        private final boolean failed;
+        private final Object value;
+
+        private ReportLine(
+            final String repositoryName,
+            final boolean failed,
+            final Object value
+        ) {
+            this.repositoryName = repositoryName;
+            this.failed = failed;
+            this.value = value;
+        }
+    }
+}
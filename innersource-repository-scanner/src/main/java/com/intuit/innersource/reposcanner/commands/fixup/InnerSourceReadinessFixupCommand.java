@@ -11,8 +11,11 @@ import com.intuit.innersource.reposcanner.loggingservice.LoggingService;
 import com.intuit.innersource.reposcanner.loggingservice.console.ConsoleLoggingService;
 import com.intuit.innersource.reposcanner.loggingservice.noop.NoopLoggingService;
 import com.intuit.innersource.reposcanner.repofilepath.InvalidRepositoryFilePathException;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryChangeSet;
 import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import com.intuit.innersource.reposcanner.repofilepath.StagingRepositoryFilePath;
 import com.intuit.innersource.reposcanner.repofilepath.github.GitHubRepositoryPath;
+import com.intuit.innersource.reposcanner.repofilepath.local.LocalRepositoryFilePath;
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification;
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileCheck;
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileRequirement;
@@ -27,6 +30,7 @@ import java.util.function.Function;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.apache.commons.lang3.tuple.Pair;
+import org.immutables.value.Value.Check;
 import org.immutables.value.Value.Default;
 import org.immutables.value.Value.Immutable;
 import org.immutables.value.Value.Style;
@@ -80,6 +84,9 @@ import org.immutables.value.Value.Style.ImplementationVisibility;
 public abstract class InnerSourceReadinessFixupCommand
     implements Callable<List<RepositoryFilePath>> {
 
+    private static final String FIXUP_COMMIT_MESSAGE =
+        "fixing up from InnerSource Readiness Fixup";
+
     /**
      * A builder for overriding the default properties of the {@link InnerSourceReadinessFixupCommand} and customizing
      * it's execution.
@@ -140,6 +147,32 @@ public abstract class InnerSourceReadinessFixupCommand
          */
         public abstract Builder loggingService(LoggingService loggingService);
 
+        /**
+         * Supplies the report the fixes are based on, e.g. the report an {@link InnerSourceReadinessReportCommand}
+         * just generated for the same repository root, so that the repository is not scanned again.
+         * <br><br>
+         * <p>By <em>default</em> the repository is scanned before it is fixed up. The files of a GitHub repository
+         * which were read while generating the {@code report} are not downloaded again when lines are appended to
+         * them.
+         *
+         * @param report a report of the repository according to the specification of this command.
+         * @return {@code this} builder for chaining
+         */
+        public abstract Builder report(InnerSourceReadinessReport report);
+
+        /**
+         * Stages the files created and the lines appended while fixing up the repository in memory, and writes them
+         * all at once after every fix is staged, if the repository root is a {@link StagingRepositoryFilePath}.
+         * <br><br>
+         * <p>A {@link GitHubRepositoryPath} is then fixed up with a single commit instead of a commit for every file
+         * created or modified, and each file of a {@link LocalRepositoryFilePath} is written once and replaced
+         * atomically instead of being appended to once per missing heading.
+         *
+         * @param stageChanges whether to write the fixes at once, defaults to false.
+         * @return {@code this} builder for chaining
+         */
+        public abstract Builder stageChanges(boolean stageChanges);
+
         /**
          * Returns an immutable instance of the {@link InnerSourceReadinessFixupCommand} configured with any of the
          * optional properties specified to {@code this} builder.
@@ -218,6 +251,37 @@ public abstract class InnerSourceReadinessFixupCommand
         return ConsoleLoggingService.INSTANCE;
     }
 
+    /**
+     * Returns the report the fixes are based on, if one was supplied instead of scanning the repository.
+     *
+     * @return the report of the repository to fix up, if one was supplied.
+     */
+    public abstract Optional<InnerSourceReadinessReport> report();
+
+    @Check
+    void checkReport() {
+        if (
+            report().isPresent() &&
+            !report().get().getSpecificationEvaluated().equals(specification())
+        ) {
+            throw new IllegalArgumentException(
+                "report must be a report according to the same specification"
+            );
+        }
+    }
+
+    /**
+     * Returns true if the fixes are staged and written at once, when the repository root supports it.
+     * <br><br>
+     * <p>The <em>default</em> is false, every fix is written as soon as it is made.
+     *
+     * @return whether the fixes are written at once.
+     */
+    @Default
+    public boolean stageChanges() {
+        return false;
+    }
+
     /**
      * Runs this FixupCommand on the specified repository, with the specified {@link InnerSourceReadinessSpecification}
      * and supplied {@link FixupFileTemplates}.
@@ -233,18 +297,27 @@ public abstract class InnerSourceReadinessFixupCommand
         final LoggingService log = loggingService();
         final InnerSourceReadinessSpecification specification = specification();
 
-        final InnerSourceReadinessReport readinessReport = InnerSourceReadinessReportCommand
-            .create(repoRoot)
-            .specification(specification)
-            .loggingService(NoopLoggingService.INSTANCE)
-            .build()
-            .call();
+        final InnerSourceReadinessReport readinessReport = report()
+            .orElseGet(
+                () ->
+                    InnerSourceReadinessReportCommand
+                        .create(repoRoot)
+                        .specification(specification)
+                        .loggingService(NoopLoggingService.INSTANCE)
+                        .build()
+                        .call()
+            );
 
         if (readinessReport.isRepositoryInnerSourceReady()) {
             // all readiness requirements already met, nothing to fixup
             return Lists.newArrayList();
         }
 
+        final Optional<RepositoryChangeSet> changeSet = Optional
+            .of(repoRoot)
+            .filter(root -> stageChanges())
+            .filter(StagingRepositoryFilePath.class::isInstance)
+            .map(root -> ((StagingRepositoryFilePath) root).newChangeSet());
         final Set<RepositoryFilePath> fixedFiles = Sets.newHashSet();
 
         for (final FileRequirement fileRequirement : specification
@@ -290,7 +363,7 @@ public abstract class InnerSourceReadinessFixupCommand
                 .map(ImmutableTriple::getLeft)
                 .orElse(fileRequirement.getRequiredFileOptions().get(0));
 
-            final RepositoryFilePath fileToFixup = highestPrecedenceFileScanned
+            final RepositoryFilePath fileScanned = highestPrecedenceFileScanned
                 .map(ImmutableTriple::getMiddle)
                 .orElse(
                     repoRoot.resolvePath(
@@ -304,6 +377,9 @@ public abstract class InnerSourceReadinessFixupCommand
                         )
                     )
                 );
+            final RepositoryFilePath fileToFixup = changeSet
+                .map(stagedChanges -> stagedChanges.stage(fileScanned))
+                .orElse(fileScanned);
 
             final Function<FileCheck, Boolean> isFileCheckSatisfiedFn = highestPrecedenceFileScanned
                 .map(ImmutableTriple::getRight)
@@ -397,6 +473,8 @@ public abstract class InnerSourceReadinessFixupCommand
                 }
             }
         }
-        return Lists.newArrayList(fixedFiles);
+        return changeSet
+            .map(stagedChanges -> stagedChanges.commit(FIXUP_COMMIT_MESSAGE))
+            .orElseGet(() -> Lists.newArrayList(fixedFiles));
     }
 }
@@ -0,0 +1,217 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.MultimapBuilder;
+import com.google.common.hash.Hashing;
+import com.intuit.innersource.reposcanner.commands.report.ImmutableCompiledOption;
+import com.intuit.innersource.reposcanner.commands.report.ImmutableCompiledSpecification;
+import com.intuit.innersource.reposcanner.commands.report.ImmutableEvaluatorChecks;
+import com.intuit.innersource.reposcanner.evaluators.EvaluationContext;
+import com.intuit.innersource.reposcanner.evaluators.FileCheckEvaluator;
+import com.intuit.innersource.reposcanner.evaluators.FileCheckEvaluators;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileCheck;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileRequirement;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileRequirementOption;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.immutables.value.Value.Immutable;
+import org.immutables.value.Value.Lazy;
+import org.immutables.value.Value.Parameter;
+import org.immutables.value.Value.Style;
+import org.immutables.value.Value.Style.ImplementationVisibility;
+
+/**
+ * An {@link InnerSourceReadinessSpecification} compiled into a flat plan of options to evaluate. Compiling resolves the
+ * evaluator of every check, lets the evaluators {@link FileCheckEvaluator#precompile precompile} their checks, creates
+ * each option's {@link EvaluationContext} and assigns identical checks of different options a shared id, so none of
+ * this is repeated per file or per repository. The {@value #MAXIMUM_COMPILED_SPECIFICATIONS} most recently used
+ * compiled specifications are cached for the life of the process.
+ */
+@Immutable(builder = false)
+@Style(visibility = ImplementationVisibility.PACKAGE)
+abstract class CompiledSpecification {
+
+    private static final int MAXIMUM_COMPILED_SPECIFICATIONS = 16;
+
+    private static final Cache<InnerSourceReadinessSpecification, CompiledSpecification> COMPILED_SPECIFICATIONS = CacheBuilder
+        .newBuilder()
+        .maximumSize(MAXIMUM_COMPILED_SPECIFICATIONS)
+        .build();
+
+    @Parameter
+    abstract InnerSourceReadinessSpecification specification();
+
+    /**
+     * @return the compiled plan of {@code specification}, compiling it on first use.
+     */
+    static CompiledSpecification of(
+        final InnerSourceReadinessSpecification specification
+    ) {
+        return COMPILED_SPECIFICATIONS
+            .asMap()
+            .computeIfAbsent(specification, ImmutableCompiledSpecification::of);
+    }
+
+    /**
+     * @return the sha256 of the specification's json, identifying the specification across processes.
+     */
+    @Lazy
+    String specificationHash() {
+        return Hashing
+            .sha256()
+            .hashString(specification().toJson(), StandardCharsets.UTF_8)
+            .toString();
+    }
+
+    /**
+     * @return every option of every required file, in specification order.
+     */
+    @Lazy
+    List<CompiledOption> options() {
+        final Map<FileCheck, Integer> checkIds = Maps.newHashMap();
+        final List<FileCheck> distinctChecks = Lists.newArrayList();
+        final ImmutableList.Builder<CompiledOption> options = ImmutableList.builder();
+
+        for (final FileRequirement fileRequirement : specification()
+            .repositoryRequirements()
+            .requiredFiles()) {
+            for (final FileRequirementOption option : fileRequirement.getRequiredFileOptions()) {
+                final List<FileCheck> checks = Lists.newArrayList();
+                final List<Integer> optionCheckIds = Lists.newArrayList();
+                final ListMultimap<FileCheckEvaluator, Integer> checkIndexesByEvaluator = MultimapBuilder
+                    .linkedHashKeys()
+                    .arrayListValues()
+                    .build();
+
+                for (final FileCheck check : option.getFileChecks().getChecks()) {
+                    final int checkId = checkIds.computeIfAbsent(
+                        check,
+                        distinctCheck -> {
+                            distinctChecks.add(distinctCheck);
+                            return distinctChecks.size() - 1;
+                        }
+                    );
+                    // evaluate the first instance of identical checks so they share what the evaluator precompiled
+                    final FileCheck distinctCheck = distinctChecks.get(checkId);
+                    final Optional<FileCheckEvaluator> evaluator = FileCheckEvaluators.getEvaluatorFor(
+                        distinctCheck.requirement()
+                    );
+                    checks.add(distinctCheck);
+                    optionCheckIds.add(checkId);
+                    if (evaluator.isPresent()) {
+                        evaluator.get().precompile(distinctCheck);
+                        checkIndexesByEvaluator.put(evaluator.get(), checks.size() - 1);
+                    }
+                }
+
+                options.add(
+                    ImmutableCompiledOption
+                        .builder()
+                        .fileRequirement(fileRequirement)
+                        .option(option)
+                        .context(
+                            EvaluationContext.create(
+                                specification(),
+                                fileRequirement,
+                                option
+                            )
+                        )
+                        .candidateBaseFileName(
+                            option.fileToFind().baseFileName().toLowerCase(Locale.ROOT)
+                        )
+                        .checks(checks)
+                        .checkIds(optionCheckIds)
+                        .addAllEvaluatorChecks(
+                            checkIndexesByEvaluator
+                                .asMap()
+                                .entrySet()
+                                .stream()
+                                .map(
+                                    entry ->
+                                        ImmutableEvaluatorChecks.of(
+                                            entry.getKey(),
+                                            entry.getValue()
+                                        )
+                                )
+                                .collect(Collectors.toList())
+                        )
+                        .build()
+                );
+            }
+        }
+        return options.build();
+    }
+
+    /**
+     * @return the sorted class names of the evaluators of the specification's checks.
+     */
+    @Lazy
+    List<String> evaluatorClassNames() {
+        return options()
+            .stream()
+            .flatMap(option -> option.evaluatorChecks().stream())
+            .map(evaluatorChecks -> evaluatorChecks.evaluator().getClass().getName())
+            .distinct()
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * A {@link FileRequirementOption} ready to be evaluated against each of its candidate files.
+     */
+    @Immutable
+    @Style(visibility = ImplementationVisibility.PACKAGE)
+    abstract static class CompiledOption {
+
+        abstract FileRequirement fileRequirement();
+
+        abstract FileRequirementOption option();
+
+        abstract EvaluationContext context();
+
+        /**
+         * @return the lower cased base filename of the files this option is evaluated against.
+         */
+        abstract String candidateBaseFileName();
+
+        /**
+         * @return the checks of the option in specification order, identical checks are the same instance across
+         * every option of the specification.
+         */
+        abstract List<FileCheck> checks();
+
+        /**
+         * @return the id of each of the {@link #checks()}, shared by identical checks across options.
+         */
+        abstract List<Integer> checkIds();
+
+        /**
+         * @return the indexes into {@link #checks()} grouped by evaluator, checks without an evaluator are absent.
+         */
+        abstract List<EvaluatorChecks> evaluatorChecks();
+    }
+
+    /**
+     * The checks of an option which are evaluated by the same {@link FileCheckEvaluator}.
+     */
+    @Immutable(builder = false)
+    @Style(visibility = ImplementationVisibility.PACKAGE)
+    abstract static class EvaluatorChecks {
+
+        @Parameter
+        abstract FileCheckEvaluator evaluator();
+
+        @Parameter
+        abstract List<Integer> checkIndexes();
+    }
+}
@@ -0,0 +1,92 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.google.common.hash.Hashing;
+import com.intuit.innersource.reposcanner.repofilepath.AtomicFiles;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A {@link ScanResultStore} keeping the result of the last scanned revision of each repository and specification in a
+ * file of a directory. The first line of the file is the revision, the rest the scan result.
+ */
+final class DirectoryScanResultStore implements ScanResultStore {
+
+    private static final String RESULT_FILE_EXTENSION = ".result";
+
+    private final Path directory;
+
+    private DirectoryScanResultStore(final Path directory) {
+        this.directory = directory;
+    }
+
+    static DirectoryScanResultStore create(final Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new DirectoryScanResultStore(directory);
+    }
+
+    @Override
+    public Optional<String> get(final ScanResultKey key) {
+        final String storedResult;
+        try {
+            storedResult =
+                new String(Files.readAllBytes(resultFile(key)), StandardCharsets.UTF_8);
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!key.revision().equals(StringUtils.substringBefore(storedResult, "\n"))) {
+            return Optional.empty();
+        }
+        return Optional.of(StringUtils.substringAfter(storedResult, "\n"));
+    }
+
+    @Override
+    public void put(final ScanResultKey key, final String scanResult) {
+        final Path resultFile = resultFile(key);
+        try {
+            final Path temporaryFile = Files.createTempFile(
+                directory,
+                resultFile.getFileName().toString(),
+                ".tmp"
+            );
+            final byte[] content =
+                (key.revision() + '\n' + scanResult).getBytes(StandardCharsets.UTF_8);
+            // readers see either the previous result or this one, never a partially written file
+            AtomicFiles.replace(
+                resultFile,
+                temporaryFile,
+                file -> Files.write(file, content)
+            );
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path resultFile(final ScanResultKey key) {
+        return directory.resolve(
+            Hashing
+                .sha256()
+                .hashString(
+                    key.repositoryId() + '\n' + key.specificationHash(),
+                    StandardCharsets.UTF_8
+                ) +
+            RESULT_FILE_EXTENSION
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "DirectoryScanResultStore{directory=" + directory + "}";
+    }
+}
@@ -0,0 +1,72 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.google.common.collect.Maps;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * The directories to search of a specification as a trie of their path segments, keyed by lower cased name so that
+ * the directories of a repository can be matched against them case insensitively one segment at a time. The root node
+ * stands for the repository root.
+ */
+final class DirectoryTrie {
+
+    private final String name;
+    private final Map<String, DirectoryTrie> childrenByLowerCaseName = Maps.newLinkedHashMap();
+    private boolean searched;
+
+    private DirectoryTrie(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param directoryPaths the directories to search, relative to the repository root, e.g. {@code /} or {@code
+     * /.github/}.
+     */
+    static DirectoryTrie of(final List<String> directoryPaths) {
+        final DirectoryTrie root = new DirectoryTrie("");
+        for (final String directoryPath : directoryPaths) {
+            DirectoryTrie node = root;
+            for (final String name : StringUtils.split(directoryPath, '/')) {
+                node =
+                    node.childrenByLowerCaseName.computeIfAbsent(
+                        name.toLowerCase(),
+                        key -> new DirectoryTrie(name)
+                    );
+            }
+            node.searched = true;
+        }
+        return root;
+    }
+
+    /**
+     * @return the name of the directory as it was first configured, used to resolve the directory without listing its
+     * parent.
+     */
+    String name() {
+        return name;
+    }
+
+    /**
+     * @return true if the files of this directory are searched, false if it only leads to directories which are.
+     */
+    boolean isSearched() {
+        return searched;
+    }
+
+    Collection<DirectoryTrie> children() {
+        return childrenByLowerCaseName.values();
+    }
+
+    Optional<DirectoryTrie> child(final String name) {
+        return Optional.ofNullable(childrenByLowerCaseName.get(name.toLowerCase()));
+    }
+
+    @Override
+    public String toString() {
+        return name + (searched ? "*" : "") + children();
+    }
+}
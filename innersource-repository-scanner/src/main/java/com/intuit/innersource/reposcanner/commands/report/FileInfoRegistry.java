@@ -0,0 +1,49 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import com.vladsch.flexmark.parser.Parser;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A report scoped registry of {@link MemoizedFileInfo} instances keyed by file path, so that every option and every
+ * directory listing which refers to the same file shares a single memoized instance and the file is read and parsed
+ * at most once per scan.
+ */
+final class FileInfoRegistry {
+
+    private final Parser markdownParser;
+    private final boolean markdownLineScanning;
+    private final ConcurrentMap<String, MemoizedFileInfo> fileInfoByFilePath = new ConcurrentHashMap<>();
+
+    FileInfoRegistry(final Parser markdownParser, final boolean markdownLineScanning) {
+        this.markdownParser = markdownParser;
+        this.markdownLineScanning = markdownLineScanning;
+    }
+
+    /**
+     * @return the parser used to parse the markdown files of this scan.
+     */
+    Parser getMarkdownParser() {
+        return markdownParser;
+    }
+
+    /**
+     * @return true if markdown files should be scanned with the {@link MarkdownLineScanner} before falling back to
+     * the {@link #getMarkdownParser() markdown parser}.
+     */
+    boolean isMarkdownLineScanning() {
+        return markdownLineScanning;
+    }
+
+    /**
+     * @return the {@link MemoizedFileInfo} previously registered for the file path of {@code path}, or a newly
+     * registered one if this is the first lookup of that file path.
+     */
+    MemoizedFileInfo get(final RepositoryFilePath path) {
+        return fileInfoByFilePath.computeIfAbsent(
+            path.toFilePathString(),
+            filePath -> MemoizedFileInfo.of(path, this)
+        );
+    }
+}
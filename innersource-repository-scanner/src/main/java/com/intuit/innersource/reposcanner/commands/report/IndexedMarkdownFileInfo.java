@@ -0,0 +1,70 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.intuit.innersource.reposcanner.commands.report.ImmutableIndexedMarkdownFileInfo;
+import com.intuit.innersource.reposcanner.evaluators.MarkdownFileInfo;
+import java.util.List;
+import org.immutables.value.Value.Immutable;
+import org.immutables.value.Value.Lazy;
+import org.immutables.value.Value.Parameter;
+import org.immutables.value.Value.Style;
+import org.immutables.value.Value.Style.ImplementationVisibility;
+
+/**
+ * Builds the text indexes of the parsed (or scanned) markdown once, so every heading and image check evaluated against
+ * the file shares them.
+ */
+@Immutable(builder = false)
+@Style(visibility = ImplementationVisibility.PACKAGE)
+abstract class IndexedMarkdownFileInfo implements MarkdownFileInfo {
+
+    @Parameter
+    abstract MarkdownFileInfo markdownFileInfo();
+
+    static IndexedMarkdownFileInfo of(final MarkdownFileInfo markdownFileInfo) {
+        return ImmutableIndexedMarkdownFileInfo.of(markdownFileInfo);
+    }
+
+    @Override
+    public List<SectionHeading> getHeadings() {
+        return markdownFileInfo().getHeadings();
+    }
+
+    @Override
+    public List<ImageAltText> getImageAltTexts() {
+        return markdownFileInfo().getImageAltTexts();
+    }
+
+    @Override
+    public List<CommentHint> getCommentHints() {
+        return markdownFileInfo().getCommentHints();
+    }
+
+    @Lazy
+    TextIndex headingTextIndex() {
+        return markdownFileInfo().getHeadingTextIndex(true);
+    }
+
+    @Lazy
+    TextIndex nonEmptySectionHeadingTextIndex() {
+        return markdownFileInfo().getHeadingTextIndex(false);
+    }
+
+    @Override
+    public TextIndex getHeadingTextIndex(final boolean includeEmptySections) {
+        return includeEmptySections
+            ? headingTextIndex()
+            : nonEmptySectionHeadingTextIndex();
+    }
+
+    @Override
+    @Lazy
+    public TextIndex getImageAltTextIndex() {
+        return markdownFileInfo().getImageAltTextIndex();
+    }
+
+    @Override
+    @Lazy
+    public TextIndex getCommentHintTextIndex() {
+        return markdownFileInfo().getCommentHintTextIndex();
+    }
+}
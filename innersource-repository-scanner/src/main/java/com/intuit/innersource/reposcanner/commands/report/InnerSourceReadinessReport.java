@@ -1,6 +1,8 @@
 package com.intuit.innersource.reposcanner.commands.report;
 
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Multimaps;
 import com.intuit.innersource.reposcanner.jsonservice.JsonService;
 import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification;
@@ -11,11 +13,14 @@ import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpec
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileRequirementOption;
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileToFind;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.immutables.gson.Gson;
 import org.immutables.value.Value.Derived;
 import org.immutables.value.Value.Immutable;
+import org.immutables.value.Value.Lazy;
 import org.immutables.value.Value.Style;
 import org.immutables.value.Value.Style.BuilderVisibility;
 import org.immutables.value.Value.Style.ImplementationVisibility;
@@ -259,10 +264,24 @@ public abstract class InnerSourceReadinessReport {
         public Optional<FileChecksReport> getFileChecksReportFor(
             final RepositoryFilePath evaluatedFilePath
         ) {
+            return Optional.ofNullable(fileChecksReportsByFile().get(evaluatedFilePath));
+        }
+
+        /**
+         * @return the {@link #getFileChecksReports()} keyed by the file they evaluated, keeping the first report of a
+         * file evaluated more than once.
+         */
+        @Lazy
+        Map<RepositoryFilePath, FileChecksReport> fileChecksReportsByFile() {
             return getFileChecksReports()
                 .stream()
-                .filter(report -> report.getFileEvaluated().equals(evaluatedFilePath))
-                .findFirst();
+                .collect(
+                    Collectors.toMap(
+                        FileChecksReport::getFileEvaluated,
+                        Function.identity(),
+                        (first, second) -> first
+                    )
+                );
         }
     }
 
@@ -313,9 +332,9 @@ public abstract class InnerSourceReadinessReport {
      * @return true if the requirement was satisfied for the scanned git repository, false otherwise.
      */
     public boolean isFileRequirementSatisfied(final FileRequirement requirement) {
-        return getFileRequirementReports()
+        return fileRequirementReportsByRequirement()
+            .get(requirement)
             .stream()
-            .filter(report -> report.getFileRequirementEvaluated().equals(requirement))
             .anyMatch(FileRequirementReport::isFileRequirementSatisfied);
     }
 
@@ -333,10 +352,7 @@ public abstract class InnerSourceReadinessReport {
     public boolean isFileRequirementSatisfied(
         final FileRequirementOption requirementOption
     ) {
-        return getFileRequirementReports()
-            .stream()
-            .filter(report -> report.getOptionEvaluated().equals(requirementOption))
-            .findFirst()
+        return getFileRequirementReportFor(requirementOption)
             .map(FileRequirementReport::isFileRequirementSatisfied)
             .orElse(false);
     }
@@ -358,10 +374,9 @@ public abstract class InnerSourceReadinessReport {
     public Optional<FileRequirementReport> getOnlyFileRequirementReportFor(
         final FileRequirement requirement
     ) {
-        final List<FileRequirementReport> reports = getFileRequirementReports()
-            .stream()
-            .filter(report -> report.getFileRequirementEvaluated().equals(requirement))
-            .collect(Collectors.toList());
+        final List<FileRequirementReport> reports = getFileRequirementReportsFor(
+            requirement
+        );
         return reports.isEmpty()
             ? Optional.empty()
             : Optional.of(Iterables.getOnlyElement(reports));
@@ -377,10 +392,7 @@ public abstract class InnerSourceReadinessReport {
     public List<FileRequirementReport> getFileRequirementReportsFor(
         final FileRequirement requirement
     ) {
-        return getFileRequirementReports()
-            .stream()
-            .filter(report -> report.getFileRequirementEvaluated().equals(requirement))
-            .collect(Collectors.toList());
+        return fileRequirementReportsByRequirement().get(requirement);
     }
 
     /**
@@ -394,10 +406,37 @@ public abstract class InnerSourceReadinessReport {
     public Optional<FileRequirementReport> getFileRequirementReportFor(
         final FileRequirementOption requirementOption
     ) {
+        return Optional.ofNullable(
+            fileRequirementReportsByOption().get(requirementOption)
+        );
+    }
+
+    /**
+     * @return the {@link #getFileRequirementReports()} grouped by the requirement they evaluated, in report order.
+     */
+    @Lazy
+    ImmutableListMultimap<FileRequirement, FileRequirementReport> fileRequirementReportsByRequirement() {
+        return Multimaps.index(
+            getFileRequirementReports(),
+            FileRequirementReport::getFileRequirementEvaluated
+        );
+    }
+
+    /**
+     * @return the {@link #getFileRequirementReports()} keyed by the option they evaluated, keeping the first report of
+     * an option evaluated more than once.
+     */
+    @Lazy
+    Map<FileRequirementOption, FileRequirementReport> fileRequirementReportsByOption() {
         return getFileRequirementReports()
             .stream()
-            .filter(report -> report.getOptionEvaluated().equals(requirementOption))
-            .findFirst();
+            .collect(
+                Collectors.toMap(
+                    FileRequirementReport::getOptionEvaluated,
+                    Function.identity(),
+                    (first, second) -> first
+                )
+            );
     }
 
     /**
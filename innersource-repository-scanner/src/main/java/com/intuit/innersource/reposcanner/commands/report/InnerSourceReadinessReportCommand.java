@@ -1,40 +1,66 @@
 package com.intuit.innersource.reposcanner.commands.report;
 
+import com.google.common.base.Joiner;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
-import com.google.common.graph.SuccessorsFunction;
-import com.google.common.graph.Traverser;
+import com.google.common.collect.MultimapBuilder;
+import com.google.common.collect.Multimaps;
+import com.google.common.collect.Sets;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.intuit.innersource.reposcanner.cli.BuildInfoService;
+import com.intuit.innersource.reposcanner.commands.report.CompiledSpecification.CompiledOption;
+import com.intuit.innersource.reposcanner.commands.report.CompiledSpecification.EvaluatorChecks;
 import com.intuit.innersource.reposcanner.commands.report.ImmutableFileCheckReport;
 import com.intuit.innersource.reposcanner.commands.report.ImmutableFileChecksReport;
 import com.intuit.innersource.reposcanner.commands.report.ImmutableFileRequirementReport;
 import com.intuit.innersource.reposcanner.commands.report.ImmutableInnerSourceReadinessReport;
 import com.intuit.innersource.reposcanner.commands.report.ImmutableInnerSourceReadinessReportCommand;
 import com.intuit.innersource.reposcanner.commands.report.InnerSourceReadinessReport.FileCheckReport;
-import com.intuit.innersource.reposcanner.evaluators.EvaluationContext;
-import com.intuit.innersource.reposcanner.evaluators.FileCheckEvaluators;
+import com.intuit.innersource.reposcanner.commands.report.InnerSourceReadinessReport.FileChecksReport;
+import com.intuit.innersource.reposcanner.evaluators.FileCheckEvaluator;
 import com.intuit.innersource.reposcanner.loggingservice.LoggingService;
 import com.intuit.innersource.reposcanner.loggingservice.console.ConsoleLoggingService;
 import com.intuit.innersource.reposcanner.repofilepath.InvalidRepositoryFilePathException;
 import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import com.intuit.innersource.reposcanner.repofilepath.RevisionedRepositoryFilePath;
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification;
-import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileChecks;
-import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileRequirement;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileCheck;
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileRequirementOption;
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.RepositoryRequirements;
+import com.vladsch.flexmark.util.misc.Extension;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.stream.Stream;
+import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.immutables.value.Value.Check;
 import org.immutables.value.Value.Default;
 import org.immutables.value.Value.Immutable;
 import org.immutables.value.Value.Style;
 import org.immutables.value.Value.Style.BuilderVisibility;
 import org.immutables.value.Value.Style.ImplementationVisibility;
+import org.kohsuke.github.GHFileNotFoundException;
 
 /**
  * A scan command which scans an {@link RepositoryFilePath} representing a checked out GitHub-based git repository root
@@ -67,6 +93,80 @@ public abstract class InnerSourceReadinessReportCommand
             InnerSourceReadinessSpecification specification
         );
 
+        /**
+         * Supplies the {@link Executor} on which file checks are evaluated, overriding {@link
+         * #parallelism(int)}. Reports are assembled in specification order regardless of the order in which
+         * the evaluations complete.
+         *
+         * @param executor the executor to evaluate file checks on.
+         * @return {@code this} builder for chaining
+         */
+        public abstract Builder executor(Executor executor);
+
+        /**
+         * Overrides the default parallelism of 1 (evaluate on the calling thread). Ignored if an {@link
+         * #executor(Executor)} is supplied.
+         *
+         * @param parallelism the number of threads to evaluate file checks with.
+         * @return {@code this} builder for chaining
+         */
+        public abstract Builder parallelism(int parallelism);
+
+        /**
+         * Enables flexmark parser extensions when parsing markdown files, none are enabled by default. Parsers are
+         * shared across commands by the set of extension types enabled.
+         *
+         * @param markdownExtensions the flexmark extensions to parse markdown files with.
+         * @return {@code this} builder for chaining
+         */
+        public abstract Builder markdownExtensions(
+            Iterable<? extends Extension> markdownExtensions
+        );
+
+        /**
+         * Extracts headings, image alt texts and comment hints from markdown files in a single pass over their lines
+         * instead of building a flexmark AST, falling back to flexmark for any file containing constructs the line
+         * scanner cannot interpret exactly like flexmark. Disabled by default, and ignored when {@link
+         * #markdownExtensions(Iterable)} are enabled.
+         *
+         * @param markdownLineScanning whether to scan markdown files line by line.
+         * @return {@code this} builder for chaining
+         */
+        public abstract Builder markdownLineScanning(boolean markdownLineScanning);
+
+        /**
+         * Returns the report of the current revision of the repository rebuilt from the store instead of scanning
+         * it, if the repository root is a {@link RevisionedRepositoryFilePath} whose revision is known and the result
+         * of a scan of that revision according to the same specification was stored. Otherwise the repository is
+         * scanned and the result of the scan stored.
+         *
+         * @param scanResultStore the store of the reports of previous scans.
+         * @return {@code this} builder for chaining
+         */
+        public abstract Builder scanResultStore(ScanResultStore scanResultStore);
+
+        /**
+         * Brings {@code previousReport}, a report of an earlier revision of the repository according to the same
+         * specification, up to date instead of scanning the whole repository. Only the {@link
+         * #changedFilePaths(Iterable) changed files} which are candidates of a file requirement option, and the
+         * candidate directories containing changed files, are evaluated, the reports on every other file are reused
+         * from {@code previousReport}, and the directories to search are not listed.
+         *
+         * @param previousReport the report of an earlier revision of the repository.
+         * @return {@code this} builder for chaining
+         * @see RevisionedRepositoryFilePath#getFilePathsChangedSince(String)
+         */
+        public abstract Builder previousReport(InnerSourceReadinessReport previousReport);
+
+        /**
+         * Supplies the paths of the files added, modified, deleted or renamed since the {@link
+         * #previousReport(InnerSourceReadinessReport) previous report}, relative to the repository root.
+         *
+         * @param changedFilePaths the paths of the files changed since the previous report.
+         * @return {@code this} builder for chaining
+         */
+        public abstract Builder changedFilePaths(Iterable<String> changedFilePaths);
+
         public abstract InnerSourceReadinessReportCommand build();
     }
 
@@ -84,6 +184,94 @@ public abstract class InnerSourceReadinessReportCommand
         return ConsoleLoggingService.INSTANCE;
     }
 
+    /**
+     * Returns the {@link Executor} on which the file checks of each candidate file are evaluated. When present the
+     * executor is used as is and its lifecycle is left to the caller, otherwise see {@link #parallelism()}.
+     *
+     * @return the executor to evaluate file checks on, if one was supplied.
+     */
+    public abstract Optional<Executor> executor();
+
+    /**
+     * Returns the number of threads used to evaluate file checks when no {@link #executor()} was supplied. The
+     * <em>default</em> parallelism is 1, meaning all file checks are evaluated on the calling thread. When greater
+     * than 1, a pool of that many threads (virtual threads when the running JVM supports them) is created for the
+     * duration of {@link #call()}.
+     *
+     * @return the number of threads to evaluate file checks with.
+     */
+    @Default
+    public int parallelism() {
+        return 1;
+    }
+
+    /**
+     * Returns the flexmark extensions enabled when parsing markdown files.
+     *
+     * @return the flexmark extensions to parse markdown files with.
+     */
+    public abstract List<Extension> markdownExtensions();
+
+    /**
+     * Returns whether markdown files are scanned line by line rather than parsed into a flexmark AST, the
+     * <em>default</em> is false.
+     *
+     * @return true if markdown files are scanned line by line when possible.
+     */
+    @Default
+    public boolean markdownLineScanning() {
+        return false;
+    }
+
+    /**
+     * Returns the store of the reports of previous scans, consulted before scanning a {@link
+     * RevisionedRepositoryFilePath}.
+     *
+     * @return the store of the reports of previous scans, if one was supplied.
+     */
+    public abstract Optional<ScanResultStore> scanResultStore();
+
+    /**
+     * Returns the report of an earlier revision of the repository which is brought up to date by evaluating the {@link
+     * #changedFilePaths()} only.
+     *
+     * @return the report of an earlier revision of the repository, if one was supplied.
+     */
+    public abstract Optional<InnerSourceReadinessReport> previousReport();
+
+    /**
+     * Returns the paths of the files changed since the {@link #previousReport()}, relative to the repository root.
+     *
+     * @return the paths of the files changed since the previous report.
+     */
+    public abstract Set<String> changedFilePaths();
+
+    @Check
+    void checkPreviousReport() {
+        if (!previousReport().isPresent()) {
+            if (!changedFilePaths().isEmpty()) {
+                throw new IllegalArgumentException(
+                    "changedFilePaths require the previousReport they changed since"
+                );
+            }
+        } else if (
+            !previousReport().get().getSpecificationEvaluated().equals(specification())
+        ) {
+            throw new IllegalArgumentException(
+                "previousReport must be a report according to the same specification"
+            );
+        }
+    }
+
+    @Check
+    void checkParallelism() {
+        if (parallelism() < 1) {
+            throw new IllegalArgumentException(
+                "parallelism must be at least 1, was " + parallelism()
+            );
+        }
+    }
+
     /**
      * Static factory method for creating new instances of {@code InnerSourceReadinessReportCommand}.
      *
@@ -104,238 +292,667 @@ public abstract class InnerSourceReadinessReportCommand
 
     @Override
     public InnerSourceReadinessReport call() {
+        final Optional<ScanResultKey> scanResultKey = scanResultKey();
+        if (scanResultKey.isPresent()) {
+            final List<CompiledOption> options = CompiledSpecification
+                .of(specification())
+                .options();
+            final Optional<List<List<FileChecksReport>>> storedFileChecksReports = scanResultStore()
+                .get()
+                .get(scanResultKey.get())
+                .flatMap(
+                    scanResult -> StoredScanResults.read(scanResult, options, repoRoot())
+                );
+            if (storedFileChecksReports.isPresent()) {
+                return assembleReport(
+                    specification(),
+                    options,
+                    storedFileChecksReports.get()
+                );
+            }
+        }
+
+        final InnerSourceReadinessReport report = generateReport();
+        scanResultKey.ifPresent(
+            key -> scanResultStore().get().put(key, StoredScanResults.write(report))
+        );
+        return report;
+    }
+
+    private InnerSourceReadinessReport generateReport() {
+        if (executor().isPresent() || (parallelism() == 1)) {
+            return generateReport(executor().orElse(MoreExecutors.directExecutor()));
+        }
+        final ExecutorService scanExecutor = ScanExecutors.newBoundedExecutor(
+            parallelism()
+        );
+        try {
+            return generateReport(scanExecutor);
+        } finally {
+            scanExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the key of this scan's report in the {@link #scanResultStore()}, if there is a store and the revision of
+     * the repository is known.
+     */
+    private Optional<ScanResultKey> scanResultKey() {
+        if (
+            !scanResultStore().isPresent() ||
+            !(repoRoot() instanceof RevisionedRepositoryFilePath)
+        ) {
+            return Optional.empty();
+        }
+        final RevisionedRepositoryFilePath revisionedRepoRoot = (RevisionedRepositoryFilePath) repoRoot();
+        final CompiledSpecification compiledSpecification = CompiledSpecification.of(
+            specification()
+        );
+        final BuildInfoService buildInfo = BuildInfoService.getInstance();
+        // a report stored by another version of the scanner, or evaluated by other evaluators, may differ
+        final String scanHash = Hashing
+            .sha256()
+            .hashString(
+                Joiner
+                    .on('\n')
+                    .useForNull("")
+                    .join(
+                        compiledSpecification.specificationHash(),
+                        buildInfo.getProperty("application.version"),
+                        buildInfo.getProperty("application.build.commit"),
+                        String.join(",", compiledSpecification.evaluatorClassNames()),
+                        markdownExtensions()
+                            .stream()
+                            .map(extension -> extension.getClass().getName())
+                            .sorted()
+                            .collect(Collectors.joining(","))
+                    ),
+                StandardCharsets.UTF_8
+            )
+            .toString();
+        return revisionedRepoRoot
+            .getRevision()
+            .map(
+                revision ->
+                    ScanResultKey.of(
+                        revisionedRepoRoot.getRepositoryId(),
+                        revision,
+                        scanHash
+                    )
+            );
+    }
+
+    private InnerSourceReadinessReport generateReport(final Executor scanExecutor) {
         final LoggingService log = loggingService();
         final InnerSourceReadinessSpecification specification = specification();
         final RepositoryRequirements repositoryRequirements = specification.repositoryRequirements();
 
-        final List<RepositoryFilePath> allFiles = findFilesIn(
-            repositoryRequirements.directoriesToSearch().directoryPaths()
+        final FileInfoRegistry fileInfoRegistry = new FileInfoRegistry(
+            MarkdownParsers.get(markdownExtensions()),
+            markdownLineScanning() && markdownExtensions().isEmpty()
         );
 
-        final List<InnerSourceReadinessReport.FileRequirementReport> fileRequirementReports = Lists.newArrayList();
+        final List<CompiledOption> options = CompiledSpecification
+            .of(specification)
+            .options();
+
+        // fan out the evaluation of every candidate file of every option, then assemble the
+        // reports in specification order so the result does not depend on task completion order
+        final List<List<CompletableFuture<FileChecksReport>>> pendingFileChecksReports;
+        if (previousReport().isPresent()) {
+            pendingFileChecksReports =
+                reevaluateChangedFiles(
+                    previousReport().get(),
+                    options,
+                    fileInfoRegistry,
+                    scanExecutor
+                );
+        } else {
+            final List<RepositoryFilePath> allFiles = findFilesIn(
+                repositoryRequirements.directoriesToSearch().directoryPaths(),
+                scanExecutor
+            );
 
-        for (final FileRequirement fileRequirement : repositoryRequirements.requiredFiles()) {
-            for (final FileRequirementOption option : fileRequirement.getRequiredFileOptions()) {
-                final List<RepositoryFilePath> filesMatchingBaseFileName = allFiles
+            final ListMultimap<String, RepositoryFilePath> filesByBaseFileName = indexByBaseFileName(
+                allFiles
+            );
+
+            pendingFileChecksReports =
+                options
                     .stream()
-                    .filter(
-                        file ->
-                            StringUtils.equalsIgnoreCase(
-                                file.getFileNameWithoutExtension(),
-                                option.fileToFind().baseFileName()
-                            )
+                    .map(
+                        option ->
+                            filesByBaseFileName
+                                .get(option.candidateBaseFileName())
+                                .stream()
+                                .map(
+                                    file ->
+                                        CompletableFuture.supplyAsync(
+                                            () ->
+                                                evaluateFileChecks(
+                                                    fileInfoRegistry.get(file),
+                                                    option
+                                                ),
+                                            scanExecutor
+                                        )
+                                )
+                                .collect(Collectors.toList())
                     )
-                    .sorted(
-                        Comparator.comparing(
-                            RepositoryFilePath::toFilePathString,
-                            GitHubFilePathPrecedenceComparator.INSTANCE
+                    .collect(Collectors.toList());
+        }
+
+        final List<List<FileChecksReport>> fileChecksReports = pendingFileChecksReports
+            .stream()
+            .map(
+                pendingReports ->
+                    pendingReports
+                        .stream()
+                        .map(InnerSourceReadinessReportCommand::join)
+                        .collect(Collectors.toList())
+            )
+            .collect(Collectors.toList());
+
+        return assembleReport(specification, options, fileChecksReports);
+    }
+
+    /**
+     * Fans out the evaluation of the candidate files of every option which are, or are directories containing, one of
+     * the {@link #changedFilePaths()} and still exist, and reuses the reports of {@code previousReport} on the candidate
+     * files which did not change. The files of each option are kept in {@link GitHubFilePathPrecedenceComparator}
+     * order, as if the repository had been scanned.
+     */
+    private List<List<CompletableFuture<FileChecksReport>>> reevaluateChangedFiles(
+        final InnerSourceReadinessReport previousReport,
+        final List<CompiledOption> options,
+        final FileInfoRegistry fileInfoRegistry,
+        final Executor scanExecutor
+    ) {
+        final Set<String> changedFilePaths = changedFilePaths()
+            .stream()
+            .map(changedFilePath -> StringUtils.prependIfMissing(changedFilePath, "/"))
+            .collect(Collectors.toSet());
+
+        final Set<String> normalizedDirectoriesToSearch = specification()
+            .repositoryRequirements()
+            .directoriesToSearch()
+            .directoryPaths()
+            .stream()
+            .map(this::lowerCaseNormalizeFilePath)
+            .collect(Collectors.toSet());
+
+        final Set<String> candidateBaseFileNames = options
+            .stream()
+            .map(CompiledOption::candidateBaseFileName)
+            .collect(Collectors.toSet());
+
+        // a changed file changes the candidate it is, or the candidate directories it is in, e.g. a file in
+        // /.github/ISSUE_TEMPLATE; only the candidates which would have been found by scanning are resolved
+        final Set<String> changedCandidatePaths = Sets.newHashSet();
+        for (final String changedFilePath : changedFilePaths) {
+            for (
+                String path = changedFilePath;
+                !path.isEmpty();
+                path = StringUtils.substringBeforeLast(path, "/")
+            ) {
+                if (
+                    candidateBaseFileNames.contains(
+                        FilenameUtils.getBaseName(path).toLowerCase(Locale.ROOT)
+                    ) &&
+                    normalizedDirectoriesToSearch.contains(
+                        lowerCaseNormalizeFilePath(
+                            StringUtils.substringBeforeLast(path, "/")
                         )
+                    ) &&
+                    !normalizedDirectoriesToSearch.contains(
+                        lowerCaseNormalizeFilePath(path)
                     )
-                    .collect(Collectors.toList());
+                ) {
+                    changedCandidatePaths.add(path);
+                }
+            }
+        }
 
-                final Map<RepositoryFilePath, InnerSourceReadinessReport.FileChecksReport> fileChecksReports = filesMatchingBaseFileName
-                    .stream()
-                    .collect(
-                        Collectors.toMap(
-                            Function.identity(),
-                            file -> {
-                                final FileChecks fileChecks = option.getFileChecks();
-                                final MemoizedFileInfo fileInfo = MemoizedFileInfo.of(
-                                    file
-                                );
-                                return ImmutableFileChecksReport
-                                    .builder()
-                                    .fileEvaluated(file)
-                                    .fileChecksEvaluated(fileChecks)
-                                    .fileCheckReports(
-                                        fileChecks
-                                            .getChecks()
-                                            .stream()
-                                            .map(
-                                                req ->
-                                                    Maps.immutableEntry(
-                                                        req,
-                                                        FileCheckEvaluators.getEvaluatorFor(
-                                                            req.requirement()
-                                                        )
-                                                    )
-                                            )
-                                            .filter(tuple -> tuple.getValue().isPresent())
-                                            .map(
-                                                tuple ->
-                                                    (FileCheckReport) ImmutableFileCheckReport
-                                                        .builder()
-                                                        .fileCheckEvaluated(
-                                                            tuple.getKey()
-                                                        )
-                                                        .isFileCheckSatisfied(
-                                                            tuple
-                                                                .getValue()
-                                                                .get()
-                                                                .evaluate(
-                                                                    fileInfo,
-                                                                    tuple.getKey(),
-                                                                    EvaluationContext.create(
-                                                                        specification,
-                                                                        fileRequirement,
-                                                                        option
-                                                                    )
-                                                                )
-                                                        )
-                                                        .build()
-                                            )
-                                            .collect(Collectors.toList())
-                                    )
-                                    .build();
-                            }
+        // a candidate which no longer exists is dropped, one which is new is found
+        final ListMultimap<String, RepositoryFilePath> changedFilesByBaseFileName = indexByBaseFileName(
+            changedCandidatePaths
+                .stream()
+                .map(path -> repoRoot().resolvePath(path.substring(1)))
+                .filter(RepositoryFilePath::exists)
+                .collect(Collectors.toList())
+        );
+
+        final List<List<CompletableFuture<FileChecksReport>>> pendingFileChecksReports = Lists.newArrayList();
+        for (int i = 0; i < options.size(); i++) {
+            final CompiledOption option = options.get(i);
+            final Map<String, FileChecksReport> unchangedFileChecksReports = previousReport
+                .getFileRequirementReports()
+                .get(i)
+                .getFileChecksReports()
+                .stream()
+                .filter(
+                    fileChecksReport ->
+                        !changedCandidatePaths.contains(
+                            StringUtils.prependIfMissing(
+                                StringUtils.removeStart(
+                                    fileChecksReport
+                                        .getFileEvaluated()
+                                        .toFilePathString(),
+                                    repoRoot().toFilePathString()
+                                ),
+                                "/"
+                            )
                         )
-                    );
+                )
+                .collect(
+                    Collectors.toMap(
+                        fileChecksReport ->
+                            fileChecksReport.getFileEvaluated().toFilePathString(),
+                        Function.identity(),
+                        (first, second) -> first
+                    )
+                );
 
-                final List<RepositoryFilePath> filesSatisfyingFileChecks = fileChecksReports
-                    .entrySet()
-                    .stream()
-                    .filter(entry -> entry.getValue().isFileChecksSatisfied())
-                    .map(Map.Entry::getKey)
+            pendingFileChecksReports.add(
+                Stream
+                    .concat(
+                        unchangedFileChecksReports
+                            .values()
+                            .stream()
+                            .map(FileChecksReport::getFileEvaluated),
+                        changedFilesByBaseFileName
+                            .get(option.candidateBaseFileName())
+                            .stream()
+                    )
                     .sorted(
                         Comparator.comparing(
                             RepositoryFilePath::toFilePathString,
                             GitHubFilePathPrecedenceComparator.INSTANCE
                         )
                     )
-                    .collect(Collectors.toList());
+                    .map(
+                        file ->
+                            unchangedFileChecksReports.containsKey(
+                                    file.toFilePathString()
+                                )
+                                ? CompletableFuture.completedFuture(
+                                    unchangedFileChecksReports.get(
+                                        file.toFilePathString()
+                                    )
+                                )
+                                : CompletableFuture.supplyAsync(
+                                    () ->
+                                        evaluateFileChecks(
+                                            fileInfoRegistry.get(file),
+                                            option
+                                        ),
+                                    scanExecutor
+                                )
+                    )
+                    .collect(Collectors.toList())
+            );
+        }
+
+        return pendingFileChecksReports;
+    }
+
+    /**
+     * Assembles the report of {@code specification} from the reports on the candidate files of each of its {@code
+     * options}, in specification order.
+     */
+    static InnerSourceReadinessReport assembleReport(
+        final InnerSourceReadinessSpecification specification,
+        final List<CompiledOption> options,
+        final List<List<FileChecksReport>> fileChecksReportsByOption
+    ) {
+        final List<InnerSourceReadinessReport.FileRequirementReport> fileRequirementReports = Lists.newArrayList();
+
+        for (int i = 0; i < options.size(); i++) {
+            final CompiledOption option = options.get(i);
+            final List<FileChecksReport> fileChecksReports = fileChecksReportsByOption.get(
+                i
+            );
+
+            fileRequirementReports.add(
+                ImmutableFileRequirementReport
+                    .builder()
+                    .fileRequirementEvaluated(option.fileRequirement())
+                    .optionEvaluated(option.option())
+                    .filesEvaluated(
+                        fileChecksReports
+                            .stream()
+                            .map(FileChecksReport::getFileEvaluated)
+                            .collect(Collectors.toList())
+                    )
+                    .filesSatisfyingFileChecks(
+                        fileChecksReports
+                            .stream()
+                            .filter(FileChecksReport::isFileChecksSatisfied)
+                            .map(FileChecksReport::getFileEvaluated)
+                            .collect(Collectors.toList())
+                    )
+                    .fileChecksReports(fileChecksReports)
+                    .build()
+            );
+        }
 
-                fileRequirementReports.add(
-                    ImmutableFileRequirementReport
+        return ImmutableInnerSourceReadinessReport
+            .builder()
+            .specificationEvaluated(specification)
+            .fileRequirementReports(fileRequirementReports)
+            .build();
+    }
+
+    /**
+     * Evaluates the checks of {@code option} against {@code fileInfo}. Checks sharing an evaluator are evaluated
+     * together through {@link FileCheckEvaluator#evaluateAll}, so e.g. several line matching checks need a single pass
+     * over the file, and the results of context free checks are reused from identical checks of other options. The
+     * reports are kept in the order the checks are specified in, checks without an evaluator are skipped.
+     */
+    private static FileChecksReport evaluateFileChecks(
+        final MemoizedFileInfo fileInfo,
+        final CompiledOption option
+    ) {
+        final List<FileCheck> checks = option.checks();
+        final Map<Integer, Boolean> contextFreeCheckResults = fileInfo.contextFreeCheckResults();
+        final Boolean[] checksSatisfied = new Boolean[checks.size()];
+
+        for (final EvaluatorChecks evaluatorChecks : option.evaluatorChecks()) {
+            final FileCheckEvaluator evaluator = evaluatorChecks.evaluator();
+            final boolean contextSensitive = evaluator.isContextSensitive();
+            final List<Integer> checkIndexes = Lists.newArrayList();
+            for (final int checkIndex : evaluatorChecks.checkIndexes()) {
+                checksSatisfied[checkIndex] =
+                    contextSensitive
+                        ? null
+                        : contextFreeCheckResults.get(option.checkIds().get(checkIndex));
+                if (checksSatisfied[checkIndex] == null) {
+                    checkIndexes.add(checkIndex);
+                }
+            }
+            if (checkIndexes.isEmpty()) {
+                continue;
+            }
+
+            final List<Boolean> satisfied = checkIndexes.size() == 1
+                ? Collections.singletonList(
+                    evaluator.evaluate(
+                        fileInfo,
+                        checks.get(checkIndexes.get(0)),
+                        option.context()
+                    )
+                )
+                : evaluator.evaluateAll(
+                    fileInfo,
+                    checkIndexes.stream().map(checks::get).collect(Collectors.toList()),
+                    option.context()
+                );
+            for (int i = 0; i < checkIndexes.size(); i++) {
+                final int checkIndex = checkIndexes.get(i);
+                checksSatisfied[checkIndex] = satisfied.get(i);
+                if (!contextSensitive) {
+                    contextFreeCheckResults.put(
+                        option.checkIds().get(checkIndex),
+                        satisfied.get(i)
+                    );
+                }
+            }
+        }
+
+        return toFileChecksReport(fileInfo.path(), option, checksSatisfied);
+    }
+
+    /**
+     * @param checksSatisfied whether each of the checks of {@code option} was satisfied by {@code file}, null for the
+     * checks which were not evaluated because they have no evaluator.
+     */
+    static FileChecksReport toFileChecksReport(
+        final RepositoryFilePath file,
+        final CompiledOption option,
+        final Boolean[] checksSatisfied
+    ) {
+        final List<FileCheck> checks = option.checks();
+        final List<FileCheckReport> fileCheckReports = Lists.newArrayList();
+        for (int i = 0; i < checks.size(); i++) {
+            if (checksSatisfied[i] != null) {
+                fileCheckReports.add(
+                    ImmutableFileCheckReport
                         .builder()
-                        .fileRequirementEvaluated(fileRequirement)
-                        .optionEvaluated(option)
-                        .filesEvaluated(filesMatchingBaseFileName)
-                        .filesSatisfyingFileChecks(filesSatisfyingFileChecks)
-                        .fileChecksReports(fileChecksReports.values())
+                        .fileCheckEvaluated(checks.get(i))
+                        .isFileCheckSatisfied(checksSatisfied[i])
                         .build()
                 );
             }
         }
 
-        return ImmutableInnerSourceReadinessReport
+        return ImmutableFileChecksReport
             .builder()
-            .specificationEvaluated(specification)
-            .fileRequirementReports(fileRequirementReports)
+            .fileEvaluated(file)
+            .fileChecksEvaluated(option.option().getFileChecks())
+            .fileCheckReports(fileCheckReports)
             .build();
     }
 
-    @SuppressWarnings("UnstableApiUsage")
-    private List<RepositoryFilePath> findFilesIn(final List<String> directoriesToSearch) {
-        final RepositoryFilePath repoRoot = repoRoot();
+    private static <T> T join(final CompletableFuture<T> pendingResult) {
+        try {
+            return pendingResult.join();
+        } catch (final CompletionException e) {
+            // rethrow the original failure, e.g. an UncheckedIOException raised while reading a file
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
 
-        final Set<String> normalizedDirectoriesToSearch = directoriesToSearch
+    /**
+     * Indexes {@code files} by their lower cased base filename so each {@link FileRequirementOption} can look up its
+     * candidate files without re-scanning every file found in the directories to search. The files for each base
+     * filename are kept in {@link GitHubFilePathPrecedenceComparator} order.
+     */
+    private static ListMultimap<String, RepositoryFilePath> indexByBaseFileName(
+        final List<RepositoryFilePath> files
+    ) {
+        return files
             .stream()
-            .map(
-                dirToSearch ->
-                    StringUtils.replaceOnce(
-                        dirToSearch,
-                        "/",
-                        StringUtils.appendIfMissing(repoRoot().toFilePathString(), "/")
-                    )
+            .sorted(
+                Comparator.comparing(
+                    RepositoryFilePath::toFilePathString,
+                    GitHubFilePathPrecedenceComparator.INSTANCE
+                )
             )
-            .map(this::lowerCaseNormalizeFilePath)
-            .collect(Collectors.toSet());
+            .collect(
+                Multimaps.toMultimap(
+                    file -> file.getFileNameWithoutExtension().toLowerCase(Locale.ROOT),
+                    Function.identity(),
+                    MultimapBuilder.hashKeys().arrayListValues()::build
+                )
+            );
+    }
 
-        return StreamSupport
-            .stream(
-                Traverser
-                    .forTree(
-                        (SuccessorsFunction<RepositoryFilePath>) currentDirectory -> {
-                            if (!currentDirectory.isDirectory()) {
-                                // encountered a file, halting traversal
-                                return Lists.newArrayList();
-                            }
-
-                            final String normalizedCurrentDirectory = lowerCaseNormalizeFilePath(
-                                currentDirectory
-                            );
+    /**
+     * Finds the files in the directories to search. A directory whose files are searched is listed, and the
+     * directories below it leading to further directories to search are matched against its listing case
+     * insensitively. Any other directory on the way to a directory to search is not listed but jumped over by
+     * {@link RepositoryFilePath#resolvePath resolving} the directories below it by their configured names, falling
+     * back to matching them against its listing if they are not found by those names, e.g. because they are named
+     * in another case. Directories are listed concurrently on {@code scanExecutor}.
+     */
+    private List<RepositoryFilePath> findFilesIn(
+        final List<String> directoriesToSearch,
+        final Executor scanExecutor
+    ) {
+        return join(
+            searchDirectory(
+                DirectoryTrie.of(directoriesToSearch),
+                repoRoot(),
+                scanExecutor
+            )
+        );
+    }
+
+    /**
+     * Searches the directories of the sub tree of {@code node} below {@code directory}, which is known to exist.
+     */
+    private static CompletableFuture<List<RepositoryFilePath>> searchDirectory(
+        final DirectoryTrie node,
+        final RepositoryFilePath directory,
+        final Executor scanExecutor
+    ) {
+        if (node.isSearched()) {
+            return CompletableFuture
+                .supplyAsync(directory::listAll, scanExecutor)
+                .thenCompose(
+                    children ->
+                        searchListing(node, node.children(), children, true, scanExecutor)
+                );
+        }
+
+        // the directory is listed at most once, and only if a directory below it cannot be jumped to
+        final Supplier<CompletableFuture<List<RepositoryFilePath>>> listing = Suppliers.memoize(
+            () -> CompletableFuture.supplyAsync(directory::listAll, scanExecutor)
+        );
+        return allFiles(
+            node
+                .children()
+                .stream()
+                .map(
+                    child ->
+                        jumpToDirectory(child, directory, scanExecutor)
+                            .thenApply(CompletableFuture::completedFuture)
+                            .exceptionally(
+                                failure -> {
+                                    if (!isNotFound(failure)) {
+                                        Throwables.throwIfUnchecked(failure);
+                                        throw new CompletionException(failure);
+                                    }
+                                    return listing
+                                        .get()
+                                        .thenCompose(
+                                            children ->
+                                                searchListing(
+                                                    node,
+                                                    Collections.singleton(child),
+                                                    children,
+                                                    false,
+                                                    scanExecutor
+                                                )
+                                        );
+                                }
+                            )
+                            .thenCompose(Function.identity())
+                )
+                .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * @return whether {@code failure} was caused by a directory which was not found, e.g. because it is named in
+     * another case.
+     */
+    private static boolean isNotFound(final Throwable failure) {
+        return Throwables
+            .getCausalChain(failure)
+            .stream()
+            .anyMatch(
+                cause ->
+                    (cause instanceof NoSuchFileException) ||
+                    (cause instanceof NotDirectoryException) ||
+                    (cause instanceof GHFileNotFoundException)
+            );
+    }
 
-                            if (
-                                normalizedDirectoriesToSearch
-                                    .stream()
-                                    .noneMatch(
-                                        targetDirPath ->
-                                            targetDirPath.startsWith(
-                                                normalizedCurrentDirectory
-                                            )
+    /**
+     * Searches the directories of the sub tree of {@code node} below the directory of that name in {@code parent},
+     * which is resolved without listing {@code parent} and may not exist.
+     *
+     * @return the files found, or a failure with an {@link UncheckedIOException} if any directory of the sub tree
+     * could not be listed.
+     */
+    private static CompletableFuture<List<RepositoryFilePath>> jumpToDirectory(
+        final DirectoryTrie node,
+        final RepositoryFilePath parent,
+        final Executor scanExecutor
+    ) {
+        return CompletableFuture
+            .supplyAsync(() -> parent.resolvePath(node.name()), scanExecutor)
+            .thenCompose(
+                directory -> {
+                    if (node.isSearched()) {
+                        return CompletableFuture
+                            .supplyAsync(directory::listAll, scanExecutor)
+                            .thenCompose(
+                                children ->
+                                    searchListing(
+                                        node,
+                                        node.children(),
+                                        children,
+                                        true,
+                                        scanExecutor
                                     )
-                            ) {
-                                // traversing directory that is not a target directory or does not lead
-                                // to target directory, halt traversal
-                                return Lists.newArrayList();
-                            }
-
-                            final List<RepositoryFilePath> children = currentDirectory.listAll();
-                            if (children.isEmpty()) {
-                                // no more children to consider, halting traversal
-                                return children;
-                            }
-
-                            if (
-                                normalizedDirectoriesToSearch.contains(
-                                    normalizedCurrentDirectory
-                                )
-                            ) {
-                                // found a target directory, returning all child files
-                                return children;
-                            }
+                            );
+                    }
+                    return allFiles(
+                        node
+                            .children()
+                            .stream()
+                            .map(child -> jumpToDirectory(child, directory, scanExecutor))
+                            .collect(Collectors.toList())
+                    );
+                }
+            );
+    }
 
-                            // only return child directories that help us reach the next target directory
-                            return children
-                                .stream()
-                                .filter(RepositoryFilePath::isDirectory)
-                                .filter(
-                                    childDir ->
-                                        normalizedDirectoriesToSearch
-                                            .stream()
-                                            .anyMatch(
-                                                directoryToSearch ->
-                                                    directoryToSearch.startsWith(
-                                                        lowerCaseNormalizeFilePath(
-                                                            childDir
-                                                        )
-                                                    )
-                                            )
-                                )
-                                .collect(Collectors.toList());
-                        }
-                    )
-                    .breadthFirst(repoRoot)
-                    .spliterator(),
-                false
-            )
-            .filter(
-                filePath ->
-                    normalizedDirectoriesToSearch
+    /**
+     * Searches the {@code children} listed in the directory of {@code node}. The children are files found if {@code
+     * includeFiles}, except for those which are directories to search themselves, and the sub trees of {@code
+     * childNodes} are searched below the child directories matching them case insensitively. Only the children
+     * matching a node are checked for being a directory.
+     */
+    private static CompletableFuture<List<RepositoryFilePath>> searchListing(
+        final DirectoryTrie node,
+        final Collection<DirectoryTrie> childNodes,
+        final List<RepositoryFilePath> children,
+        final boolean includeFiles,
+        final Executor scanExecutor
+    ) {
+        final List<CompletableFuture<List<RepositoryFilePath>>> pendingFiles = Lists.newArrayList();
+        if (includeFiles) {
+            pendingFiles.add(
+                CompletableFuture.completedFuture(
+                    children
                         .stream()
-                        .noneMatch(
-                            directoryToSearch ->
-                                directoryToSearch.equalsIgnoreCase(
-                                    lowerCaseNormalizeFilePath(filePath)
-                                )
+                        .filter(
+                            child ->
+                                !node
+                                    .child(child.getFileName())
+                                    .filter(DirectoryTrie::isSearched)
+                                    .isPresent()
                         )
-            )
-            .filter(
-                filePath ->
-                    normalizedDirectoriesToSearch
+                        .collect(Collectors.toList())
+                )
+            );
+        }
+        for (final RepositoryFilePath child : children) {
+            final Optional<DirectoryTrie> childNode = node
+                .child(child.getFileName())
+                .filter(childNodes::contains);
+            if (childNode.isPresent() && child.isDirectory()) {
+                pendingFiles.add(searchDirectory(childNode.get(), child, scanExecutor));
+            }
+        }
+        return allFiles(pendingFiles);
+    }
+
+    private static CompletableFuture<List<RepositoryFilePath>> allFiles(
+        final List<CompletableFuture<List<RepositoryFilePath>>> pendingFiles
+    ) {
+        return CompletableFuture
+            .allOf(pendingFiles.toArray(new CompletableFuture<?>[0]))
+            .thenApply(
+                allFound ->
+                    pendingFiles
                         .stream()
-                        .anyMatch(
-                            directoryToSearch ->
-                                lowerCaseNormalizeFilePath(
-                                    StringUtils.substringBeforeLast(
-                                        filePath.toFilePathString(),
-                                        filePath.getFileName()
-                                    )
-                                )
-                                    .equalsIgnoreCase(directoryToSearch)
-                        )
-            )
-            .collect(Collectors.toList());
+                        .flatMap(files -> files.join().stream())
+                        .collect(Collectors.toList())
+            );
     }
 
     private String lowerCaseNormalizeFilePath(final RepositoryFilePath filePath) {
@@ -18,7 +18,11 @@ import com.vladsch.flexmark.util.ast.VisitHandler;
 import com.vladsch.flexmark.util.ast.Visitor;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
 import com.vladsch.flexmark.util.sequence.IRichSequence;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -59,6 +63,7 @@ final class MarkdownFileNodeVisitor extends NodeVisitor implements MarkdownFileI
         }
     }
 
+    private final Map<Heading, Boolean> sectionContentByHeading = new IdentityHashMap<>();
     private final List<SectionHeading> headings = Lists.newArrayList();
     private final List<ImageAltText> imageAltTexts = Lists.newArrayList();
     private final List<CommentHint> commentHints = Lists.newArrayList();
@@ -104,7 +109,7 @@ final class MarkdownFileNodeVisitor extends NodeVisitor implements MarkdownFileI
             return;
         }
 
-        final boolean hasSectionContent = sectionHasContent(heading, heading.getLevel());
+        final boolean hasSectionContent = sectionHasContent(heading);
 
         this.headings.add(
                 new SectionHeading() {
@@ -149,15 +154,14 @@ final class MarkdownFileNodeVisitor extends NodeVisitor implements MarkdownFileI
             .map(BasedSequence::toString)
             .get();
 
-        final boolean hintedElementHasDescription = sectionHasContent(
-            Optional
-                .of(reference)
-                .map(Node::getNext)
-                .map(Node::getNext)
-                .filter(node -> node instanceof Paragraph)
-                .orElse(null),
-            1
-        );
+        // a paragraph is content in its own right, so the hinted element has a description
+        // whenever it is followed by one
+        final boolean hintedElementHasDescription = Optional
+            .of(reference)
+            .map(Node::getNext)
+            .map(Node::getNext)
+            .filter(node -> node instanceof Paragraph)
+            .isPresent();
 
         this.commentHints.add(
                 new CommentHint() {
@@ -228,33 +232,61 @@ final class MarkdownFileNodeVisitor extends NodeVisitor implements MarkdownFileI
         return (nodeToCheck instanceof Heading) || hasHeadingParent;
     }
 
-    private static boolean sectionHasContent(
-        final Node sectionRootNode,
-        final int sectionRootNodeLevel
-    ) {
-        if (sectionRootNode == null) {
-            return false;
+    /**
+     * Returns whether the section started by {@code heading} has content, i.e. whether any sibling between the heading
+     * and the next heading of the same or a higher level is neither a heading nor a comment hint. The content of every
+     * section of the heading's parent is assigned the first time one of its headings is visited.
+     */
+    private boolean sectionHasContent(final Heading heading) {
+        if (!sectionContentByHeading.containsKey(heading)) {
+            assignSectionContent(heading.getParent());
         }
-        Node nodeToCheck = sectionRootNode;
+        return sectionContentByHeading.get(heading);
+    }
+
+    private static boolean containsContent(
+        final ContentFinder contentFinder,
+        final Node node
+    ) {
+        contentFinder.reset();
+        contentFinder.visitChildren(node);
+        return contentFinder.foundContent();
+    }
+
+    /**
+     * Assigns section content to all headings among the children of {@code parent} in a single pass. Every heading
+     * whose section is still open is kept on a stack, a heading closes the sections of the headings at the same or a
+     * deeper level, and a content node marks the open sections from the innermost outwards until it reaches one which
+     * was already marked, so each heading is marked at most once.
+     */
+    private void assignSectionContent(final Node parent) {
+        final Deque<Heading> openSections = new ArrayDeque<>();
         final ContentFinder contentFinder = new ContentFinder();
-        do {
-            contentFinder.reset();
-            contentFinder.visitChildren(nodeToCheck);
-            if (contentFinder.foundContent()) {
-                return true;
-            }
-            if (isContentNode(nodeToCheck)) {
-                return true;
+        for (
+            Node child = parent.getFirstChild();
+            child != null;
+            child = child.getNext()
+        ) {
+            if (child instanceof Heading) {
+                final Heading heading = (Heading) child;
+                while (
+                    !openSections.isEmpty() &&
+                    (openSections.peek().getLevel() >= heading.getLevel())
+                ) {
+                    openSections.pop();
+                }
+                openSections.push(heading);
+                sectionContentByHeading.put(heading, false);
+                continue;
             }
-            if (
-                (nodeToCheck != sectionRootNode) &&
-                isHeadingNode(nodeToCheck) &&
-                (((Heading) nodeToCheck).getLevel() <= sectionRootNodeLevel)
-            ) {
-                return false;
+            if (isContentNode(child) || containsContent(contentFinder, child)) {
+                for (final Heading openSection : openSections) {
+                    if (sectionContentByHeading.get(openSection)) {
+                        break;
+                    }
+                    sectionContentByHeading.put(openSection, true);
+                }
             }
-            nodeToCheck = nodeToCheck.getNext();
-        } while (nodeToCheck != null);
-        return false;
+        }
     }
 }
@@ -0,0 +1,604 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.intuit.innersource.reposcanner.evaluators.MarkdownFileInfo;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Extracts the headings, image alt texts and comment hints of a markdown file in a single forward pass over its lines,
+ * without building a flexmark AST.
+ * <p>Only a conservative subset of CommonMark is recognized: ATX and single line setext headings with plain text,
+ * paragraphs, fenced and indented code, thematic breaks, comment hints and list and block quote containers which
+ * hold no nested headings, code or hints. Whenever the file contains anything that could be parsed differently by
+ * flexmark, such as html, escapes, inline code around an image or markup inside a heading, the scan is abandoned and
+ * callers are expected to fall back to {@link MarkdownFileNodeVisitor}.
+ */
+final class MarkdownLineScanner {
+
+    private static final Pattern LINE_SEPARATOR = Pattern.compile("\r\n|\r|\n");
+    private static final Pattern PLAIN_TEXT = Pattern.compile(
+        "[\\p{L}\\p{N} .,:;'\"?!/()=+%$@-]*"
+    );
+    private static final Pattern ATX_HEADING = Pattern.compile(
+        "^ {0,3}(#{1,6})(?:[ ]+(.*))?$"
+    );
+    private static final Pattern ATX_HEADING_CLOSING_SEQUENCE = Pattern.compile(
+        "(?:^|[ ]+)#+$"
+    );
+    private static final Pattern SETEXT_UNDERLINE = Pattern.compile(
+        "^ {0,3}(=+|-+)[ ]*$"
+    );
+    private static final Pattern THEMATIC_BREAK = Pattern.compile(
+        "^ {0,3}(?:(?:-[ ]*){3,}|(?:\\*[ ]*){3,}|(?:_[ ]*){3,})$"
+    );
+    private static final Pattern FENCE_OPENING = Pattern.compile(
+        "^ {0,3}(`{3,}|~{3,})(.*)$"
+    );
+    private static final Pattern LIST_ITEM = Pattern.compile(
+        "^( {0,3})([-+*]|(\\d{1,9})[.)])( +|$)(.*)$"
+    );
+    private static final Pattern BLOCK_QUOTE = Pattern.compile("^ {0,3}>");
+    private static final Pattern HTML_BLOCK = Pattern.compile("^ {0,3}<");
+    private static final Pattern LINK_REFERENCE_DEFINITION = Pattern.compile(
+        "^ {0,3}\\[[^\\]]*\\]:"
+    );
+    private static final Pattern COMMENT_HINT = Pattern.compile(
+        "^ {0,3}\\[//\\]:[ ]*#[ ]+(?:\"([^\"\\\\]*)\"|'([^'\\\\]*)'|\\(([^()\\\\]*)\\))[ ]*$"
+    );
+    private static final Pattern IMAGE = Pattern.compile(
+        "!\\[([^\\[\\]\\n]*)\\]\\([^()\\s]*(?:[ ]+\"[^\"\\n]*\")?\\)"
+    );
+    private static final Pattern CONTAINER_PREFIX = Pattern.compile(
+        "^ {0,3}(?:>[ ]?|(?:[-+*]|\\d{1,9}[.)])(?: +|$))"
+    );
+
+    /**
+     * Signals a construct the scanner does not handle exactly like flexmark.
+     */
+    private static final class AmbiguousMarkdownException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        AmbiguousMarkdownException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private enum BlockKind {
+        HEADING,
+        COMMENT_HINT,
+        PARAGRAPH,
+        CONTAINER,
+        OTHER,
+    }
+
+    private enum ContainerKind {
+        LIST,
+        BLOCK_QUOTE,
+    }
+
+    private static final class Block {
+
+        private final BlockKind kind;
+        private final int headingLevel;
+        private final String text;
+
+        Block(final BlockKind kind, final int headingLevel, final String text) {
+            this.kind = kind;
+            this.headingLevel = headingLevel;
+            this.text = text;
+        }
+    }
+
+    private static final class ScannedMarkdownFileInfo implements MarkdownFileInfo {
+
+        private final List<SectionHeading> headings;
+        private final List<ImageAltText> imageAltTexts;
+        private final List<CommentHint> commentHints;
+
+        ScannedMarkdownFileInfo(
+            final List<SectionHeading> headings,
+            final List<ImageAltText> imageAltTexts,
+            final List<CommentHint> commentHints
+        ) {
+            this.headings = headings;
+            this.imageAltTexts = imageAltTexts;
+            this.commentHints = commentHints;
+        }
+
+        @Override
+        public List<SectionHeading> getHeadings() {
+            return headings;
+        }
+
+        @Override
+        public List<ImageAltText> getImageAltTexts() {
+            return imageAltTexts;
+        }
+
+        @Override
+        public List<CommentHint> getCommentHints() {
+            return commentHints;
+        }
+    }
+
+    private final List<Block> blocks = Lists.newArrayList();
+    private final List<MarkdownFileInfo.ImageAltText> imageAltTexts = Lists.newArrayList();
+
+    private List<String> paragraphLines;
+    private List<String> containerLines;
+    private ContainerKind containerKind;
+    private int containerContentIndent;
+    private boolean containerFollowsBlankLine;
+    private String openFence;
+    private boolean inIndentedCode;
+    private boolean previousLineIsCommentHint;
+    private boolean paragraphFollowsCommentHint;
+
+    private MarkdownLineScanner() {}
+
+    /**
+     * Scans {@code content} for the markdown facts needed by the file check evaluators.
+     *
+     * @return the scanned facts, or {@link Optional#empty()} if {@code content} contains constructs this scanner
+     * cannot interpret exactly like flexmark.
+     */
+    static Optional<MarkdownFileInfo> scan(final String content) {
+        if (content.startsWith("\uFEFF")) {
+            return Optional.empty();
+        }
+        final MarkdownLineScanner scanner = new MarkdownLineScanner();
+        try {
+            for (final String line : LINE_SEPARATOR.split(content, -1)) {
+                scanner.scanLine(line);
+            }
+            scanner.closeParagraph();
+            scanner.closeContainer();
+            return Optional.of(scanner.toMarkdownFileInfo());
+        } catch (final AmbiguousMarkdownException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void scanLine(final String line) {
+        if (openFence != null) {
+            if (isClosingFence(line)) {
+                openFence = null;
+            }
+            return;
+        }
+        final int indent = StringUtils.indexOfAnyBut(line, ' ');
+        if (indent < 0) {
+            scanBlankLine();
+            return;
+        }
+        if (line.charAt(indent) == '\t') {
+            throw new AmbiguousMarkdownException();
+        }
+        final boolean followsCommentHint = previousLineIsCommentHint;
+        previousLineIsCommentHint = false;
+        if (inIndentedCode) {
+            if (indent >= 4) {
+                return;
+            }
+            inIndentedCode = false;
+        }
+        if ((containerKind != null) && continuesContainer(line, indent)) {
+            return;
+        }
+        if (paragraphLines != null) {
+            scanLineAfterParagraph(line);
+            return;
+        }
+        if (
+            followsCommentHint &&
+            ((indent >= 4) || SETEXT_UNDERLINE.matcher(line).matches())
+        ) {
+            throw new AmbiguousMarkdownException();
+        }
+        paragraphFollowsCommentHint = followsCommentHint;
+        if (
+            followsCommentHint &&
+            !interruptsParagraph(line) &&
+            !BLOCK_QUOTE.matcher(line).find() &&
+            !LINK_REFERENCE_DEFINITION.matcher(line).find()
+        ) {
+            // comment hints are parsed as the start of a paragraph, so lines which cannot
+            // interrupt a paragraph are its text rather than the start of a new block
+            paragraphLines = Lists.newArrayList(line);
+            return;
+        }
+        scanBlockStart(line, indent);
+    }
+
+    private void scanBlankLine() {
+        previousLineIsCommentHint = false;
+        closeParagraph();
+        if (containerKind == ContainerKind.BLOCK_QUOTE) {
+            closeContainer();
+        } else if (containerKind == ContainerKind.LIST) {
+            containerFollowsBlankLine = true;
+        }
+    }
+
+    private void scanLineAfterParagraph(final String line) {
+        if (SETEXT_UNDERLINE.matcher(line).matches()) {
+            if ((paragraphLines.size() != 1) || paragraphFollowsCommentHint) {
+                throw new AmbiguousMarkdownException();
+            }
+            final String headingText = requirePlainText(paragraphLines.get(0).trim());
+            paragraphLines = null;
+            blocks.add(
+                new Block(
+                    BlockKind.HEADING,
+                    line.trim().startsWith("=") ? 1 : 2,
+                    headingText
+                )
+            );
+            return;
+        }
+        if (!interruptsParagraph(line) && !BLOCK_QUOTE.matcher(line).find()) {
+            paragraphLines.add(line);
+            return;
+        }
+        closeParagraph();
+        paragraphFollowsCommentHint = false;
+        scanBlockStart(line, StringUtils.indexOfAnyBut(line, ' '));
+    }
+
+    /**
+     * @return true if {@code line} starts a heading, code block, thematic break or list item when following a line
+     * of paragraph text, rather than continuing the paragraph.
+     */
+    private static boolean interruptsParagraph(final String line) {
+        if (HTML_BLOCK.matcher(line).find()) {
+            throw new AmbiguousMarkdownException();
+        }
+        final Matcher listItem = LIST_ITEM.matcher(line);
+        if (listItem.matches() && listItem.group(5).isEmpty()) {
+            throw new AmbiguousMarkdownException();
+        }
+        return (
+            ATX_HEADING.matcher(line).matches() ||
+            FENCE_OPENING.matcher(line).matches() ||
+            THEMATIC_BREAK.matcher(line).matches() ||
+            (
+                listItem.matches() &&
+                ((listItem.group(3) == null) || "1".equals(listItem.group(3)))
+            )
+        );
+    }
+
+    private void scanBlockStart(final String line, final int indent) {
+        if (indent >= 4) {
+            inIndentedCode = true;
+            blocks.add(new Block(BlockKind.OTHER, 0, null));
+            return;
+        }
+        final Matcher atxHeading = ATX_HEADING.matcher(line);
+        if (atxHeading.matches()) {
+            blocks.add(
+                new Block(
+                    BlockKind.HEADING,
+                    atxHeading.group(1).length(),
+                    requirePlainText(atxHeadingText(atxHeading.group(2)))
+                )
+            );
+            return;
+        }
+        final Matcher fenceOpening = FENCE_OPENING.matcher(line);
+        if (fenceOpening.matches()) {
+            if (
+                fenceOpening.group(1).startsWith("`") &&
+                fenceOpening.group(2).contains("`")
+            ) {
+                throw new AmbiguousMarkdownException();
+            }
+            openFence = fenceOpening.group(1);
+            blocks.add(new Block(BlockKind.OTHER, 0, null));
+            return;
+        }
+        if (THEMATIC_BREAK.matcher(line).matches()) {
+            blocks.add(new Block(BlockKind.OTHER, 0, null));
+            return;
+        }
+        if (HTML_BLOCK.matcher(line).find()) {
+            throw new AmbiguousMarkdownException();
+        }
+        if (BLOCK_QUOTE.matcher(line).find()) {
+            openContainer(ContainerKind.BLOCK_QUOTE, line);
+            return;
+        }
+        final Matcher listItem = LIST_ITEM.matcher(line);
+        if (listItem.matches()) {
+            openContainer(ContainerKind.LIST, line);
+            return;
+        }
+        final Matcher commentHint = COMMENT_HINT.matcher(line);
+        if (commentHint.matches()) {
+            final String hintText = ObjectUtils.firstNonNull(
+                commentHint.group(1),
+                commentHint.group(2),
+                commentHint.group(3)
+            );
+            if (StringUtils.isBlank(hintText)) {
+                throw new AmbiguousMarkdownException();
+            }
+            previousLineIsCommentHint = true;
+            blocks.add(new Block(BlockKind.COMMENT_HINT, 0, hintText));
+            return;
+        }
+        if (LINK_REFERENCE_DEFINITION.matcher(line).find()) {
+            throw new AmbiguousMarkdownException();
+        }
+        paragraphLines = Lists.newArrayList(line);
+    }
+
+    private void openContainer(final ContainerKind kind, final String line) {
+        containerKind = kind;
+        containerLines = Lists.newArrayList();
+        containerContentIndent = Integer.MAX_VALUE;
+        containerFollowsBlankLine = false;
+        addContainerLine(line);
+        blocks.add(new Block(BlockKind.CONTAINER, 0, null));
+    }
+
+    /**
+     * @return true if {@code line} belongs to the currently open list or block quote, false if the container was
+     * closed and {@code line} starts a new block.
+     */
+    private boolean continuesContainer(final String line, final int indent) {
+        if (!containerFollowsBlankLine) {
+            if (SETEXT_UNDERLINE.matcher(line).matches()) {
+                throw new AmbiguousMarkdownException();
+            }
+            final boolean startsBlockOutsideContainer;
+            if (containerKind == ContainerKind.BLOCK_QUOTE) {
+                if (
+                    !BLOCK_QUOTE.matcher(line).find() && LIST_ITEM.matcher(line).matches()
+                ) {
+                    throw new AmbiguousMarkdownException();
+                }
+                startsBlockOutsideContainer =
+                    !BLOCK_QUOTE.matcher(line).find() && interruptsParagraph(line);
+            } else {
+                startsBlockOutsideContainer =
+                    (indent == 0) &&
+                    (BLOCK_QUOTE.matcher(line).find() || interruptsParagraph(line)) &&
+                    !LIST_ITEM.matcher(line).matches();
+            }
+            if (startsBlockOutsideContainer) {
+                closeContainer();
+                return false;
+            }
+            addContainerLine(line);
+            return true;
+        }
+        if (
+            LIST_ITEM.matcher(line).matches() && !THEMATIC_BREAK.matcher(line).matches()
+        ) {
+            containerFollowsBlankLine = false;
+            addContainerLine(line);
+            return true;
+        }
+        if (indent >= containerContentIndent) {
+            containerFollowsBlankLine = false;
+            addContainerLine(line);
+            return true;
+        }
+        if (indent == 0) {
+            closeContainer();
+            return false;
+        }
+        throw new AmbiguousMarkdownException();
+    }
+
+    private void addContainerLine(final String line) {
+        final Matcher listItem = LIST_ITEM.matcher(line);
+        if (
+            (containerKind == ContainerKind.LIST) &&
+            listItem.matches() &&
+            !THEMATIC_BREAK.matcher(line).matches()
+        ) {
+            if (listItem.group(5).isEmpty() || (listItem.group(4).length() > 4)) {
+                throw new AmbiguousMarkdownException();
+            }
+            containerContentIndent =
+                Math.min(
+                    containerContentIndent,
+                    listItem.group(1).length() +
+                    listItem.group(2).length() +
+                    listItem.group(4).length()
+                );
+        }
+        String content = line;
+        Matcher prefix = CONTAINER_PREFIX.matcher(content);
+        while (prefix.find()) {
+            content = content.substring(prefix.end());
+            prefix = CONTAINER_PREFIX.matcher(content);
+        }
+        final String strippedContent = StringUtils.stripStart(content, " ");
+        if (
+            strippedContent.isEmpty() ||
+            (content.length() - strippedContent.length() >= 4) ||
+            strippedContent.startsWith("\t") ||
+            strippedContent.startsWith("#") ||
+            strippedContent.startsWith("<") ||
+            strippedContent.startsWith("```") ||
+            strippedContent.startsWith("~~~") ||
+            LINK_REFERENCE_DEFINITION.matcher(strippedContent).find() ||
+            SETEXT_UNDERLINE.matcher(strippedContent).matches() ||
+            THEMATIC_BREAK.matcher(strippedContent).matches()
+        ) {
+            throw new AmbiguousMarkdownException();
+        }
+        containerLines.add(line);
+    }
+
+    private void closeParagraph() {
+        if (paragraphLines == null) {
+            return;
+        }
+        collectImageAltTexts(String.join("\n", paragraphLines));
+        paragraphLines = null;
+        blocks.add(new Block(BlockKind.PARAGRAPH, 0, null));
+    }
+
+    private void closeContainer() {
+        if (containerKind == null) {
+            return;
+        }
+        collectImageAltTexts(String.join("\n", containerLines));
+        containerKind = null;
+        containerLines = null;
+    }
+
+    private boolean isClosingFence(final String line) {
+        final String stripped = line.trim();
+        return (
+            (StringUtils.indexOfAnyBut(line, ' ') <= 3) &&
+            (stripped.length() >= openFence.length()) &&
+            StringUtils.containsOnly(stripped, openFence.charAt(0))
+        );
+    }
+
+    private void collectImageAltTexts(final String inlineContent) {
+        if (!inlineContent.contains("![")) {
+            return;
+        }
+        if (StringUtils.containsAny(inlineContent, '`', '\\', '<')) {
+            throw new AmbiguousMarkdownException();
+        }
+        final Matcher image = IMAGE.matcher(inlineContent);
+        int imageStart = inlineContent.indexOf("![");
+        while (imageStart >= 0) {
+            if (!image.find(imageStart) || (image.start() != imageStart)) {
+                throw new AmbiguousMarkdownException();
+            }
+            final String altText = image.group(1);
+            if (!altText.isEmpty()) {
+                if (!altText.trim().equals(altText)) {
+                    throw new AmbiguousMarkdownException();
+                }
+                final String imageAltText = requirePlainText(altText);
+                imageAltTexts.add(() -> imageAltText);
+            }
+            imageStart = inlineContent.indexOf("![", image.end());
+        }
+    }
+
+    private static String atxHeadingText(final String rawText) {
+        if (rawText == null) {
+            return "";
+        }
+        final String text = rawText.trim();
+        if (StringUtils.containsOnly(text, '#')) {
+            return "";
+        }
+        return ATX_HEADING_CLOSING_SEQUENCE.matcher(text).replaceFirst("");
+    }
+
+    private static String requirePlainText(final String text) {
+        if (!PLAIN_TEXT.matcher(text).matches()) {
+            throw new AmbiguousMarkdownException();
+        }
+        return text;
+    }
+
+    /**
+     * Assigns section content to all headings in one pass. Every heading whose section is still open is kept on a
+     * stack, a heading closes the sections of the headings at the same or a deeper level, and a content block marks
+     * the open sections from the innermost outwards until it reaches one which was already marked.
+     */
+    private MarkdownFileInfo toMarkdownFileInfo() {
+        final boolean[] hasContent = new boolean[blocks.size()];
+        final Deque<Integer> openSections = new ArrayDeque<>();
+        for (int i = 0; i < blocks.size(); i++) {
+            final Block block = blocks.get(i);
+            if (block.kind == BlockKind.HEADING) {
+                while (
+                    !openSections.isEmpty() &&
+                    (blocks.get(openSections.peek()).headingLevel >= block.headingLevel)
+                ) {
+                    openSections.pop();
+                }
+                openSections.push(i);
+            } else if (block.kind != BlockKind.COMMENT_HINT) {
+                for (final int openSection : openSections) {
+                    if (hasContent[openSection]) {
+                        break;
+                    }
+                    hasContent[openSection] = true;
+                }
+            }
+        }
+
+        final ImmutableList.Builder<MarkdownFileInfo.SectionHeading> headings = ImmutableList.builder();
+        final ImmutableList.Builder<MarkdownFileInfo.CommentHint> commentHints = ImmutableList.builder();
+        for (int i = 0; i < blocks.size(); i++) {
+            final Block block = blocks.get(i);
+            final boolean followsCommentHint =
+                (i > 0) && (blocks.get(i - 1).kind == BlockKind.COMMENT_HINT);
+            if (
+                (block.kind == BlockKind.HEADING) &&
+                !block.text.isEmpty() &&
+                !followsCommentHint
+            ) {
+                final String headingText = block.text;
+                final boolean hasSectionContent = hasContent[i];
+                headings.add(
+                    new MarkdownFileInfo.SectionHeading() {
+                        @Override
+                        public String getHeadingText() {
+                            return headingText;
+                        }
+
+                        @Override
+                        public boolean hasContent() {
+                            return hasSectionContent;
+                        }
+                    }
+                );
+            } else if (block.kind == BlockKind.COMMENT_HINT) {
+                final String hintText = block.text;
+                final boolean hintedElementHasDescription =
+                    (i + 2 < blocks.size()) &&
+                    (blocks.get(i + 2).kind == BlockKind.PARAGRAPH);
+                if (
+                    hintedElementHasDescription &&
+                    (blocks.get(i + 1).kind == BlockKind.CONTAINER)
+                ) {
+                    // consecutive lists and block quotes are tracked as a single container, so the
+                    // element following the hinted one may not be the paragraph seen here
+                    throw new AmbiguousMarkdownException();
+                }
+                commentHints.add(
+                    new MarkdownFileInfo.CommentHint() {
+                        @Override
+                        public String getHintText() {
+                            return hintText;
+                        }
+
+                        @Override
+                        public boolean hintedElementHasDescription() {
+                            return hintedElementHasDescription;
+                        }
+                    }
+                );
+            }
+        }
+        return new ScannedMarkdownFileInfo(
+            headings.build(),
+            ImmutableList.copyOf(imageAltTexts),
+            commentHints.build()
+        );
+    }
+}
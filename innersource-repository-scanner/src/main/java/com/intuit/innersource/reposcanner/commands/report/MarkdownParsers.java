@@ -0,0 +1,52 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import com.vladsch.flexmark.util.misc.Extension;
+import java.util.Collection;
+
+/**
+ * A process wide cache of flexmark {@link Parser} instances keyed by the set of enabled extension types. Building a
+ * parser registers all of its block and inline parser factories, which costs about as much as parsing a small
+ * README, whereas a built parser holds no per document state and can be shared by any number of threads. Only the
+ * {@value #MAXIMUM_PARSERS} most recently used parsers are kept, so callers that keep supplying new extension types
+ * can not grow the cache without bound.
+ */
+final class MarkdownParsers {
+
+    private static final int MAXIMUM_PARSERS = 16;
+
+    private static final Cache<ImmutableSet<Class<? extends Extension>>, Parser> PARSERS_BY_EXTENSION_TYPES = CacheBuilder
+        .newBuilder()
+        .maximumSize(MAXIMUM_PARSERS)
+        .build();
+
+    private MarkdownParsers() {}
+
+    /**
+     * @return the shared parser with {@code extensions} enabled. Extensions are identified by their type, the first
+     * set of instances supplied for a given set of types configures the parser.
+     */
+    static Parser get(final Collection<? extends Extension> extensions) {
+        final ImmutableSet<Class<? extends Extension>> extensionTypes = extensions
+            .stream()
+            .map(Extension::getClass)
+            .collect(ImmutableSet.toImmutableSet());
+        return PARSERS_BY_EXTENSION_TYPES
+            .asMap()
+            .computeIfAbsent(
+                extensionTypes,
+                types ->
+                    Parser
+                        .builder(
+                            new MutableDataSet()
+                                .set(Parser.EXTENSIONS, ImmutableList.copyOf(extensions))
+                        )
+                        .build()
+            );
+    }
+}
@@ -4,16 +4,18 @@ import com.intuit.innersource.reposcanner.commands.report.ImmutableMemoizedFileI
 import com.intuit.innersource.reposcanner.evaluators.FileInfo;
 import com.intuit.innersource.reposcanner.evaluators.MarkdownFileInfo;
 import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
-import com.vladsch.flexmark.parser.Parser;
-import com.vladsch.flexmark.util.data.MutableDataSet;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
+import java.io.StringReader;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import org.apache.commons.io.IOUtils;
+import org.immutables.value.Value.Auxiliary;
 import org.immutables.value.Value.Immutable;
 import org.immutables.value.Value.Lazy;
 import org.immutables.value.Value.Parameter;
@@ -28,15 +30,52 @@ abstract class MemoizedFileInfo implements FileInfo {
     @Parameter
     public abstract RepositoryFilePath path();
 
-    public static MemoizedFileInfo of(final RepositoryFilePath path) {
-        return ImmutableMemoizedFileInfo.of(path);
+    /**
+     * The registry this file info was created by, directory listings are resolved through it so that children share
+     * the memoized instances of the rest of the scan.
+     */
+    @Auxiliary
+    @Parameter
+    abstract FileInfoRegistry registry();
+
+    /**
+     * Prefer {@link FileInfoRegistry#get(RepositoryFilePath)}, which returns the instance already registered for
+     * {@code path} if there is one.
+     */
+    static MemoizedFileInfo of(
+        final RepositoryFilePath path,
+        final FileInfoRegistry registry
+    ) {
+        return ImmutableMemoizedFileInfo.of(path, registry);
+    }
+
+    /**
+     * The file content, read once and shared by {@link #getLines()} and {@link #asMarkdownFileInfo()} so a file is
+     * read (or downloaded) a single time no matter which kinds of checks are evaluated against it.
+     */
+    @Lazy
+    String content() {
+        try (final InputStream in = path().read()) {
+            return IOUtils.toString(in, StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The results of the context free checks evaluated against this file so far, keyed by the check ids of the
+     * {@link CompiledSpecification} of the scan, so identical checks of different options are evaluated once.
+     */
+    @Lazy
+    ConcurrentMap<Integer, Boolean> contextFreeCheckResults() {
+        return new ConcurrentHashMap<>();
     }
 
     @Override
     @Lazy
     public List<String> getLines() {
         try {
-            return IOUtils.readLines(path().read(), StandardCharsets.UTF_8.name());
+            return IOUtils.readLines(new StringReader(content()));
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -45,19 +84,21 @@ abstract class MemoizedFileInfo implements FileInfo {
     @Override
     @Lazy
     public MarkdownFileInfo asMarkdownFileInfo() {
-        try (
-            final BufferedReader br = new BufferedReader(
-                new InputStreamReader(path().read(), StandardCharsets.UTF_8.name())
-            )
-        ) {
-            final MarkdownFileNodeVisitor nodeVisitor = new MarkdownFileNodeVisitor();
-            nodeVisitor.visit(
-                Parser.builder(new MutableDataSet()).build().parseReader(br)
+        return IndexedMarkdownFileInfo.of(readMarkdownFileInfo());
+    }
+
+    private MarkdownFileInfo readMarkdownFileInfo() {
+        if (registry().isMarkdownLineScanning()) {
+            final Optional<MarkdownFileInfo> scannedMarkdownFileInfo = MarkdownLineScanner.scan(
+                content()
             );
-            return nodeVisitor;
-        } catch (final IOException e) {
-            throw new UncheckedIOException(e);
+            if (scannedMarkdownFileInfo.isPresent()) {
+                return scannedMarkdownFileInfo.get();
+            }
         }
+        final MarkdownFileNodeVisitor nodeVisitor = new MarkdownFileNodeVisitor();
+        nodeVisitor.visit(registry().getMarkdownParser().parse(content()));
+        return nodeVisitor;
     }
 
     @Override
@@ -78,7 +119,7 @@ abstract class MemoizedFileInfo implements FileInfo {
         return path()
             .listAll()
             .stream()
-            .map(MemoizedFileInfo::of)
+            .map(registry()::get)
             .collect(Collectors.toList());
     }
 
@@ -0,0 +1,49 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates the bounded executors used to fan out scan work when a command is configured with a parallelism greater
+ * than 1. Virtual threads are used when the running JVM supports them, since scan work is dominated by file and
+ * network I/O, otherwise daemon platform threads are used.
+ */
+final class ScanExecutors {
+
+    private static final Optional<ThreadFactory> VIRTUAL_THREAD_FACTORY = virtualThreadFactory();
+
+    private ScanExecutors() {}
+
+    static ExecutorService newBoundedExecutor(final int parallelism) {
+        return Executors.newFixedThreadPool(
+            parallelism,
+            VIRTUAL_THREAD_FACTORY.orElseGet(
+                () ->
+                    new ThreadFactoryBuilder()
+                        .setNameFormat("innersource-scanner-%d")
+                        .setDaemon(true)
+                        .build()
+            )
+        );
+    }
+
+    private static Optional<ThreadFactory> virtualThreadFactory() {
+        try {
+            // Thread.ofVirtual().factory(), looked up reflectively so the scanner still runs on java 8
+            final Object virtualThreadBuilder =
+                Thread.class.getMethod("ofVirtual").invoke(null);
+            return Optional.of(
+                (ThreadFactory) Class
+                    .forName("java.lang.Thread$Builder")
+                    .getMethod("factory")
+                    .invoke(virtualThreadBuilder)
+            );
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            // virtual threads are unavailable or still a preview feature in this JVM
+            return Optional.empty();
+        }
+    }
+}
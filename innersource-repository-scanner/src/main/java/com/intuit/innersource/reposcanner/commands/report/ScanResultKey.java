@@ -0,0 +1,46 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.intuit.innersource.reposcanner.commands.report.ImmutableScanResultKey;
+import com.intuit.innersource.reposcanner.repofilepath.RevisionedRepositoryFilePath;
+import org.immutables.value.Value.Immutable;
+import org.immutables.value.Value.Parameter;
+import org.immutables.value.Value.Style;
+import org.immutables.value.Value.Style.ImplementationVisibility;
+
+/**
+ * Identifies the result of scanning a revision of a repository according to some specification, which a {@link
+ * ScanResultStore} may return instead of the repository being scanned again.
+ */
+@Immutable(builder = false)
+@Style(visibility = ImplementationVisibility.PACKAGE)
+public abstract class ScanResultKey {
+
+    ScanResultKey() {}
+
+    /**
+     * @return the {@link RevisionedRepositoryFilePath#getRepositoryId() id} of the scanned repository.
+     */
+    @Parameter
+    public abstract String repositoryId();
+
+    /**
+     * @return the {@link RevisionedRepositoryFilePath#getRevision() revision} of the scanned repository.
+     */
+    @Parameter
+    public abstract String revision();
+
+    /**
+     * @return the sha256 of the specification, and of anything else which may change the report, e.g. the markdown
+     * extensions enabled, the version of the scanner and the evaluators of the specification's checks.
+     */
+    @Parameter
+    public abstract String specificationHash();
+
+    public static ScanResultKey of(
+        final String repositoryId,
+        final String revision,
+        final String specificationHash
+    ) {
+        return ImmutableScanResultKey.of(repositoryId, revision, specificationHash);
+    }
+}
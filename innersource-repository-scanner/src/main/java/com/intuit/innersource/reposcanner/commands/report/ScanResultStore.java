@@ -0,0 +1,38 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Stores the results of previous scans, so that a {@link InnerSourceReadinessReportCommand} returns the report of a
+ * repository which has not changed since its last scan without scanning it again. Results are opaque strings written
+ * and read back by the report command, which rebuilds the report from the result and the specification identified by
+ * the key.
+ *
+ * @see InnerSourceReadinessReportCommand.Builder#scanResultStore(ScanResultStore)
+ */
+public interface ScanResultStore {
+    /**
+     * Returns the scan result stored for {@code key}, if any.
+     *
+     * @return the stored scan result, or {@link Optional#empty()} if no result was stored for {@code key}.
+     */
+    Optional<String> get(ScanResultKey key);
+
+    /**
+     * Stores {@code scanResult} as the result for {@code key}. A store may replace the results of previous revisions of
+     * the same repository scanned according to the same specification, which are not looked up again once the
+     * repository changed.
+     */
+    void put(ScanResultKey key, String scanResult);
+
+    /**
+     * Creates a store which keeps the result of the last scanned revision of each repository and specification in a
+     * file of {@code directory}, creating the directory if needed.
+     *
+     * @throws java.io.UncheckedIOException if the directory cannot be created.
+     */
+    static ScanResultStore inDirectory(final Path directory) {
+        return DirectoryScanResultStore.create(directory);
+    }
+}
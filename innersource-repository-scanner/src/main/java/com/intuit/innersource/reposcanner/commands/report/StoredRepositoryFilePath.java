@@ -0,0 +1,131 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A file of a report restored from a {@link ScanResultStore}. Its name and path are known from the stored report, the
+ * file is only resolved against the repository root, which may cost a GitHub api request, once its contents or
+ * metadata are needed.
+ */
+final class StoredRepositoryFilePath implements RepositoryFilePath {
+
+    private final RepositoryFilePath repositoryRoot;
+    private final String filePath;
+    private final Supplier<RepositoryFilePath> resolvedFilePath;
+
+    private StoredRepositoryFilePath(
+        final RepositoryFilePath repositoryRoot,
+        final String filePath
+    ) {
+        this.repositoryRoot = repositoryRoot;
+        this.filePath = filePath;
+        this.resolvedFilePath =
+            Suppliers.memoize(() -> repositoryRoot.resolvePath(relativeFilePath()));
+    }
+
+    static StoredRepositoryFilePath of(
+        final RepositoryFilePath repositoryRoot,
+        final String filePath
+    ) {
+        return new StoredRepositoryFilePath(repositoryRoot, filePath);
+    }
+
+    private String relativeFilePath() {
+        return StringUtils.removeStart(
+            StringUtils.removeStart(filePath, repositoryRoot.toFilePathString()),
+            "/"
+        );
+    }
+
+    @Override
+    public String getFileName() {
+        return StringUtils.substringAfterLast(StringUtils.removeEnd(filePath, "/"), "/");
+    }
+
+    @Override
+    public String getFileNameWithoutExtension() {
+        return FilenameUtils.getBaseName(getFileName());
+    }
+
+    @Override
+    public boolean isDirectory() {
+        return resolvedFilePath.get().isDirectory();
+    }
+
+    @Override
+    public boolean exists() {
+        return resolvedFilePath.get().exists();
+    }
+
+    @Override
+    public long size() {
+        return resolvedFilePath.get().size();
+    }
+
+    @Override
+    public InputStream read() throws UncheckedIOException {
+        return resolvedFilePath.get().read();
+    }
+
+    @Override
+    public List<RepositoryFilePath> listAll() throws UncheckedIOException {
+        return resolvedFilePath.get().listAll();
+    }
+
+    @Override
+    public String toFilePathString() {
+        return filePath;
+    }
+
+    @Override
+    public RepositoryFilePath resolvePath(final String other) {
+        return resolvedFilePath.get().resolvePath(other);
+    }
+
+    @Override
+    public void touch() {
+        resolvedFilePath.get().touch();
+    }
+
+    @Override
+    public void appendLines(final Iterable<String> lines) throws UncheckedIOException {
+        resolvedFilePath.get().appendLines(lines);
+    }
+
+    @Override
+    public void createDirectories() throws UncheckedIOException {
+        resolvedFilePath.get().createDirectories();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof StoredRepositoryFilePath)) {
+            return false;
+        }
+        final StoredRepositoryFilePath that = (StoredRepositoryFilePath) other;
+        return (
+            repositoryRoot.equals(that.repositoryRoot) && filePath.equals(that.filePath)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(repositoryRoot, filePath);
+    }
+
+    @Override
+    public String toString() {
+        return filePath;
+    }
+}
@@ -0,0 +1,157 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.intuit.innersource.reposcanner.commands.report.CompiledSpecification.CompiledOption;
+import com.intuit.innersource.reposcanner.commands.report.InnerSourceReadinessReport.FileChecksReport;
+import com.intuit.innersource.reposcanner.jsonservice.JsonService;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Converts a report to and from the scan result kept by a {@link ScanResultStore}: a json array holding, for every
+ * option of the compiled specification, the files evaluated and whether each of their evaluated checks was satisfied.
+ * The specification itself is not stored, the report is rebuilt against the compiled specification which the key of
+ * the result identifies.
+ */
+final class StoredScanResults {
+
+    private static final String PATH_PROPERTY = "path";
+    private static final String CHECKS_PROPERTY = "checks";
+
+    private StoredScanResults() {}
+
+    static String write(final InnerSourceReadinessReport report) {
+        return JsonService
+            .getInstance()
+            .toJsonLine(
+                report
+                    .getFileRequirementReports()
+                    .stream()
+                    .map(
+                        fileRequirementReport ->
+                            fileRequirementReport
+                                .getFileChecksReports()
+                                .stream()
+                                .map(
+                                    fileChecksReport ->
+                                        ImmutableMap.of(
+                                            PATH_PROPERTY,
+                                            fileChecksReport
+                                                .getFileEvaluated()
+                                                .toFilePathString(),
+                                            CHECKS_PROPERTY,
+                                            fileChecksReport
+                                                .getFileCheckReports()
+                                                .stream()
+                                                .map(
+                                                    check ->
+                                                        check.isFileCheckSatisfied()
+                                                            ? "1"
+                                                            : "0"
+                                                )
+                                                .collect(Collectors.joining())
+                                        )
+                                )
+                                .collect(Collectors.toList())
+                    )
+                    .collect(Collectors.toList())
+            );
+    }
+
+    /**
+     * @return the reports on the candidate files of each of the {@code options}, with their files resolved against
+     * {@code repositoryRoot} when first used, or {@link Optional#empty()} if {@code scanResult} does not match the
+     * options, e.g. because it was written by an incompatible version.
+     */
+    static Optional<List<List<FileChecksReport>>> read(
+        final String scanResult,
+        final List<CompiledOption> options,
+        final RepositoryFilePath repositoryRoot
+    ) {
+        final JsonElement storedResult;
+        try {
+            storedResult = new JsonParser().parse(scanResult);
+        } catch (final JsonParseException e) {
+            return Optional.empty();
+        }
+        if (!storedResult.isJsonArray()) {
+            return Optional.empty();
+        }
+        final JsonArray storedOptions = storedResult.getAsJsonArray();
+        if (storedOptions.size() != options.size()) {
+            return Optional.empty();
+        }
+        final ImmutableList.Builder<List<FileChecksReport>> fileChecksReports = ImmutableList.builder();
+        for (int i = 0; i < options.size(); i++) {
+            final CompiledOption option = options.get(i);
+            final List<Integer> evaluatedCheckIndexes = option
+                .evaluatorChecks()
+                .stream()
+                .flatMap(evaluatorChecks -> evaluatorChecks.checkIndexes().stream())
+                .sorted()
+                .collect(Collectors.toList());
+            if (!storedOptions.get(i).isJsonArray()) {
+                return Optional.empty();
+            }
+            final List<FileChecksReport> optionReports = Lists.newArrayList();
+            for (final JsonElement storedFile : storedOptions.get(i).getAsJsonArray()) {
+                if (!storedFile.isJsonObject()) {
+                    return Optional.empty();
+                }
+                final Optional<String> storedPath = getString(
+                    storedFile.getAsJsonObject(),
+                    PATH_PROPERTY
+                );
+                final Optional<String> storedChecks = getString(
+                    storedFile.getAsJsonObject(),
+                    CHECKS_PROPERTY
+                );
+                if (
+                    !storedPath.isPresent() ||
+                    !storedChecks.isPresent() ||
+                    (storedChecks.get().length() != evaluatedCheckIndexes.size())
+                ) {
+                    return Optional.empty();
+                }
+                final Boolean[] checksSatisfied = new Boolean[option.checks().size()];
+                for (int j = 0; j < evaluatedCheckIndexes.size(); j++) {
+                    checksSatisfied[evaluatedCheckIndexes.get(j)] =
+                        storedChecks.get().charAt(j) == '1';
+                }
+                optionReports.add(
+                    InnerSourceReadinessReportCommand.toFileChecksReport(
+                        StoredRepositoryFilePath.of(repositoryRoot, storedPath.get()),
+                        option,
+                        checksSatisfied
+                    )
+                );
+            }
+            fileChecksReports.add(optionReports);
+        }
+        return Optional.of(fileChecksReports.build());
+    }
+
+    /**
+     * @return the string value of {@code property} of {@code object}, or {@link Optional#empty()} if it has no such
+     * property or its value is not a string.
+     */
+    private static Optional<String> getString(
+        final JsonObject object,
+        final String property
+    ) {
+        final JsonElement value = object.get(property);
+        if ((value == null) || !value.isJsonPrimitive()) {
+            return Optional.empty();
+        }
+        return Optional.of(value.getAsString());
+    }
+}
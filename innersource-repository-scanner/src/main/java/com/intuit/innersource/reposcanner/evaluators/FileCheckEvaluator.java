@@ -1,6 +1,8 @@
 package com.intuit.innersource.reposcanner.evaluators;
 
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileCheck;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * @author Matt Madson
@@ -14,4 +16,38 @@ public interface FileCheckEvaluator {
         FileCheck fileCheckToEvaluate,
         EvaluationContext context
     );
+
+    /**
+     * Called once for each check of a specification when the specification is compiled, before any file is evaluated.
+     * Evaluators may use it to precompute whatever they derive from the check alone, e.g. compile its patterns, so that
+     * the work is not repeated per file or per repository.
+     */
+    default void precompile(final FileCheck fileCheck) {}
+
+    /**
+     * Returns whether the outcome of {@link #evaluate} depends on the {@link EvaluationContext}, and not just on the
+     * file and the check. The results of context free evaluators are shared between identical checks of different
+     * options evaluated against the same file, the conservative default is true.
+     */
+    default boolean isContextSensitive() {
+        return true;
+    }
+
+    /**
+     * Evaluates several checks of this evaluator's requirement against the same file. The default implementation
+     * evaluates each check in turn, evaluators may override it to share work between the checks, e.g. a single pass
+     * over the file's lines.
+     *
+     * @return whether each of the {@code fileChecksToEvaluate} is satisfied, in the same order.
+     */
+    default List<Boolean> evaluateAll(
+        final FileInfo fileToEvaluate,
+        final List<? extends FileCheck> fileChecksToEvaluate,
+        final EvaluationContext context
+    ) {
+        return fileChecksToEvaluate
+            .stream()
+            .map(fileCheck -> evaluate(fileToEvaluate, fileCheck, context))
+            .collect(Collectors.toList());
+    }
 }
@@ -1,6 +1,11 @@
 package com.intuit.innersource.reposcanner.evaluators;
 
+import com.google.common.collect.ImmutableSet;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * @author Matt Madson
@@ -35,9 +40,78 @@ public interface MarkdownFileInfo {
         boolean hintedElementHasDescription();
     }
 
+    /**
+     * The distinct texts of one kind of markdown element, as written and lower-cased, so checks can look them up
+     * instead of scanning every element.
+     */
+    interface TextIndex {
+        Set<String> getTexts();
+
+        Set<String> getLowerCaseTexts();
+
+        static TextIndex of(final Collection<String> texts) {
+            final Set<String> indexedTexts = ImmutableSet.copyOf(texts);
+            final Set<String> lowerCaseTexts = indexedTexts
+                .stream()
+                .map(text -> text.toLowerCase(Locale.ROOT))
+                .collect(ImmutableSet.toImmutableSet());
+            return new TextIndex() {
+                @Override
+                public Set<String> getTexts() {
+                    return indexedTexts;
+                }
+
+                @Override
+                public Set<String> getLowerCaseTexts() {
+                    return lowerCaseTexts;
+                }
+            };
+        }
+    }
+
     List<SectionHeading> getHeadings();
 
     List<ImageAltText> getImageAltTexts();
 
     List<CommentHint> getCommentHints();
+
+    /**
+     * The default implementation builds a new index on every call, implementations evaluated by many checks should
+     * override it to build the index once.
+     *
+     * @param includeEmptySections whether headings of sections without content are indexed.
+     */
+    default TextIndex getHeadingTextIndex(final boolean includeEmptySections) {
+        return TextIndex.of(
+            getHeadings()
+                .stream()
+                .filter(heading -> includeEmptySections || heading.hasContent())
+                .map(SectionHeading::getHeadingText)
+                .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * @see #getHeadingTextIndex(boolean)
+     */
+    default TextIndex getImageAltTextIndex() {
+        return TextIndex.of(
+            getImageAltTexts()
+                .stream()
+                .map(ImageAltText::getImageAltText)
+                .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * @see #getHeadingTextIndex(boolean)
+     */
+    default TextIndex getCommentHintTextIndex() {
+        return TextIndex.of(
+            getCommentHints()
+                .stream()
+                .map(CommentHint::getHintText)
+                .collect(Collectors.toList())
+        );
+    }
 }
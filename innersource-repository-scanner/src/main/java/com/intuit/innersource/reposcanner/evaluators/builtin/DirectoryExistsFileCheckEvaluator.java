@@ -17,6 +17,11 @@ public final class DirectoryExistsFileCheckEvaluator implements FileCheckEvaluat
         return "DIRECTORY_EXISTS";
     }
 
+    @Override
+    public boolean isContextSensitive() {
+        return false;
+    }
+
     @Override
     public boolean evaluate(
         final FileInfo fileToEvaluate,
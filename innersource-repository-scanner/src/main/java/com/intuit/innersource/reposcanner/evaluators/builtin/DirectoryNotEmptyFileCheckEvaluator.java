@@ -18,6 +18,11 @@ public final class DirectoryNotEmptyFileCheckEvaluator implements FileCheckEvalu
         return "DIRECTORY_NOT_EMPTY";
     }
 
+    @Override
+    public boolean isContextSensitive() {
+        return false;
+    }
+
     @Override
     public boolean evaluate(
         final FileInfo fileToEvaluate,
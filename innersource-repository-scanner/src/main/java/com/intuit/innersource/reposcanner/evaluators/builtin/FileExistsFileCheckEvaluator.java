@@ -17,6 +17,11 @@ public final class FileExistsFileCheckEvaluator implements FileCheckEvaluator {
         return "FILE_EXISTS";
     }
 
+    @Override
+    public boolean isContextSensitive() {
+        return false;
+    }
+
     @Override
     public boolean evaluate(
         final FileInfo fileToEvaluate,
@@ -1,12 +1,16 @@
 package com.intuit.innersource.reposcanner.evaluators.builtin;
 
 import com.google.auto.service.AutoService;
+import com.google.common.primitives.Booleans;
 import com.intuit.innersource.reposcanner.evaluators.EvaluationContext;
 import com.intuit.innersource.reposcanner.evaluators.FileCheckEvaluator;
 import com.intuit.innersource.reposcanner.evaluators.FileInfo;
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileCheck;
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileHasLineMatchingCheck;
+import java.util.Iterator;
+import java.util.List;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Evaluator for "FILE_HAS_LINE_MATCHING" FileCheck.
@@ -19,6 +23,16 @@ public final class FileHasLineMatchingFileCheckEvaluator implements FileCheckEva
         return "FILE_HAS_LINE_MATCHING";
     }
 
+    @Override
+    public void precompile(final FileCheck fileCheck) {
+        ((FileHasLineMatchingCheck) fileCheck).compiledRegexPattern();
+    }
+
+    @Override
+    public boolean isContextSensitive() {
+        return false;
+    }
+
     @Override
     public boolean evaluate(
         final FileInfo fileToEvaluate,
@@ -26,12 +40,41 @@ public final class FileHasLineMatchingFileCheckEvaluator implements FileCheckEva
         final EvaluationContext context
     ) {
         final FileHasLineMatchingCheck lineMatchingCheck = (FileHasLineMatchingCheck) fileCheckToEvaluate;
-        final Pattern expectedLinePattern = Pattern.compile(
-            lineMatchingCheck.regexPattern()
-        );
+        final Pattern expectedLinePattern = lineMatchingCheck.compiledRegexPattern();
         return fileToEvaluate
             .getLines()
             .stream()
             .anyMatch(line -> expectedLinePattern.matcher(line).find());
     }
+
+    /**
+     * Matches every line of the file against all the {@code fileChecksToEvaluate} in a single pass, stopping as soon
+     * as every check has found a matching line.
+     */
+    @Override
+    public List<Boolean> evaluateAll(
+        final FileInfo fileToEvaluate,
+        final List<? extends FileCheck> fileChecksToEvaluate,
+        final EvaluationContext context
+    ) {
+        final List<Pattern> expectedLinePatterns = fileChecksToEvaluate
+            .stream()
+            .map(
+                fileCheck -> ((FileHasLineMatchingCheck) fileCheck).compiledRegexPattern()
+            )
+            .collect(Collectors.toList());
+        final boolean[] matched = new boolean[expectedLinePatterns.size()];
+        int unmatchedCount = expectedLinePatterns.size();
+        final Iterator<String> lines = fileToEvaluate.getLines().iterator();
+        while ((unmatchedCount > 0) && lines.hasNext()) {
+            final String line = lines.next();
+            for (int i = 0; i < matched.length; i++) {
+                if (!matched[i] && expectedLinePatterns.get(i).matcher(line).find()) {
+                    matched[i] = true;
+                    unmatchedCount--;
+                }
+            }
+        }
+        return Booleans.asList(matched);
+    }
 }
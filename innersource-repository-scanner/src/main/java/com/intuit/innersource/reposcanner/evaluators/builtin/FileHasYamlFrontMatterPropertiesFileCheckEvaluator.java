@@ -22,6 +22,11 @@ public final class FileHasYamlFrontMatterPropertiesFileCheckEvaluator
         return "FILE_HAS_YAML_FRONT_MATTER_PROPERTIES";
     }
 
+    @Override
+    public boolean isContextSensitive() {
+        return false;
+    }
+
     @Override
     public boolean evaluate(
         final FileInfo fileToEvaluate,
@@ -5,12 +5,11 @@ import com.intuit.innersource.reposcanner.evaluators.EvaluationContext;
 import com.intuit.innersource.reposcanner.evaluators.FileCheckEvaluator;
 import com.intuit.innersource.reposcanner.evaluators.FileInfo;
 import com.intuit.innersource.reposcanner.evaluators.MarkdownFileInfo;
-import com.intuit.innersource.reposcanner.evaluators.MarkdownFileInfo.CommentHint;
-import com.intuit.innersource.reposcanner.evaluators.MarkdownFileInfo.SectionHeading;
+import com.intuit.innersource.reposcanner.evaluators.MarkdownFileInfo.TextIndex;
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileCheck;
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.MarkdownFileHasHeadingCheck;
-import java.util.stream.Collectors;
-import org.apache.commons.lang3.StringUtils;
+import java.util.Collections;
+import java.util.Locale;
 
 /**
  * Evaluator for "MARKDOWN_FILE_HAS_HEADING" FileCheck.
@@ -24,6 +23,16 @@ public final class MarkdownFileHasHeadingFileCheckEvaluator
         return "MARKDOWN_FILE_HAS_HEADING";
     }
 
+    @Override
+    public void precompile(final FileCheck fileCheck) {
+        ((MarkdownFileHasHeadingCheck) fileCheck).lowerCaseSynonyms();
+    }
+
+    @Override
+    public boolean isContextSensitive() {
+        return false;
+    }
+
     @Override
     public boolean evaluate(
         final FileInfo fileToEvaluate,
@@ -32,55 +41,36 @@ public final class MarkdownFileHasHeadingFileCheckEvaluator
     ) {
         final MarkdownFileHasHeadingCheck hasHeadingCheck = (MarkdownFileHasHeadingCheck) fileCheckToEvaluate;
         final MarkdownFileInfo fileInfo = fileToEvaluate.asMarkdownFileInfo();
+        final TextIndex headingTexts = fileInfo.getHeadingTextIndex(
+            hasHeadingCheck.matchIfSectionEmpty()
+        );
+        final TextIndex hintTexts = fileInfo.getCommentHintTextIndex();
+        final String lowerCaseHeading = hasHeadingCheck
+            .heading()
+            .toLowerCase(Locale.ROOT);
+        final boolean headingFound;
+        if (hasHeadingCheck.matchCase()) {
+            headingFound =
+                headingTexts.getTexts().contains(hasHeadingCheck.heading()) ||
+                !Collections.disjoint(
+                    headingTexts.getTexts(),
+                    hasHeadingCheck.synonyms()
+                );
+        } else {
+            headingFound =
+                headingTexts.getLowerCaseTexts().contains(lowerCaseHeading) ||
+                !Collections.disjoint(
+                    headingTexts.getLowerCaseTexts(),
+                    hasHeadingCheck.lowerCaseSynonyms()
+                );
+        }
         return (
-            fileInfo
-                .getHeadings()
-                .stream()
-                .filter(h -> hasHeadingCheck.matchIfSectionEmpty() || h.hasContent())
-                .map(SectionHeading::getHeadingText)
-                .anyMatch(
-                    headingText -> {
-                        if (hasHeadingCheck.matchCase()) {
-                            return (
-                                StringUtils.equals(
-                                    headingText,
-                                    hasHeadingCheck.heading()
-                                ) ||
-                                hasHeadingCheck.synonyms().contains(headingText)
-                            );
-                        } else {
-                            return (
-                                StringUtils.equalsIgnoreCase(
-                                    headingText,
-                                    hasHeadingCheck.heading()
-                                ) ||
-                                hasHeadingCheck
-                                    .synonyms()
-                                    .stream()
-                                    .map(String::toLowerCase)
-                                    .collect(Collectors.toSet())
-                                    .contains(headingText.toLowerCase())
-                            );
-                        }
-                    }
-                ) ||
-            fileInfo
-                .getCommentHints()
-                .stream()
-                .map(CommentHint::getHintText)
-                .anyMatch(
-                    hintText ->
-                        StringUtils.equalsIgnoreCase(
-                            hintText,
-                            hasHeadingCheck.heading()
-                        ) ||
-                        hasHeadingCheck
-                            .synonyms()
-                            .stream()
-                            .map(String::toLowerCase)
-                            .collect(Collectors.toSet())
-                            .contains(hintText.toLowerCase())
-                )
+            headingFound ||
+            hintTexts.getLowerCaseTexts().contains(lowerCaseHeading) ||
+            !Collections.disjoint(
+                hintTexts.getLowerCaseTexts(),
+                hasHeadingCheck.lowerCaseSynonyms()
+            )
         );
     }
 }
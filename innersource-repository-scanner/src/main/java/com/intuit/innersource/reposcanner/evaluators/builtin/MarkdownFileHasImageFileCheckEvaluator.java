@@ -5,12 +5,11 @@ import com.intuit.innersource.reposcanner.evaluators.EvaluationContext;
 import com.intuit.innersource.reposcanner.evaluators.FileCheckEvaluator;
 import com.intuit.innersource.reposcanner.evaluators.FileInfo;
 import com.intuit.innersource.reposcanner.evaluators.MarkdownFileInfo;
-import com.intuit.innersource.reposcanner.evaluators.MarkdownFileInfo.CommentHint;
-import com.intuit.innersource.reposcanner.evaluators.MarkdownFileInfo.ImageAltText;
+import com.intuit.innersource.reposcanner.evaluators.MarkdownFileInfo.TextIndex;
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileCheck;
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.MarkdownFileHasImageCheck;
-import java.util.stream.Collectors;
-import org.apache.commons.lang3.StringUtils;
+import java.util.Collections;
+import java.util.Locale;
 
 /**
  * Evaluator for "MARKDOWN_FILE_HAS_IMAGE" FileCheck.
@@ -23,6 +22,16 @@ public final class MarkdownFileHasImageFileCheckEvaluator implements FileCheckEv
         return "MARKDOWN_FILE_HAS_IMAGE";
     }
 
+    @Override
+    public void precompile(final FileCheck fileCheck) {
+        ((MarkdownFileHasImageCheck) fileCheck).lowerCaseAltTextSynonyms();
+    }
+
+    @Override
+    public boolean isContextSensitive() {
+        return false;
+    }
+
     @Override
     public boolean evaluate(
         final FileInfo fileToEvaluate,
@@ -31,48 +40,29 @@ public final class MarkdownFileHasImageFileCheckEvaluator implements FileCheckEv
     ) {
         final MarkdownFileHasImageCheck imageCheck = (MarkdownFileHasImageCheck) fileCheckToEvaluate;
         final MarkdownFileInfo fileInfo = fileToEvaluate.asMarkdownFileInfo();
+        final TextIndex altTexts = fileInfo.getImageAltTextIndex();
+        final TextIndex hintTexts = fileInfo.getCommentHintTextIndex();
+        final String lowerCaseAltText = imageCheck.altText().toLowerCase(Locale.ROOT);
+        final boolean imageFound;
+        if (imageCheck.matchCase()) {
+            imageFound =
+                altTexts.getTexts().contains(imageCheck.altText()) ||
+                !Collections.disjoint(altTexts.getTexts(), imageCheck.altTextSynonyms());
+        } else {
+            imageFound =
+                altTexts.getLowerCaseTexts().contains(lowerCaseAltText) ||
+                !Collections.disjoint(
+                    altTexts.getLowerCaseTexts(),
+                    imageCheck.lowerCaseAltTextSynonyms()
+                );
+        }
         return (
-            fileInfo
-                .getImageAltTexts()
-                .stream()
-                .map(ImageAltText::getImageAltText)
-                .anyMatch(
-                    imageAltText -> {
-                        if (imageCheck.matchCase()) {
-                            return (
-                                StringUtils.equals(imageAltText, imageCheck.altText()) ||
-                                imageCheck.altTextSynonyms().contains(imageAltText)
-                            );
-                        } else {
-                            return (
-                                StringUtils.equalsIgnoreCase(
-                                    imageAltText,
-                                    imageCheck.altText()
-                                ) ||
-                                imageCheck
-                                    .altTextSynonyms()
-                                    .stream()
-                                    .map(String::toLowerCase)
-                                    .collect(Collectors.toSet())
-                                    .contains(imageAltText.toLowerCase())
-                            );
-                        }
-                    }
-                ) ||
-            fileInfo
-                .getCommentHints()
-                .stream()
-                .map(CommentHint::getHintText)
-                .anyMatch(
-                    hintText ->
-                        StringUtils.equalsIgnoreCase(hintText, imageCheck.altText()) ||
-                        imageCheck
-                            .altTextSynonyms()
-                            .stream()
-                            .map(String::toLowerCase)
-                            .collect(Collectors.toSet())
-                            .contains(hintText.toLowerCase())
-                )
+            imageFound ||
+            hintTexts.getLowerCaseTexts().contains(lowerCaseAltText) ||
+            !Collections.disjoint(
+                hintTexts.getLowerCaseTexts(),
+                imageCheck.lowerCaseAltTextSynonyms()
+            )
         );
     }
 }
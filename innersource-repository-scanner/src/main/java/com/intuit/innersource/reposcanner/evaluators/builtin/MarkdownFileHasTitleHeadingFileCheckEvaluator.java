@@ -12,7 +12,6 @@ import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpec
 import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.MarkdownFileHasTitleHeadingCheck;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
@@ -29,6 +28,11 @@ public final class MarkdownFileHasTitleHeadingFileCheckEvaluator
         return "MARKDOWN_FILE_HAS_TITLE_HEADING";
     }
 
+    @Override
+    public void precompile(final FileCheck fileCheck) {
+        ((MarkdownFileHasTitleHeadingCheck) fileCheck).compiledTitleRegexPattern();
+    }
+
     @Override
     public boolean evaluate(
         final FileInfo fileToEvaluate,
@@ -58,11 +62,7 @@ public final class MarkdownFileHasTitleHeadingFileCheckEvaluator
             .map(SectionHeading::getHeadingText)
             .filter(s -> !reservedHeadingNames.contains(s.toLowerCase()))
             .filter(
-                s ->
-                    Pattern
-                        .compile(titleHeadingCheck.titleRegexPattern())
-                        .matcher(s)
-                        .matches()
+                s -> titleHeadingCheck.compiledTitleRegexPattern().matcher(s).matches()
             )
             .isPresent();
         final Optional<CommentHint> titleCommentHint = fileInfo
@@ -35,6 +35,15 @@ public abstract class JsonService {
 
     @Lazy
     Gson gson() {
+        return gsonBuilder().setPrettyPrinting().create();
+    }
+
+    @Lazy
+    Gson compactGson() {
+        return gsonBuilder().create();
+    }
+
+    private static GsonBuilder gsonBuilder() {
         return new GsonBuilder()
             .registerTypeAdapter(
                 RepositoryFilePath.class,
@@ -45,15 +54,21 @@ public abstract class JsonService {
                 new GsonAdaptersInnerSourceReadinessSpecification()
             )
             .registerTypeAdapterFactory(new GsonAdaptersFixupFileTemplates())
-            .registerTypeAdapterFactory(new GsonAdaptersInnerSourceReadinessReport())
-            .setPrettyPrinting()
-            .create();
+            .registerTypeAdapterFactory(new GsonAdaptersInnerSourceReadinessReport());
     }
 
     public String toJson(final Object src) {
         return gson().toJson(src);
     }
 
+    /**
+     * Serializes {@code src} without pretty printing, so the json fits on a single line, e.g. as one record of a
+     * newline delimited json stream.
+     */
+    public String toJsonLine(final Object src) {
+        return compactGson().toJson(src);
+    }
+
     public <T> T fromJson(final String json, final Class<T> clazz) {
         return gson().fromJson(json, clazz);
     }
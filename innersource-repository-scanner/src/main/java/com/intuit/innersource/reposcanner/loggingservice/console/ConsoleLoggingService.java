@@ -1,6 +1,7 @@
 package com.intuit.innersource.reposcanner.loggingservice.console;
 
 import com.intuit.innersource.reposcanner.loggingservice.LoggingService;
+import java.io.PrintStream;
 
 /**
  * @author Matt Madson
@@ -8,23 +9,32 @@ import com.intuit.innersource.reposcanner.loggingservice.LoggingService;
  */
 public final class ConsoleLoggingService implements LoggingService {
 
-    public static final LoggingService INSTANCE = new ConsoleLoggingService();
+    public static final LoggingService INSTANCE = new ConsoleLoggingService(false);
 
-    private ConsoleLoggingService() {}
+    /**
+     * Writes messages of every level to standard error, leaving standard out to the output of a command, e.g. its json.
+     */
+    public static final LoggingService STANDARD_ERROR = new ConsoleLoggingService(true);
+
+    private final boolean standardErrorOnly;
+
+    private ConsoleLoggingService(final boolean standardErrorOnly) {
+        this.standardErrorOnly = standardErrorOnly;
+    }
 
     @Override
     public void info(final String message) {
-        System.out.println("INFO: " + message);
+        messages().println("INFO: " + message);
     }
 
     @Override
     public void debug(final String message) {
-        System.out.println("DEBUG: " + message);
+        messages().println("DEBUG: " + message);
     }
 
     @Override
     public void trace(final String message) {
-        System.out.println("TRACE: " + message);
+        messages().println("TRACE: " + message);
     }
 
     @Override
@@ -36,4 +46,8 @@ public final class ConsoleLoggingService implements LoggingService {
     public void error(final String error) {
         System.err.println("ERROR: " + error);
     }
+
+    private PrintStream messages() {
+        return standardErrorOnly ? System.err : System.out;
+    }
 }
@@ -1,5 +1,6 @@
 /**
  * A LoggingService which writes log messages to the {@link java.lang.System#out Standard Out} and {@link
- * java.lang.System#err Standard error} console output streams depending on the level of the log message.
+ * java.lang.System#err Standard error} console output streams depending on the level of the log message, or only to
+ * standard error.
  */
 package com.intuit.innersource.reposcanner.loggingservice.console;
@@ -0,0 +1,56 @@
+package com.intuit.innersource.reposcanner.repofilepath;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Replaces files atomically: the new content is written to a temporary file next to the file, which then replaces the
+ * file in a single move. Readers see either the previous file or the new one, never a partially written file.
+ */
+public final class AtomicFiles {
+
+    /**
+     * Writes the new content of a file to the temporary file which is to replace it.
+     */
+    @FunctionalInterface
+    public interface TemporaryFileWriter {
+        void write(Path temporaryFile) throws IOException;
+    }
+
+    private AtomicFiles() {}
+
+    /**
+     * Replaces {@code file} with {@code temporaryFile} once {@code writer} has written to it. The move is atomic
+     * unless the file system does not support atomic moves, in which case the file is replaced by a plain move. The
+     * temporary file is deleted if anything fails.
+     *
+     * @param file the file to replace, which need not exist.
+     * @param temporaryFile an existing file in the same directory as {@code file}.
+     * @param writer writes the new content of {@code file} to {@code temporaryFile}.
+     * @throws IOException if the content could not be written or the file could not be replaced.
+     */
+    public static void replace(
+        final Path file,
+        final Path temporaryFile,
+        final TemporaryFileWriter writer
+    ) throws IOException {
+        try {
+            writer.write(temporaryFile);
+            try {
+                Files.move(
+                    temporaryFile,
+                    file,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING
+                );
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+}
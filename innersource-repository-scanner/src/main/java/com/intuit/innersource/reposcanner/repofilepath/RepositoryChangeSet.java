@@ -0,0 +1,179 @@
+package com.intuit.innersource.reposcanner.repofilepath;
+
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Maps;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A set of changes to the files of a repository which are staged in memory and written together by {@link
+ * #commit(String)}, instead of being written by every {@link RepositoryFilePath#touch()}, {@link
+ * RepositoryFilePath#appendLines(Iterable)} and {@link RepositoryFilePath#createDirectories()} call.
+ *
+ * <p>Write operations on the paths returned by {@link #stage(RepositoryFilePath)} are recorded in the change set, and
+ * their {@code exists()}, {@code isDirectory()}, {@code size()} and {@code read()} reflect the changes staged so far.
+ * Directory listings do not include the files created by staged changes. A change set is not thread safe and can be
+ * committed only once.
+ */
+public abstract class RepositoryChangeSet {
+
+    /**
+     * The changes staged to a single file or directory.
+     */
+    public static final class FileChange {
+
+        private final RepositoryFilePath filePath;
+        private final Supplier<Boolean> existed;
+        private final StringBuilder appendedContent = new StringBuilder();
+        private boolean created;
+        private boolean directoryCreated;
+
+        FileChange(final RepositoryFilePath filePath) {
+            this.filePath = filePath;
+            this.existed = Suppliers.memoize(filePath::exists);
+        }
+
+        /**
+         * @return the path the changes are written to.
+         */
+        public RepositoryFilePath filePath() {
+            return filePath;
+        }
+
+        /**
+         * @return true if the file existed before the changes were staged, in which case the {@link
+         * #appendedContent()} is appended to its current content.
+         */
+        public boolean existed() {
+            return existed.get();
+        }
+
+        /**
+         * @return true if the change creates a directory rather than a file.
+         */
+        public boolean isDirectory() {
+            return directoryCreated;
+        }
+
+        /**
+         * @return the content appended to the file, formatted by {@link RepositoryChangeSet#formatLines(Iterable)},
+         * or an empty string if the file is only created.
+         */
+        public String appendedContent() {
+            return appendedContent.toString();
+        }
+
+        boolean isCreated() {
+            return created || directoryCreated;
+        }
+
+        boolean isChanged() {
+            return isCreated() || appendedContent.length() > 0;
+        }
+
+        void create() {
+            created = true;
+        }
+
+        void createDirectory() {
+            directoryCreated = true;
+        }
+
+        void append(final String content) {
+            appendedContent.append(content);
+        }
+    }
+
+    private final Map<String, StagedRepositoryFilePath> stagedFilePaths = Maps.newLinkedHashMap();
+    private boolean committed;
+
+    protected RepositoryChangeSet() {}
+
+    /**
+     * Returns a view of {@code filePath} whose write operations are staged in {@code this} change set. Staging the
+     * same path twice returns the same view.
+     *
+     * @param filePath a path of the repository the change set writes to.
+     * @return the staged view of {@code filePath}.
+     */
+    public RepositoryFilePath stage(final RepositoryFilePath filePath) {
+        if (
+            (filePath instanceof StagedRepositoryFilePath) &&
+            ((StagedRepositoryFilePath) filePath).changeSet() == this
+        ) {
+            return filePath;
+        }
+        return stagedFilePaths.computeIfAbsent(
+            filePath.toFilePathString(),
+            stagedFilePath -> new StagedRepositoryFilePath(this, new FileChange(filePath))
+        );
+    }
+
+    /**
+     * Writes every change staged so far, or nothing if no change was staged.
+     *
+     * @param message a description of the changes, used as the commit message by repositories which commit them.
+     * @return the paths of the files and directories which were created or modified, reading their committed content.
+     * @throws UncheckedIOException if the changes could not be written.
+     * @throws IllegalStateException if {@code this} change set was already committed.
+     */
+    public List<RepositoryFilePath> commit(final String message)
+        throws UncheckedIOException {
+        checkNotCommitted();
+        committed = true;
+        final List<FileChange> changes = stagedFilePaths
+            .values()
+            .stream()
+            .map(StagedRepositoryFilePath::change)
+            .filter(FileChange::isChanged)
+            .collect(Collectors.toList());
+        if (!changes.isEmpty()) {
+            try {
+                write(changes, message);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return changes.stream().map(this::committedFilePath).collect(Collectors.toList());
+    }
+
+    void checkNotCommitted() {
+        if (committed) {
+            throw new IllegalStateException("changes were already committed");
+        }
+    }
+
+    /**
+     * Formats {@code lines} exactly as {@link RepositoryFilePath#appendLines(Iterable)} appends them to the files of
+     * the repository, so that the staged content matches the content written when appending directly.
+     *
+     * @param lines the lines to append.
+     * @return the content appended to a file.
+     */
+    protected abstract String formatLines(Iterable<String> lines);
+
+    /**
+     * Returns the path through which the file or directory of a written {@code change} reads its committed content.
+     * This is the path the change was staged for, as it reads the repository as written.
+     *
+     * @param change a change which was written.
+     * @return the path of the changed file or directory.
+     */
+    protected RepositoryFilePath committedFilePath(final FileChange change) {
+        return change.filePath();
+    }
+
+    /**
+     * Writes the {@code changes} staged to the files of the repository, in the order their paths were first staged.
+     *
+     * @param changes the changes to write, at least one.
+     * @param message a description of the changes.
+     * @throws IOException if the changes could not be written.
+     */
+    protected abstract void write(List<FileChange> changes, String message)
+        throws IOException;
+}
@@ -0,0 +1,41 @@
+package com.intuit.innersource.reposcanner.repofilepath;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A {@link RepositoryFilePath} to the root of a repository which can tell which revision of the repository its files
+ * are read from, so that results computed from the files of a revision can be reused for as long as the repository
+ * stays at that revision.
+ */
+public interface RevisionedRepositoryFilePath extends RepositoryFilePath {
+    /**
+     * Returns a stable identifier of the repository, e.g. the URL of a remote repository or the absolute path of a
+     * local one.
+     *
+     * @return the identifier of the repository.
+     */
+    String getRepositoryId();
+
+    /**
+     * Returns the id of the commit the files of the repository are read from.
+     *
+     * @return the commit sha of the repository's files, or {@link Optional#empty()} if it cannot be determined, e.g.
+     * because the repository has no commits yet.
+     * @throws java.io.UncheckedIOException if the revision could not be looked up.
+     */
+    Optional<String> getRevision();
+
+    /**
+     * Returns the paths of the files which were added, modified, deleted or renamed between {@code revision} and the
+     * files of the repository read through {@code this} path, so that results computed from the files of {@code
+     * revision} can be brought up to date by recomputing them for the changed files only.
+     *
+     * @param revision the commit sha, or another name of a commit, the files were previously read from.
+     * @return the paths of the changed files relative to the repository root and starting with {@code /}, both the old
+     * and the new path of a renamed file, or {@link Optional#empty()} if the changes cannot be determined, e.g. because
+     * {@code revision} is unknown.
+     * @throws java.io.UncheckedIOException if the changes could not be looked up.
+     */
+    Optional<Set<String>> getFilePathsChangedSince(String revision);
+}
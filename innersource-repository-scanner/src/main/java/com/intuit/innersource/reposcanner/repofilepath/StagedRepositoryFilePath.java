@@ -0,0 +1,152 @@
+package com.intuit.innersource.reposcanner.repofilepath;
+
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryChangeSet.FileChange;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.NoSuchFileException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A view of a {@link RepositoryFilePath} whose write operations are recorded in a {@link RepositoryChangeSet}. Reads
+ * combine the file as it is in the repository with the changes staged to it.
+ */
+final class StagedRepositoryFilePath implements RepositoryFilePath {
+
+    private final RepositoryChangeSet changeSet;
+    private final FileChange change;
+
+    StagedRepositoryFilePath(
+        final RepositoryChangeSet changeSet,
+        final FileChange change
+    ) {
+        this.changeSet = changeSet;
+        this.change = change;
+    }
+
+    RepositoryChangeSet changeSet() {
+        return changeSet;
+    }
+
+    FileChange change() {
+        return change;
+    }
+
+    private byte[] appendedBytes() {
+        return change.appendedContent().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getFileName() {
+        return change.filePath().getFileName();
+    }
+
+    @Override
+    public String getFileNameWithoutExtension() {
+        return change.filePath().getFileNameWithoutExtension();
+    }
+
+    @Override
+    public boolean isDirectory() {
+        return (
+            change.isDirectory() || (change.existed() && change.filePath().isDirectory())
+        );
+    }
+
+    @Override
+    public boolean exists() {
+        return change.existed() || change.isChanged();
+    }
+
+    @Override
+    public long size() {
+        final long stagedSize = appendedBytes().length;
+        return change.existed() ? change.filePath().size() + stagedSize : stagedSize;
+    }
+
+    @Override
+    public InputStream read() throws UncheckedIOException {
+        if (change.isDirectory()) {
+            throw new UncheckedIOException(
+                new IOException("This method is not supported for directories")
+            );
+        }
+        if (change.existed()) {
+            return new SequenceInputStream(
+                change.filePath().read(),
+                new ByteArrayInputStream(appendedBytes())
+            );
+        }
+        if (!change.isCreated()) {
+            throw new UncheckedIOException(new NoSuchFileException(toFilePathString()));
+        }
+        return new ByteArrayInputStream(appendedBytes());
+    }
+
+    @Override
+    public List<RepositoryFilePath> listAll() throws UncheckedIOException {
+        if (!change.existed()) {
+            throw new UncheckedIOException(new NoSuchFileException(toFilePathString()));
+        }
+        return change
+            .filePath()
+            .listAll()
+            .stream()
+            .map(changeSet::stage)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public String toFilePathString() {
+        return change.filePath().toFilePathString();
+    }
+
+    @Override
+    public RepositoryFilePath resolvePath(final String other) {
+        return changeSet.stage(change.filePath().resolvePath(other));
+    }
+
+    @Override
+    public void touch() {
+        changeSet.checkNotCommitted();
+        if (!exists()) {
+            change.create();
+        }
+    }
+
+    @Override
+    public void appendLines(final Iterable<String> lines) throws UncheckedIOException {
+        changeSet.checkNotCommitted();
+        if (!exists()) {
+            throw new UncheckedIOException(new NoSuchFileException(toFilePathString()));
+        }
+        if (isDirectory()) {
+            throw new UncheckedIOException(
+                new IOException("This method is not supported for directories")
+            );
+        }
+        change.append(changeSet.formatLines(lines));
+    }
+
+    @Override
+    public void createDirectories() throws UncheckedIOException {
+        changeSet.checkNotCommitted();
+        if (!exists()) {
+            change.createDirectory();
+        } else if (!isDirectory()) {
+            throw new UncheckedIOException(
+                new FileAlreadyExistsException(toFilePathString())
+            );
+        }
+    }
+
+    @Override
+    public String toString() {
+        return change.filePath().toString();
+    }
+}
@@ -0,0 +1,14 @@
+package com.intuit.innersource.reposcanner.repofilepath;
+
+/**
+ * A {@link RepositoryFilePath} to the root of a repository whose files can be changed through a {@link
+ * RepositoryChangeSet}, so that many changes are written at once instead of one write per change.
+ */
+public interface StagingRepositoryFilePath extends RepositoryFilePath {
+    /**
+     * Returns a new, empty change set for the files of the repository.
+     *
+     * @return a change set whose changes are written to the files read through {@code this} path once it is committed.
+     */
+    RepositoryChangeSet newChangeSet();
+}
@@ -0,0 +1,203 @@
+package com.intuit.innersource.reposcanner.repofilepath.bare;
+
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import com.intuit.innersource.reposcanner.repofilepath.bare.GitObjectDatabase.GitObject;
+import com.intuit.innersource.reposcanner.repofilepath.bare.ImmutableBareRepositoryEntryPath;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.immutables.value.Value.Immutable;
+import org.immutables.value.Value.Style;
+import org.immutables.value.Value.Style.BuilderVisibility;
+import org.immutables.value.Value.Style.ImplementationVisibility;
+
+/**
+ * A file path below a {@link BareRepositoryPath}, backed by the entry of its parent directory's tree or, for a path
+ * which does not exist in the revision, by no entry at all. Directory listings read the entry's tree and file reads its
+ * blob, only once they are asked for.
+ */
+@Immutable
+@Style(
+    visibility = ImplementationVisibility.PACKAGE,
+    builderVisibility = BuilderVisibility.PACKAGE
+)
+abstract class BareRepositoryEntryPath implements RepositoryFilePath {
+
+    abstract BareRepositoryPath root();
+
+    /**
+     * @return the path of the file from the repository root, starting with {@code /}.
+     */
+    abstract String filePath();
+
+    abstract Optional<GitTreeEntry> entry();
+
+    static BareRepositoryEntryPath of(
+        final BareRepositoryPath root,
+        final String filePath,
+        final GitTreeEntry entry
+    ) {
+        return ImmutableBareRepositoryEntryPath
+            .builder()
+            .root(root)
+            .filePath(filePath)
+            .entry(entry)
+            .build();
+    }
+
+    /**
+     * Resolves {@code filePath} by reading the trees of the directories leading to it, falling back to a path which
+     * does not exist if any of them has no entry of that name.
+     */
+    static RepositoryFilePath resolve(
+        final BareRepositoryPath root,
+        final String filePath
+    ) {
+        final String normalizedFilePath = StringUtils.removeEnd(
+            FilenameUtils.normalize(filePath, true),
+            "/"
+        );
+        if (StringUtils.isEmpty(normalizedFilePath)) {
+            return root;
+        }
+        try {
+            List<GitTreeEntry> entries = root.rootEntries();
+            Optional<GitTreeEntry> entry = Optional.empty();
+            for (final String name : StringUtils.split(normalizedFilePath, '/')) {
+                if (entry.isPresent()) {
+                    if (!entry.get().isTree()) {
+                        entry = Optional.empty();
+                        break;
+                    }
+                    entries = root.objectDatabase().readTree(entry.get().objectId());
+                }
+                entry =
+                    entries
+                        .stream()
+                        .filter(child -> child.name().equals(name))
+                        .findFirst();
+                if (!entry.isPresent()) {
+                    break;
+                }
+            }
+            return ImmutableBareRepositoryEntryPath
+                .builder()
+                .root(root)
+                .filePath(normalizedFilePath)
+                .entry(entry)
+                .build();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static UncheckedIOException readOnly() {
+        return new UncheckedIOException(
+            new IOException("files of a bare repository cannot be written")
+        );
+    }
+
+    @Override
+    public String getFileName() {
+        return StringUtils.substringAfterLast(filePath(), "/");
+    }
+
+    @Override
+    public String getFileNameWithoutExtension() {
+        return FilenameUtils.getBaseName(getFileName());
+    }
+
+    @Override
+    public boolean isDirectory() {
+        return entry().map(GitTreeEntry::isTree).orElse(false);
+    }
+
+    @Override
+    public boolean exists() {
+        return entry().isPresent();
+    }
+
+    @Override
+    public long size() {
+        if (!exists() || isDirectory()) {
+            return 0;
+        }
+        return readBlob().data.length;
+    }
+
+    @Override
+    public InputStream read() throws UncheckedIOException {
+        if (isDirectory()) {
+            throw new UncheckedIOException(
+                new IOException("This method is not supported for directories")
+            );
+        }
+        return new ByteArrayInputStream(readBlob().data);
+    }
+
+    private GitObject readBlob() throws UncheckedIOException {
+        try {
+            if (!entry().isPresent()) {
+                throw new NoSuchFileException(filePath());
+            }
+            return root().objectDatabase().read(entry().get().objectId());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<RepositoryFilePath> listAll() throws UncheckedIOException {
+        if (!isDirectory()) {
+            throw new UncheckedIOException(
+                new IOException("This method is not supported for files")
+            );
+        }
+        try {
+            return root()
+                .objectDatabase()
+                .readTree(entry().get().objectId())
+                .stream()
+                .map(child -> of(root(), filePath() + '/' + child.name(), child))
+                .collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toFilePathString() {
+        return filePath();
+    }
+
+    @Override
+    public RepositoryFilePath resolvePath(final String other) {
+        return resolve(root(), filePath() + '/' + other);
+    }
+
+    @Override
+    public void touch() {
+        if (!exists()) {
+            throw readOnly();
+        }
+    }
+
+    @Override
+    public void appendLines(final Iterable<String> lines) throws UncheckedIOException {
+        throw readOnly();
+    }
+
+    @Override
+    public void createDirectories() throws UncheckedIOException {
+        if (!isDirectory()) {
+            throw readOnly();
+        }
+    }
+}
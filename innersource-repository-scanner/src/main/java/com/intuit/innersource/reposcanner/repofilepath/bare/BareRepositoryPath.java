@@ -0,0 +1,322 @@
+package com.intuit.innersource.reposcanner.repofilepath.bare;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import com.intuit.innersource.reposcanner.repofilepath.RevisionedRepositoryFilePath;
+import com.intuit.innersource.reposcanner.repofilepath.bare.ImmutableBareRepositoryPath;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.immutables.value.Value.Check;
+import org.immutables.value.Value.Default;
+import org.immutables.value.Value.Immutable;
+import org.immutables.value.Value.Lazy;
+import org.immutables.value.Value.Style;
+import org.immutables.value.Value.Style.BuilderVisibility;
+import org.immutables.value.Value.Style.ImplementationVisibility;
+
+/**
+ * A {@code BareRepositoryPath} represents the root directory of a commit of a local git repository, whose trees and
+ * blobs are read straight from the repository's object database. No working tree is needed, so bare clones and mirrors
+ * can be scanned without being checked out. Paths are read only, write operations throw an {@link
+ * UncheckedIOException}.
+ */
+@Immutable
+@Style(
+    visibility = ImplementationVisibility.PACKAGE,
+    builderVisibility = BuilderVisibility.PACKAGE
+)
+public abstract class BareRepositoryPath implements RevisionedRepositoryFilePath {
+
+    BareRepositoryPath() {}
+
+    public abstract static class Builder {
+
+        Builder() {}
+
+        /**
+         * Overrides the default revision, {@code HEAD}, whose files are read.
+         *
+         * @param revision a full commit sha or the name of a branch, tag or other ref, e.g. {@code main}, {@code
+         *                 v1.0} or {@code refs/heads/main}.
+         * @return {@code this} builder for chaining
+         */
+        public abstract Builder revision(String revision);
+
+        /**
+         * Overrides the default 16 MiB bound on the total size of the trees and blobs kept in memory after they are
+         * read, so that e.g. the trees read while listing directories are not decompressed again when resolving paths.
+         *
+         * @param objectCacheMaximumBytes the maximum number of bytes of objects to cache, 0 disables caching.
+         * @return {@code this} builder for chaining
+         */
+        public abstract Builder objectCacheMaximumBytes(long objectCacheMaximumBytes);
+
+        public abstract BareRepositoryPath build();
+    }
+
+    /**
+     * Returns the git directory of the repository, e.g. {@code mirror.git} for a bare repository or {@code repo/.git}
+     * for one with a working tree.
+     *
+     * @return the directory holding the repository's {@code objects} and refs.
+     */
+    public abstract Path gitDirectory();
+
+    @Default
+    public String revision() {
+        return "HEAD";
+    }
+
+    @Default
+    public long objectCacheMaximumBytes() {
+        return 16L * 1024L * 1024L;
+    }
+
+    @Check
+    void checkObjectCacheMaximumBytes() {
+        if (objectCacheMaximumBytes() < 0) {
+            throw new IllegalArgumentException(
+                "objectCacheMaximumBytes must not be negative"
+            );
+        }
+    }
+
+    @Lazy
+    GitObjectDatabase objectDatabase() {
+        return new GitObjectDatabase(gitDirectory(), objectCacheMaximumBytes());
+    }
+
+    /**
+     * @return the entries of the root tree of the {@link #revision()}, or an empty list if the repository has no
+     * commits yet.
+     */
+    @Lazy
+    List<GitTreeEntry> rootEntries() throws UncheckedIOException {
+        try {
+            final Optional<String> commit = getRevision();
+            if (!commit.isPresent()) {
+                return Collections.emptyList();
+            }
+            return objectDatabase()
+                .readTree(objectDatabase().readCommitTree(commit.get()));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a new {@code BareRepositoryPath} to the {@code HEAD} commit of the repository in {@code gitDirectory}.
+     *
+     * @throws IllegalArgumentException if {@code gitDirectory} is null
+     */
+    public static BareRepositoryPath of(final Path gitDirectory) {
+        return create(gitDirectory).build();
+    }
+
+    /**
+     * Creates a new {@code BareRepositoryPath.Builder} for the repository in {@code gitDirectory}, which can optionally
+     * be configured before building the path.
+     *
+     * @throws IllegalArgumentException if {@code gitDirectory} is null
+     */
+    public static Builder create(final Path gitDirectory) {
+        if (gitDirectory == null) {
+            throw new IllegalArgumentException("gitDirectory must not be null");
+        }
+        return ImmutableBareRepositoryPath.builder().gitDirectory(gitDirectory);
+    }
+
+    /**
+     * Returns true if {@code directory} looks like a git directory, holding a {@code HEAD} file and an {@code objects}
+     * directory, rather than a working tree.
+     *
+     * @param directory the directory to check.
+     * @return true if {@code directory} can be read as a {@code BareRepositoryPath}.
+     */
+    public static boolean isGitDirectory(final Path directory) {
+        return (
+            Files.isRegularFile(directory.resolve("HEAD")) &&
+            Files.isDirectory(directory.resolve("objects"))
+        );
+    }
+
+    @Override
+    public String getRepositoryId() {
+        return gitDirectory().toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * Resolves the {@link #revision()} to a commit sha through the repository's loose and packed refs the first time it
+     * is needed.
+     */
+    @Lazy
+    @Override
+    public Optional<String> getRevision() throws UncheckedIOException {
+        try {
+            return objectDatabase().resolveCommit(revision());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Compares the trees of {@code revision} and the {@link #revision()} read through this path, descending only into
+     * the sub trees which differ, so no blob is read.
+     */
+    @Override
+    public Optional<Set<String>> getFilePathsChangedSince(final String revision)
+        throws UncheckedIOException {
+        try {
+            final Optional<String> commit = getRevision();
+            final Optional<String> sinceCommit = objectDatabase().resolveCommit(revision);
+            if (!commit.isPresent() || !sinceCommit.isPresent()) {
+                return Optional.empty();
+            }
+            final Set<String> changedFilePaths = Sets.newLinkedHashSet();
+            diffTrees(
+                "",
+                Optional.of(objectDatabase().readCommitTree(sinceCommit.get())),
+                Optional.of(objectDatabase().readCommitTree(commit.get())),
+                changedFilePaths
+            );
+            return Optional.of(ImmutableSet.copyOf(changedFilePaths));
+        } catch (final NoSuchFileException e) {
+            // revision is a sha which is not in this repository
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void diffTrees(
+        final String directoryPath,
+        final Optional<String> oldTreeId,
+        final Optional<String> newTreeId,
+        final Set<String> changedFilePaths
+    ) throws IOException {
+        if (oldTreeId.equals(newTreeId)) {
+            return;
+        }
+        final Map<String, GitTreeEntry> oldEntries = readEntriesByName(oldTreeId);
+        final Map<String, GitTreeEntry> newEntries = readEntriesByName(newTreeId);
+        for (final String name : Sets.union(oldEntries.keySet(), newEntries.keySet())) {
+            final Optional<GitTreeEntry> oldEntry = Optional.ofNullable(
+                oldEntries.get(name)
+            );
+            final Optional<GitTreeEntry> newEntry = Optional.ofNullable(
+                newEntries.get(name)
+            );
+            if (oldEntry.equals(newEntry)) {
+                continue;
+            }
+            final String filePath = directoryPath + '/' + name;
+            final Optional<String> oldSubTreeId = oldEntry
+                .filter(GitTreeEntry::isTree)
+                .map(GitTreeEntry::objectId);
+            final Optional<String> newSubTreeId = newEntry
+                .filter(GitTreeEntry::isTree)
+                .map(GitTreeEntry::objectId);
+            if (oldSubTreeId.isPresent() || newSubTreeId.isPresent()) {
+                diffTrees(filePath, oldSubTreeId, newSubTreeId, changedFilePaths);
+            }
+            if (
+                oldEntry.filter(entry -> !entry.isTree()).isPresent() ||
+                newEntry.filter(entry -> !entry.isTree()).isPresent()
+            ) {
+                changedFilePaths.add(filePath);
+            }
+        }
+    }
+
+    private Map<String, GitTreeEntry> readEntriesByName(final Optional<String> treeId)
+        throws IOException {
+        if (!treeId.isPresent()) {
+            return Collections.emptyMap();
+        }
+        return Maps.uniqueIndex(
+            objectDatabase().readTree(treeId.get()),
+            GitTreeEntry::name
+        );
+    }
+
+    @Override
+    public String getFileName() {
+        return "";
+    }
+
+    @Override
+    public String getFileNameWithoutExtension() {
+        return "";
+    }
+
+    @Override
+    public boolean isDirectory() {
+        return true;
+    }
+
+    @Override
+    public boolean exists() {
+        return Files.isDirectory(gitDirectory());
+    }
+
+    @Override
+    public long size() {
+        return 0;
+    }
+
+    @Override
+    public InputStream read() throws UncheckedIOException {
+        throw new UncheckedIOException(
+            new IOException("This method is not supported for directories")
+        );
+    }
+
+    @Override
+    public List<RepositoryFilePath> listAll() throws UncheckedIOException {
+        return rootEntries()
+            .stream()
+            .map(entry -> BareRepositoryEntryPath.of(this, '/' + entry.name(), entry))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public String toFilePathString() {
+        return "/";
+    }
+
+    @Override
+    public RepositoryFilePath resolvePath(final String other) {
+        return BareRepositoryEntryPath.resolve(
+            this,
+            '/' + StringUtils.removeStart(other, "/")
+        );
+    }
+
+    @Override
+    public void touch() {
+        // root always exists, nothing to do
+    }
+
+    @Override
+    public void appendLines(final Iterable<String> lines) throws UncheckedIOException {
+        throw BareRepositoryEntryPath.readOnly();
+    }
+
+    @Override
+    public void createDirectories() throws UncheckedIOException {
+        // root always exists, nothing to do
+    }
+}
@@ -0,0 +1,347 @@
+package com.intuit.innersource.reposcanner.repofilepath.bare;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.InflaterInputStream;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Reads objects from the object database of a git repository: loose objects from {@code objects/xx/...} and packed
+ * objects through the memory-mapped {@link GitPackFile packs} in {@code objects/pack}. Objects are read only when asked
+ * for, and the most recently read ones are kept in memory up to a bound on their total size, since directory listings
+ * and file reads of the same scan often read the same trees.
+ *
+ * <p>The packs are listed once, when the first object is read, so objects packed after that are not found until a new
+ * database is opened. Alternate object directories and sha-256 repositories are not supported.
+ */
+final class GitObjectDatabase {
+
+    static final int OBJ_COMMIT = 1;
+    static final int OBJ_TREE = 2;
+    static final int OBJ_BLOB = 3;
+    static final int OBJ_TAG = 4;
+
+    private static final String SYMBOLIC_REF_PREFIX = "ref:";
+    private static final String GITLINK_MODE = "160000";
+    private static final Pattern OBJECT_ID_PATTERN = Pattern.compile("[0-9a-f]{40}");
+    private static final int MAXIMUM_SYMBOLIC_REF_DEPTH = 5;
+
+    /**
+     * The type and content of a git object, without the header of the loose object format.
+     */
+    static final class GitObject {
+
+        final int type;
+        final byte[] data;
+
+        GitObject(final int type, final byte[] data) {
+            this.type = type;
+            this.data = data;
+        }
+    }
+
+    private final Path gitDirectory;
+    private final Supplier<List<GitPackFile>> packFiles;
+    private final Cache<String, GitObject> objectsById;
+
+    GitObjectDatabase(final Path gitDirectory, final long cacheMaximumBytes) {
+        this.gitDirectory = gitDirectory;
+        this.packFiles = Suppliers.memoize(this::openPackFiles);
+        this.objectsById =
+            CacheBuilder
+                .newBuilder()
+                .maximumWeight(cacheMaximumBytes)
+                .<String, GitObject>weigher((objectId, object) -> object.data.length)
+                .build();
+    }
+
+    private List<GitPackFile> openPackFiles() throws UncheckedIOException {
+        final Path packDirectory = gitDirectory.resolve("objects").resolve("pack");
+        if (!Files.isDirectory(packDirectory)) {
+            return ImmutableList.of();
+        }
+        final ImmutableList.Builder<GitPackFile> packs = ImmutableList.builder();
+        try (
+            DirectoryStream<Path> indexFiles = Files.newDirectoryStream(
+                packDirectory,
+                "*.idx"
+            )
+        ) {
+            for (final Path indexFile : indexFiles) {
+                packs.add(GitPackFile.open(indexFile));
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return packs.build();
+    }
+
+    /**
+     * Reads the object {@code objectId}, from the cache if it was read recently.
+     *
+     * @throws NoSuchFileException if the repository has no such object.
+     * @throws IOException if the object could not be read.
+     */
+    GitObject read(final String objectId) throws IOException {
+        try {
+            return objectsById.get(objectId, () -> readUncached(objectId));
+        } catch (final ExecutionException e) {
+            Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private GitObject readUncached(final String objectId) throws IOException {
+        final Path looseObject = gitDirectory
+            .resolve("objects")
+            .resolve(objectId.substring(0, 2))
+            .resolve(objectId.substring(2));
+        if (Files.isRegularFile(looseObject)) {
+            return readLooseObject(looseObject);
+        }
+        final byte[] objectIdBytes = BaseEncoding.base16().lowerCase().decode(objectId);
+        final List<GitPackFile> packs;
+        try {
+            packs = packFiles.get();
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+        for (final GitPackFile pack : packs) {
+            final Optional<Long> offset = pack.findOffset(objectIdBytes);
+            if (offset.isPresent()) {
+                return pack.read(offset.get(), this);
+            }
+        }
+        throw new NoSuchFileException(
+            "object " + objectId + " not found in " + gitDirectory
+        );
+    }
+
+    /**
+     * Reads a zlib compressed loose object, whose content is preceded by a header holding its type name and size, e.g.
+     * {@code blob 12\0}.
+     */
+    private static GitObject readLooseObject(final Path looseObject) throws IOException {
+        final byte[] object;
+        try (
+            InputStream in = new InflaterInputStream(Files.newInputStream(looseObject))
+        ) {
+            object = ByteStreams.toByteArray(in);
+        }
+        int headerEnd = 0;
+        while (headerEnd < object.length && object[headerEnd] != 0) {
+            headerEnd++;
+        }
+        final String typeName = StringUtils.substringBefore(
+            new String(object, 0, headerEnd, StandardCharsets.US_ASCII),
+            " "
+        );
+        final int type;
+        switch (typeName) {
+            case "commit":
+                type = OBJ_COMMIT;
+                break;
+            case "tree":
+                type = OBJ_TREE;
+                break;
+            case "blob":
+                type = OBJ_BLOB;
+                break;
+            case "tag":
+                type = OBJ_TAG;
+                break;
+            default:
+                throw new IOException("corrupt loose object " + looseObject);
+        }
+        final byte[] data = new byte[Math.max(0, object.length - headerEnd - 1)];
+        System.arraycopy(object, headerEnd + 1, data, 0, data.length);
+        return new GitObject(type, data);
+    }
+
+    /**
+     * Resolves {@code revision} to a commit the way git does: a full commit sha, {@code HEAD}, or the name of a ref,
+     * e.g. {@code main}, {@code tags/v1.0} or {@code refs/heads/main}. Tags are peeled to the commit they point at.
+     *
+     * @return the sha of the commit, or {@link Optional#empty()} if no ref of that name exists, e.g. because {@code
+     * HEAD} refers to a branch which has no commits yet.
+     * @throws IOException if the revision names an object which is not a commit, or the refs could not be read.
+     */
+    Optional<String> resolveCommit(final String revision) throws IOException {
+        Optional<String> objectId = OBJECT_ID_PATTERN.matcher(revision).matches()
+            ? Optional.of(revision)
+            : Optional.empty();
+        for (final String refName : ImmutableList.of(
+            revision,
+            "refs/" + revision,
+            "refs/tags/" + revision,
+            "refs/heads/" + revision,
+            "refs/remotes/" + revision
+        )) {
+            if (objectId.isPresent()) {
+                break;
+            }
+            objectId = readRef(refName, 0);
+        }
+        if (!objectId.isPresent()) {
+            return Optional.empty();
+        }
+
+        GitObject object = read(objectId.get());
+        while (object.type == OBJ_TAG) {
+            objectId = Optional.of(readHeader(object, "object"));
+            object = read(objectId.get());
+        }
+        if (object.type != OBJ_COMMIT) {
+            throw new IOException(revision + " is not a commit in " + gitDirectory);
+        }
+        return objectId;
+    }
+
+    /**
+     * Reads the loose or packed ref {@code refName}, following symbolic refs such as {@code HEAD}.
+     */
+    private Optional<String> readRef(final String refName, final int depth)
+        throws IOException {
+        if (depth > MAXIMUM_SYMBOLIC_REF_DEPTH || refName.contains("..")) {
+            return Optional.empty();
+        }
+        final Path looseRef = gitDirectory.resolve(refName);
+        if (Files.isRegularFile(looseRef)) {
+            final String ref;
+            try (Stream<String> lines = Files.lines(looseRef, StandardCharsets.UTF_8)) {
+                ref = lines.findFirst().orElse("").trim();
+            }
+            if (ref.startsWith(SYMBOLIC_REF_PREFIX)) {
+                return readRef(
+                    StringUtils.removeStart(ref, SYMBOLIC_REF_PREFIX).trim(),
+                    depth + 1
+                );
+            }
+            return OBJECT_ID_PATTERN.matcher(ref).matches()
+                ? Optional.of(ref)
+                : Optional.empty();
+        }
+        final Path packedRefs = gitDirectory.resolve("packed-refs");
+        if (!Files.isRegularFile(packedRefs)) {
+            return Optional.empty();
+        }
+        try (Stream<String> lines = Files.lines(packedRefs, StandardCharsets.UTF_8)) {
+            return lines
+                .filter(line -> !line.startsWith("#") && !line.startsWith("^"))
+                .map(line -> StringUtils.split(line, ' '))
+                .filter(fields -> fields.length == 2 && fields[1].equals(refName))
+                .map(fields -> fields[0])
+                .findFirst();
+        }
+    }
+
+    /**
+     * @return the sha of the root tree of the commit {@code commitId}.
+     */
+    String readCommitTree(final String commitId) throws IOException {
+        final GitObject commit = read(commitId);
+        if (commit.type != OBJ_COMMIT) {
+            throw new IOException(commitId + " is not a commit in " + gitDirectory);
+        }
+        return readHeader(commit, "tree");
+    }
+
+    /**
+     * Reads the entries of the tree {@code treeId}, each of which is stored as its mode, a space, its name, a NUL byte
+     * and the 20 bytes of its object id. Submodules are left out since their commits are not in this repository.
+     */
+    List<GitTreeEntry> readTree(final String treeId) throws IOException {
+        final GitObject tree = read(treeId);
+        if (tree.type != OBJ_TREE) {
+            throw new IOException(treeId + " is not a tree in " + gitDirectory);
+        }
+        final byte[] data = tree.data;
+        final ImmutableList.Builder<GitTreeEntry> entries = ImmutableList.builder();
+        int position = 0;
+        try {
+            while (position < data.length) {
+                final int modeEnd = indexOf(data, (byte) ' ', position);
+                final int nameEnd = indexOf(data, (byte) 0, modeEnd + 1);
+                final String mode = new String(
+                    data,
+                    position,
+                    modeEnd - position,
+                    StandardCharsets.US_ASCII
+                );
+                final String name = new String(
+                    data,
+                    modeEnd + 1,
+                    nameEnd - modeEnd - 1,
+                    StandardCharsets.UTF_8
+                );
+                final byte[] objectId = new byte[20];
+                System.arraycopy(data, nameEnd + 1, objectId, 0, objectId.length);
+                position = nameEnd + 1 + objectId.length;
+                if (!GITLINK_MODE.equals(mode)) {
+                    entries.add(GitTreeEntry.of(name, mode, toObjectId(objectId)));
+                }
+            }
+        } catch (final IndexOutOfBoundsException e) {
+            throw new IOException("corrupt tree " + treeId + " in " + gitDirectory, e);
+        }
+        return entries.build();
+    }
+
+    private static int indexOf(final byte[] data, final byte value, final int from) {
+        for (int i = from; i < data.length; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        throw new IndexOutOfBoundsException();
+    }
+
+    /**
+     * @return the value of the {@code name} header of a commit or tag object, e.g. the {@code tree} of a commit.
+     */
+    private String readHeader(final GitObject object, final String name)
+        throws IOException {
+        final String prefix = name + ' ';
+        for (final String line : StringUtils.splitPreserveAllTokens(
+            new String(object.data, StandardCharsets.UTF_8),
+            '\n'
+        )) {
+            if (line.isEmpty()) {
+                break;
+            }
+            if (line.startsWith(prefix)) {
+                return line.substring(prefix.length()).trim();
+            }
+        }
+        throw new IOException("object without a " + name + " header in " + gitDirectory);
+    }
+
+    static String toObjectId(final byte[] objectId) {
+        return BaseEncoding.base16().lowerCase().encode(objectId);
+    }
+
+    @Override
+    public String toString() {
+        return gitDirectory.toString();
+    }
+}
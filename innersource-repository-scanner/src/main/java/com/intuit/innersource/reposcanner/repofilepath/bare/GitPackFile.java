@@ -0,0 +1,306 @@
+package com.intuit.innersource.reposcanner.repofilepath.bare;
+
+import com.intuit.innersource.reposcanner.repofilepath.bare.GitObjectDatabase.GitObject;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A git packfile and its version 2 index, both memory-mapped so that looking up an object costs a binary search over
+ * the index and decompressing an object touches only the pages of the pack holding that object and its delta bases.
+ * Reads use absolute positions only, so a pack can be read by several threads at once.
+ *
+ * <p>Packs and indexes larger than 2 GiB cannot be mapped into a single buffer and are not supported.
+ */
+final class GitPackFile {
+
+    private static final int INDEX_SIGNATURE = 0xff744f63;
+    private static final int INDEX_VERSION = 2;
+    private static final int PACK_SIGNATURE = 0x5041434b;
+    private static final int FAN_OUT_OFFSET = 8;
+    private static final int OBJECT_NAMES_OFFSET = FAN_OUT_OFFSET + (256 * 4);
+    private static final int OBJECT_ID_BYTES = 20;
+    private static final int INFLATE_INPUT_BYTES = 8 * 1024;
+
+    private static final int OBJ_OFS_DELTA = 6;
+    private static final int OBJ_REF_DELTA = 7;
+
+    private final Path packFile;
+    private final MappedByteBuffer index;
+    private final MappedByteBuffer pack;
+    private final int objectCount;
+
+    private GitPackFile(
+        final Path packFile,
+        final MappedByteBuffer index,
+        final MappedByteBuffer pack
+    ) {
+        this.packFile = packFile;
+        this.index = index;
+        this.pack = pack;
+        this.objectCount = index.getInt(FAN_OUT_OFFSET + (255 * 4));
+    }
+
+    /**
+     * Maps the pack index {@code indexFile} and the {@code .pack} file next to it.
+     *
+     * @throws IOException if either file cannot be mapped or is not in a supported format.
+     */
+    static GitPackFile open(final Path indexFile) throws IOException {
+        final Path packFile = indexFile.resolveSibling(
+            StringUtils.removeEnd(indexFile.getFileName().toString(), ".idx") + ".pack"
+        );
+        final MappedByteBuffer index = map(indexFile);
+        if (
+            index.limit() < OBJECT_NAMES_OFFSET ||
+            index.getInt(0) != INDEX_SIGNATURE ||
+            index.getInt(4) != INDEX_VERSION
+        ) {
+            throw new IOException("unsupported pack index format: " + indexFile);
+        }
+        final MappedByteBuffer pack = map(packFile);
+        if (pack.limit() < 12 || pack.getInt(0) != PACK_SIGNATURE) {
+            throw new IOException("not a pack file: " + packFile);
+        }
+        return new GitPackFile(packFile, index, pack);
+    }
+
+    private static MappedByteBuffer map(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(
+                    "files larger than 2 GiB cannot be mapped: " + file
+                );
+            }
+            return channel.map(MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * @return the offset within the pack of the object {@code objectId}, or {@link Optional#empty()} if this pack does
+     * not contain it.
+     */
+    Optional<Long> findOffset(final byte[] objectId) {
+        final int firstByte = objectId[0] & 0xff;
+        int low = firstByte == 0
+            ? 0
+            : index.getInt(FAN_OUT_OFFSET + ((firstByte - 1) * 4));
+        int high = index.getInt(FAN_OUT_OFFSET + (firstByte * 4)) - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = compareObjectName(middle, objectId);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return Optional.of(offsetOf(middle));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private int compareObjectName(final int position, final byte[] objectId) {
+        final int nameOffset = OBJECT_NAMES_OFFSET + (position * OBJECT_ID_BYTES);
+        for (int i = 0; i < OBJECT_ID_BYTES; i++) {
+            final int difference =
+                (index.get(nameOffset + i) & 0xff) - (objectId[i] & 0xff);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return 0;
+    }
+
+    private long offsetOf(final int position) {
+        final int offsetsOffset =
+            OBJECT_NAMES_OFFSET + (objectCount * (OBJECT_ID_BYTES + 4));
+        final int offset = index.getInt(offsetsOffset + (position * 4));
+        if (offset >= 0) {
+            return offset;
+        }
+        // the most significant bit flags an index into the table of 8 byte offsets which follows
+        final int largeOffsetsOffset = offsetsOffset + (objectCount * 4);
+        return index.getLong(largeOffsetsOffset + ((offset & 0x7fffffff) * 8));
+    }
+
+    /**
+     * Reads the object at {@code offset}, applying its chain of deltas if it is stored as a delta. Bases stored as
+     * deltas against an object outside of this pack are read through {@code objectDatabase}.
+     */
+    GitObject read(final long offset, final GitObjectDatabase objectDatabase)
+        throws IOException {
+        if (offset >= pack.limit()) {
+            throw new EOFException("object offset beyond the end of " + packFile);
+        }
+        int position = (int) offset;
+        int header = pack.get(position++) & 0xff;
+        final int type = (header >> 4) & 7;
+        long size = header & 0x0f;
+        int shift = 4;
+        while ((header & 0x80) != 0) {
+            header = pack.get(position++) & 0xff;
+            size |= (long) (header & 0x7f) << shift;
+            shift += 7;
+        }
+
+        if (type == OBJ_OFS_DELTA) {
+            int negativeOffset = pack.get(position++) & 0xff;
+            long baseOffsetDistance = negativeOffset & 0x7f;
+            while ((negativeOffset & 0x80) != 0) {
+                negativeOffset = pack.get(position++) & 0xff;
+                baseOffsetDistance =
+                    ((baseOffsetDistance + 1) << 7) | (negativeOffset & 0x7f);
+            }
+            final GitObject base = read(offset - baseOffsetDistance, objectDatabase);
+            return new GitObject(
+                base.type,
+                applyDelta(base.data, inflate(position, size))
+            );
+        }
+        if (type == OBJ_REF_DELTA) {
+            final byte[] baseObjectId = new byte[OBJECT_ID_BYTES];
+            final ByteBuffer baseObjectIdBuffer = pack.duplicate();
+            baseObjectIdBuffer.position(position);
+            baseObjectIdBuffer.get(baseObjectId);
+            final GitObject base = objectDatabase.read(
+                GitObjectDatabase.toObjectId(baseObjectId)
+            );
+            return new GitObject(
+                base.type,
+                applyDelta(base.data, inflate(position + OBJECT_ID_BYTES, size))
+            );
+        }
+        return new GitObject(type, inflate(position, size));
+    }
+
+    private byte[] inflate(final int position, final long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("object too large to read into memory in " + packFile);
+        }
+        final byte[] inflated = new byte[(int) size];
+        final byte[] input = new byte[INFLATE_INPUT_BYTES];
+        final ByteBuffer compressed = pack.duplicate();
+        compressed.position(position);
+        final Inflater inflater = new Inflater();
+        try {
+            int inflatedCount = 0;
+            while (inflatedCount < inflated.length) {
+                if (inflater.needsInput()) {
+                    final int inputCount = Math.min(input.length, compressed.remaining());
+                    if (inputCount == 0) {
+                        throw new EOFException("truncated object in " + packFile);
+                    }
+                    compressed.get(input, 0, inputCount);
+                    inflater.setInput(input, 0, inputCount);
+                }
+                inflatedCount +=
+                    inflater.inflate(
+                        inflated,
+                        inflatedCount,
+                        inflated.length - inflatedCount
+                    );
+                if (inflater.finished() && inflatedCount < inflated.length) {
+                    throw new EOFException("truncated object in " + packFile);
+                }
+            }
+            return inflated;
+        } catch (final DataFormatException e) {
+            throw new IOException("corrupt object in " + packFile, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Rebuilds an object from its {@code base} and a git delta: the sizes of the base and the result, followed by
+     * instructions to either copy a range of the base or insert the bytes which follow the instruction.
+     */
+    private byte[] applyDelta(final byte[] base, final byte[] delta) throws IOException {
+        final byte[] result;
+        int resultPosition = 0;
+        try {
+            final int[] position = { 0 };
+            final long baseSize = readDeltaSize(delta, position);
+            final long resultSize = readDeltaSize(delta, position);
+            if (baseSize != base.length || resultSize > Integer.MAX_VALUE) {
+                throw new IOException("corrupt delta in " + packFile);
+            }
+            result = new byte[(int) resultSize];
+            int deltaPosition = position[0];
+            while (deltaPosition < delta.length) {
+                final int instruction = delta[deltaPosition++] & 0xff;
+                if ((instruction & 0x80) != 0) {
+                    long copyOffset = 0;
+                    for (int i = 0; i < 4; i++) {
+                        if ((instruction & (1 << i)) != 0) {
+                            copyOffset |=
+                                (long) (delta[deltaPosition++] & 0xff) << (8 * i);
+                        }
+                    }
+                    int copySize = 0;
+                    for (int i = 0; i < 3; i++) {
+                        if ((instruction & (0x10 << i)) != 0) {
+                            copySize |= (delta[deltaPosition++] & 0xff) << (8 * i);
+                        }
+                    }
+                    if (copySize == 0) {
+                        copySize = 0x10000;
+                    }
+                    System.arraycopy(
+                        base,
+                        (int) copyOffset,
+                        result,
+                        resultPosition,
+                        copySize
+                    );
+                    resultPosition += copySize;
+                } else if (instruction != 0) {
+                    System.arraycopy(
+                        delta,
+                        deltaPosition,
+                        result,
+                        resultPosition,
+                        instruction
+                    );
+                    deltaPosition += instruction;
+                    resultPosition += instruction;
+                } else {
+                    throw new IOException("corrupt delta in " + packFile);
+                }
+            }
+        } catch (final IndexOutOfBoundsException e) {
+            throw new IOException("corrupt delta in " + packFile, e);
+        }
+        if (resultPosition != result.length) {
+            throw new IOException("corrupt delta in " + packFile);
+        }
+        return result;
+    }
+
+    private static long readDeltaSize(final byte[] delta, final int[] position) {
+        long size = 0;
+        int shift = 0;
+        int sizeByte;
+        do {
+            sizeByte = delta[position[0]++] & 0xff;
+            size |= (long) (sizeByte & 0x7f) << shift;
+            shift += 7;
+        } while ((sizeByte & 0x80) != 0);
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return packFile.toString();
+    }
+}
@@ -0,0 +1,43 @@
+package com.intuit.innersource.reposcanner.repofilepath.bare;
+
+import com.intuit.innersource.reposcanner.repofilepath.bare.ImmutableGitTreeEntry;
+import org.immutables.value.Value.Immutable;
+import org.immutables.value.Value.Parameter;
+import org.immutables.value.Value.Style;
+import org.immutables.value.Value.Style.ImplementationVisibility;
+
+/**
+ * An entry of a git tree object: a file or a sub directory of the directory the tree represents.
+ */
+@Immutable(builder = false)
+@Style(visibility = ImplementationVisibility.PACKAGE)
+abstract class GitTreeEntry {
+
+    private static final String TREE_MODE = "40000";
+
+    /**
+     * @return the name of the file or directory within its parent directory.
+     */
+    @Parameter
+    abstract String name();
+
+    /**
+     * @return the octal file mode, e.g. {@code 100644} for a regular file or {@code 40000} for a directory.
+     */
+    @Parameter
+    abstract String mode();
+
+    /**
+     * @return the sha of the blob or tree object holding the entry's content.
+     */
+    @Parameter
+    abstract String objectId();
+
+    boolean isTree() {
+        return TREE_MODE.equals(mode());
+    }
+
+    static GitTreeEntry of(final String name, final String mode, final String objectId) {
+        return ImmutableGitTreeEntry.of(name, mode, objectId);
+    }
+}
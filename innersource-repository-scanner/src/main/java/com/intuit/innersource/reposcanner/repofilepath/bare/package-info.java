@@ -0,0 +1,19 @@
+/**
+ * RepositoryFilePath implementation which reads the trees and blobs of a commit straight from the object database of
+ * a local, typically bare, git repository, without a checked out working tree.
+ *
+ * <h1>Usage:</h1>
+ * <pre>
+ * InnerSourceReadinessReport report =
+ *   InnerSourceReadinessReportCommand.create(
+ *     BareRepositoryPath.of(Paths.get("/path/to/mirror.git"))
+ *   )
+ *   .build()
+ *   .call();
+ * </pre>
+ * <p>The {@code HEAD} commit is read by default, any branch, tag or commit sha can be read instead.
+ * <pre>
+ * BareRepositoryPath.create(Paths.get("/path/to/mirror.git")).revision("release/1.x").build()
+ * </pre>
+ */
+package com.intuit.innersource.reposcanner.repofilepath.bare;
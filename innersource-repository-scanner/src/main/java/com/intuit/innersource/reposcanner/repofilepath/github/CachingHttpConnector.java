@@ -0,0 +1,695 @@
+package com.intuit.innersource.reposcanner.repofilepath.github;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.intuit.innersource.reposcanner.repofilepath.AtomicFiles;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.ProtocolException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
+import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.HttpConnector;
+
+/**
+ * A GitHub api {@link HttpConnector} which caches the successful responses of {@code GET} requests on disk along with
+ * their {@code ETag} and {@code Last-Modified} validators, and revalidates them with conditional requests. A {@code
+ * 304 Not Modified} response, which does not count against the GitHub rate limit, is served to the GitHub api client
+ * as the cached response, so re-scanning repositories which have not changed since the last scan re-downloads neither
+ * their directory listings nor their file contents.
+ *
+ * <p>The cache is bounded by the total size of its entries, evicting the least recently used entries first. Entries
+ * are keyed by the request url, its {@code Accept} header and its {@code Authorization} header, so that clients
+ * authenticated as different users never share responses.</p>
+ *
+ * <p>Use with {@link GitHubBuilder#withConnector}, sharing one connector between the clients using the same cache
+ * directory.</p>
+ */
+public final class CachingHttpConnector implements HttpConnector {
+
+    private static final int CACHE_ENTRY_FORMAT_VERSION = 1;
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    /**
+     * The response headers describing the cached body, which are served from the cached response rather than from the
+     * {@code 304 Not Modified} response revalidating it.
+     */
+    private static final Set<String> ENTITY_HEADERS = ImmutableSet.of(
+        "content-type",
+        "content-encoding",
+        "content-length",
+        "etag",
+        "last-modified",
+        "link"
+    );
+
+    private final HttpConnector connector;
+    private final Path cacheDirectory;
+    private final long maximumSizeBytes;
+
+    /**
+     * The size of every cache entry by cache key, in least recently used first order.
+     */
+    private final LinkedHashMap<String, Long> entrySizes = new LinkedHashMap<>(
+        16,
+        0.75f,
+        true
+    );
+    private long totalSizeBytes;
+
+    private final AtomicLong notModifiedCount = new AtomicLong();
+    private final AtomicLong storedCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+
+    private CachingHttpConnector(
+        final HttpConnector connector,
+        final Path cacheDirectory,
+        final long maximumSizeBytes
+    ) {
+        this.connector = connector;
+        this.cacheDirectory = cacheDirectory;
+        this.maximumSizeBytes = maximumSizeBytes;
+    }
+
+    /**
+     * Creates a connector caching the responses of {@link HttpConnector#DEFAULT} in {@code cacheDirectory}, creating
+     * the directory if needed. Entries cached by a previous run are reused, the least recently used ones being
+     * evicted first.
+     *
+     * @param maximumSizeBytes the maximum total size of the cached responses.
+     */
+    public static CachingHttpConnector create(
+        final Path cacheDirectory,
+        final long maximumSizeBytes
+    ) {
+        return create(HttpConnector.DEFAULT, cacheDirectory, maximumSizeBytes);
+    }
+
+    static CachingHttpConnector create(
+        final HttpConnector connector,
+        final Path cacheDirectory,
+        final long maximumSizeBytes
+    ) {
+        if (maximumSizeBytes <= 0) {
+            throw new IllegalArgumentException(
+                "the maximum size of the GitHub api response cache must be positive"
+            );
+        }
+        final CachingHttpConnector cachingConnector = new CachingHttpConnector(
+            connector,
+            cacheDirectory,
+            maximumSizeBytes
+        );
+        try {
+            Files.createDirectories(cacheDirectory);
+            try (Stream<Path> cacheFiles = Files.list(cacheDirectory)) {
+                final List<Path> cacheEntryFiles = cacheFiles
+                    .filter(Files::isRegularFile)
+                    .filter(
+                        cacheFile -> !cacheFile.toString().endsWith(TEMPORARY_FILE_SUFFIX)
+                    )
+                    .collect(Collectors.toList());
+                // the modified time of an entry is updated when it is used, restore the least recently used order
+                final Map<Path, FileTime> lastUsedTimes = new LinkedHashMap<>();
+                for (final Path cacheEntryFile : cacheEntryFiles) {
+                    lastUsedTimes.put(
+                        cacheEntryFile,
+                        Files.getLastModifiedTime(cacheEntryFile)
+                    );
+                }
+                cacheEntryFiles.sort(Comparator.comparing(lastUsedTimes::get));
+                synchronized (cachingConnector.entrySizes) {
+                    for (final Path cacheEntryFile : cacheEntryFiles) {
+                        cachingConnector.addEntry(
+                            cacheEntryFile.getFileName().toString(),
+                            Files.size(cacheEntryFile)
+                        );
+                    }
+                    cachingConnector.evictLeastRecentlyUsedEntries();
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return cachingConnector;
+    }
+
+    @Override
+    public HttpURLConnection connect(final URL url) throws IOException {
+        return new CachingHttpURLConnection(url, connector.connect(url));
+    }
+
+    /**
+     * @return the number of responses served from the cache after being revalidated by a {@code 304 Not Modified}.
+     */
+    public long getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    /**
+     * @return the number of responses stored in the cache.
+     */
+    public long getStoredCount() {
+        return storedCount.get();
+    }
+
+    /**
+     * @return the number of cached responses evicted to keep the cache within its maximum size.
+     */
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    /**
+     * @return the total size of the cached responses.
+     */
+    public long getSizeBytes() {
+        synchronized (entrySizes) {
+            return totalSizeBytes;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "CachingHttpConnector{cacheDirectory=" +
+            cacheDirectory +
+            ", notModified=" +
+            getNotModifiedCount() +
+            ", stored=" +
+            getStoredCount() +
+            ", evicted=" +
+            getEvictedCount() +
+            ", sizeBytes=" +
+            getSizeBytes() +
+            "}"
+        );
+    }
+
+    private CachedResponse readEntry(final String cacheKey) {
+        synchronized (entrySizes) {
+            if (!entrySizes.containsKey(cacheKey)) {
+                return null;
+            }
+        }
+        final Path cacheEntryFile = cacheDirectory.resolve(cacheKey);
+        try (
+            DataInputStream in = new DataInputStream(Files.newInputStream(cacheEntryFile))
+        ) {
+            if (in.readInt() != CACHE_ENTRY_FORMAT_VERSION) {
+                removeEntry(cacheKey);
+                return null;
+            }
+            final int responseCode = in.readInt();
+            final String responseMessage = in.readUTF();
+            final Map<String, List<String>> headers = new TreeMap<>(
+                String.CASE_INSENSITIVE_ORDER
+            );
+            for (int headerCount = in.readInt(); headerCount > 0; headerCount--) {
+                final String name = in.readUTF();
+                final ImmutableList.Builder<String> values = ImmutableList.builder();
+                for (int valueCount = in.readInt(); valueCount > 0; valueCount--) {
+                    values.add(in.readUTF());
+                }
+                headers.put(name, values.build());
+            }
+            final byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new CachedResponse(responseCode, responseMessage, headers, body);
+        } catch (final IOException | RuntimeException e) {
+            // a corrupt entry, e.g. written by a process which was killed, is fetched again
+            removeEntry(cacheKey);
+            return null;
+        }
+    }
+
+    private void writeEntry(final String cacheKey, final CachedResponse response) {
+        final Path cacheEntryFile = cacheDirectory.resolve(cacheKey);
+        try {
+            final Path temporaryFile = Files.createTempFile(
+                cacheDirectory,
+                cacheKey,
+                TEMPORARY_FILE_SUFFIX
+            );
+            AtomicFiles.replace(
+                cacheEntryFile,
+                temporaryFile,
+                file -> {
+                    try (
+                        DataOutputStream out = new DataOutputStream(
+                            Files.newOutputStream(file)
+                        )
+                    ) {
+                        out.writeInt(CACHE_ENTRY_FORMAT_VERSION);
+                        out.writeInt(response.responseCode);
+                        out.writeUTF(StringUtils.defaultString(response.responseMessage));
+                        out.writeInt(response.headers.size());
+                        for (final Map.Entry<String, List<String>> header : response.headers.entrySet()) {
+                            out.writeUTF(header.getKey());
+                            out.writeInt(header.getValue().size());
+                            for (final String value : header.getValue()) {
+                                out.writeUTF(StringUtils.defaultString(value));
+                            }
+                        }
+                        out.writeInt(response.body.length);
+                        out.write(response.body);
+                    }
+                }
+            );
+            final long size = Files.size(cacheEntryFile);
+            synchronized (entrySizes) {
+                removeEntrySize(cacheKey);
+                addEntry(cacheKey, size);
+                evictLeastRecentlyUsedEntries();
+            }
+            storedCount.incrementAndGet();
+        } catch (final IOException e) {
+            // failing to cache a response only costs a full request the next time it is needed
+            removeEntry(cacheKey);
+        }
+    }
+
+    private void touchEntry(final String cacheKey) {
+        synchronized (entrySizes) {
+            entrySizes.get(cacheKey);
+        }
+        try {
+            Files.setLastModifiedTime(
+                cacheDirectory.resolve(cacheKey),
+                FileTime.fromMillis(System.currentTimeMillis())
+            );
+        } catch (final IOException e) {
+            // the entry is only evicted sooner by the next run
+        }
+    }
+
+    private void removeEntry(final String cacheKey) {
+        synchronized (entrySizes) {
+            removeEntrySize(cacheKey);
+        }
+        deleteEntryFile(cacheKey);
+    }
+
+    private void addEntry(final String cacheKey, final long size) {
+        entrySizes.put(cacheKey, size);
+        totalSizeBytes += size;
+    }
+
+    private void removeEntrySize(final String cacheKey) {
+        final Long size = entrySizes.remove(cacheKey);
+        if (size != null) {
+            totalSizeBytes -= size;
+        }
+    }
+
+    private void evictLeastRecentlyUsedEntries() {
+        final Iterator<Map.Entry<String, Long>> entries = entrySizes
+            .entrySet()
+            .iterator();
+        while (totalSizeBytes > maximumSizeBytes && entries.hasNext()) {
+            final Map.Entry<String, Long> leastRecentlyUsed = entries.next();
+            entries.remove();
+            totalSizeBytes -= leastRecentlyUsed.getValue();
+            deleteEntryFile(leastRecentlyUsed.getKey());
+            evictedCount.incrementAndGet();
+        }
+    }
+
+    private void deleteEntryFile(final String cacheKey) {
+        try {
+            Files.deleteIfExists(cacheDirectory.resolve(cacheKey));
+        } catch (final IOException e) {
+            // an entry file which cannot be deleted is overwritten when its response is cached again
+        }
+    }
+
+    /**
+     * A response as stored in the cache.
+     */
+    private static final class CachedResponse {
+
+        private final int responseCode;
+        private final String responseMessage;
+        private final Map<String, List<String>> headers;
+        private final byte[] body;
+
+        private CachedResponse(
+            final int responseCode,
+            final String responseMessage,
+            final Map<String, List<String>> headers,
+            final byte[] body
+        ) {
+            this.responseCode = responseCode;
+            this.responseMessage = responseMessage;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        private String getHeaderField(final String name) {
+            final List<String> values = headers.get(name);
+            return values == null || values.isEmpty() ? null : Iterables.getLast(values);
+        }
+
+        /**
+         * @return this response with the headers of the {@code 304 Not Modified} response which revalidated it, such
+         * as its current rate limit headers.
+         */
+        private CachedResponse revalidatedBy(
+            final Map<String, List<String>> notModifiedHeaders
+        ) {
+            final Map<String, List<String>> revalidatedHeaders = toHeaders(
+                notModifiedHeaders
+            );
+            revalidatedHeaders
+                .keySet()
+                .removeIf(name -> ENTITY_HEADERS.contains(name.toLowerCase()));
+            headers.forEach(
+                (name, values) -> {
+                    if (ENTITY_HEADERS.contains(name.toLowerCase())) {
+                        revalidatedHeaders.put(name, values);
+                    }
+                }
+            );
+            return new CachedResponse(
+                responseCode,
+                responseMessage,
+                revalidatedHeaders,
+                body
+            );
+        }
+    }
+
+    /**
+     * @return the response header fields without the status line, whose key is null.
+     */
+    private static Map<String, List<String>> toHeaders(
+        final Map<String, List<String>> headerFields
+    ) {
+        final Map<String, List<String>> headers = new TreeMap<>(
+            String.CASE_INSENSITIVE_ORDER
+        );
+        headerFields.forEach(
+            (name, values) -> {
+                if (name != null && values != null) {
+                    headers.put(name, ImmutableList.copyOf(values));
+                }
+            }
+        );
+        return headers;
+    }
+
+    /**
+     * A connection which adds the validators of the cached response of its request, if any, and serves the cached
+     * response when the server replies that it was not modified. The field holding the actual connection must be
+     * named {@code delegate}: it is how the GitHub api client finds the connection to set request methods which
+     * {@link HttpURLConnection} does not support, such as {@code PATCH}.
+     */
+    private final class CachingHttpURLConnection extends HttpURLConnection {
+
+        private final HttpURLConnection delegate;
+        private boolean exchanged;
+        private CachedResponse servedResponse;
+
+        private CachingHttpURLConnection(
+            final URL url,
+            final HttpURLConnection delegate
+        ) {
+            super(url);
+            this.delegate = delegate;
+        }
+
+        private void exchange() throws IOException {
+            if (exchanged) {
+                return;
+            }
+            exchanged = true;
+            final String cacheKey = "GET".equals(delegate.getRequestMethod()) &&
+                !delegate.getDoOutput()
+                ? cacheKey()
+                : null;
+            final CachedResponse cachedResponse = cacheKey == null
+                ? null
+                : readEntry(cacheKey);
+            if (cachedResponse != null) {
+                final String entityTag = cachedResponse.getHeaderField("ETag");
+                final String lastModified = cachedResponse.getHeaderField(
+                    "Last-Modified"
+                );
+                if (entityTag != null) {
+                    delegate.setRequestProperty("If-None-Match", entityTag);
+                }
+                if (lastModified != null) {
+                    delegate.setRequestProperty("If-Modified-Since", lastModified);
+                }
+            }
+
+            final int responseCode = delegate.getResponseCode();
+            if (responseCode == HTTP_NOT_MODIFIED && cachedResponse != null) {
+                servedResponse = cachedResponse.revalidatedBy(delegate.getHeaderFields());
+                touchEntry(cacheKey);
+                notModifiedCount.incrementAndGet();
+            } else if (responseCode == HTTP_OK && cacheKey != null && isCacheable()) {
+                final byte[] body;
+                try (InputStream in = delegate.getInputStream()) {
+                    body = ByteStreams.toByteArray(in);
+                }
+                servedResponse =
+                    new CachedResponse(
+                        responseCode,
+                        delegate.getResponseMessage(),
+                        toHeaders(delegate.getHeaderFields()),
+                        body
+                    );
+                if (body.length <= maximumSizeBytes) {
+                    writeEntry(cacheKey, servedResponse);
+                }
+            } else if (cachedResponse != null && responseCode == HTTP_NOT_FOUND) {
+                removeEntry(cacheKey);
+            }
+        }
+
+        private String cacheKey() {
+            final String request =
+                delegate.getRequestMethod() +
+                ' ' +
+                url +
+                '\n' +
+                StringUtils.defaultString(delegate.getRequestProperty("Accept")) +
+                '\n' +
+                StringUtils.defaultString(delegate.getRequestProperty("Authorization"));
+            return Hashing
+                .sha256()
+                .hashString(request, StandardCharsets.UTF_8)
+                .toString();
+        }
+
+        private boolean isCacheable() {
+            final String cacheControl = StringUtils.defaultString(
+                delegate.getHeaderField("Cache-Control")
+            );
+            return (
+                !StringUtils.containsIgnoreCase(cacheControl, "no-store") &&
+                (
+                    delegate.getHeaderField("ETag") != null ||
+                    delegate.getHeaderField("Last-Modified") != null
+                )
+            );
+        }
+
+        @Override
+        public void connect() throws IOException {
+            exchange();
+        }
+
+        @Override
+        public void disconnect() {
+            delegate.disconnect();
+        }
+
+        @Override
+        public boolean usingProxy() {
+            return delegate.usingProxy();
+        }
+
+        @Override
+        public void setRequestMethod(final String method) throws ProtocolException {
+            delegate.setRequestMethod(method);
+            super.setRequestMethod(method);
+        }
+
+        @Override
+        public String getRequestMethod() {
+            return delegate.getRequestMethod();
+        }
+
+        @Override
+        public void setRequestProperty(final String key, final String value) {
+            delegate.setRequestProperty(key, value);
+        }
+
+        @Override
+        public void addRequestProperty(final String key, final String value) {
+            delegate.addRequestProperty(key, value);
+        }
+
+        @Override
+        public String getRequestProperty(final String key) {
+            return delegate.getRequestProperty(key);
+        }
+
+        @Override
+        public Map<String, List<String>> getRequestProperties() {
+            return delegate.getRequestProperties();
+        }
+
+        @Override
+        public void setDoOutput(final boolean doOutput) {
+            delegate.setDoOutput(doOutput);
+        }
+
+        @Override
+        public boolean getDoOutput() {
+            return delegate.getDoOutput();
+        }
+
+        @Override
+        public void setConnectTimeout(final int timeout) {
+            delegate.setConnectTimeout(timeout);
+        }
+
+        @Override
+        public int getConnectTimeout() {
+            return delegate.getConnectTimeout();
+        }
+
+        @Override
+        public void setReadTimeout(final int timeout) {
+            delegate.setReadTimeout(timeout);
+        }
+
+        @Override
+        public int getReadTimeout() {
+            return delegate.getReadTimeout();
+        }
+
+        @Override
+        public void setInstanceFollowRedirects(final boolean followRedirects) {
+            delegate.setInstanceFollowRedirects(followRedirects);
+        }
+
+        @Override
+        public boolean getInstanceFollowRedirects() {
+            return delegate.getInstanceFollowRedirects();
+        }
+
+        @Override
+        public OutputStream getOutputStream() throws IOException {
+            return delegate.getOutputStream();
+        }
+
+        @Override
+        public int getResponseCode() throws IOException {
+            exchange();
+            return servedResponse != null
+                ? servedResponse.responseCode
+                : delegate.getResponseCode();
+        }
+
+        @Override
+        public String getResponseMessage() throws IOException {
+            exchange();
+            return servedResponse != null
+                ? servedResponse.responseMessage
+                : delegate.getResponseMessage();
+        }
+
+        @Override
+        public Map<String, List<String>> getHeaderFields() {
+            if (!exchangeQuietly()) {
+                return delegate.getHeaderFields();
+            }
+            return servedResponse != null
+                ? Collections.unmodifiableMap(servedResponse.headers)
+                : delegate.getHeaderFields();
+        }
+
+        @Override
+        public String getHeaderField(final String name) {
+            if (!exchangeQuietly()) {
+                return delegate.getHeaderField(name);
+            }
+            return servedResponse != null
+                ? servedResponse.getHeaderField(name)
+                : delegate.getHeaderField(name);
+        }
+
+        @Override
+        public String getHeaderFieldKey(final int n) {
+            if (!exchangeQuietly() || servedResponse == null) {
+                return delegate.getHeaderFieldKey(n);
+            }
+            return Iterables.get(servedResponse.headers.keySet(), n, null);
+        }
+
+        @Override
+        public String getHeaderField(final int n) {
+            if (!exchangeQuietly() || servedResponse == null) {
+                return delegate.getHeaderField(n);
+            }
+            final String name = getHeaderFieldKey(n);
+            return name == null ? null : servedResponse.getHeaderField(name);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            exchange();
+            return servedResponse != null
+                ? new ByteArrayInputStream(servedResponse.body)
+                : delegate.getInputStream();
+        }
+
+        @Override
+        public InputStream getErrorStream() {
+            return servedResponse != null ? null : delegate.getErrorStream();
+        }
+
+        /**
+         * Like {@link HttpURLConnection#getHeaderField(String)}, the header accessors report a failed request as missing
+         * headers rather than throwing.
+         *
+         * @return true if the request was exchanged.
+         */
+        private boolean exchangeQuietly() {
+            try {
+                exchange();
+                return true;
+            } catch (final IOException e) {
+                return false;
+            }
+        }
+    }
+}
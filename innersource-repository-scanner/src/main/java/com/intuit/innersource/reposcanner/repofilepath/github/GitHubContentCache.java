@@ -0,0 +1,222 @@
+package com.intuit.innersource.reposcanner.repofilepath.github;
+
+import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOUtils;
+import org.kohsuke.github.GHContent;
+import org.kohsuke.github.GHFileNotFoundException;
+
+/**
+ * The caches shared by the paths of a single GitHub repository.
+ * <ul>
+ * <li>File contents keyed by git blob sha, bounded by the total number of bytes held in memory. A blob sha
+ * identifies its content exactly, so entries never go stale, modified files simply get a new sha.</li>
+ * <li>The result of looking up a path with the file contents api, including paths that were not found as a file or
+ * as a directory, bounded to the {@value #MAXIMUM_FILE_CONTENTS} most recently used paths. Unlike blob contents these
+ * go stale when the path is written to, so every write made through the repository's paths invalidates or replaces
+ * the entries of the path it wrote and of its parent directories.</li>
+ * <li>The content returned by every write made through the repository's paths. These are kept apart from the looked up
+ * paths and never evicted, since looking a written path up again would read it at the revision it was read at
+ * before the write. Only as many are held as files were written.</li>
+ * </ul>
+ */
+final class GitHubContentCache {
+
+    /**
+     * Opens a stream over the content of a blob, typically by downloading it from the GitHub api.
+     */
+    @FunctionalInterface
+    interface ContentLoader {
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * Looks up a path of the repository, typically with a file contents api request.
+     */
+    @FunctionalInterface
+    interface FileContentLoader {
+        GHContent load() throws IOException;
+    }
+
+    /**
+     * Lists a directory of the repository, typically with a file contents api request.
+     */
+    @FunctionalInterface
+    interface DirectoryContentLoader {
+        List<GHContent> load() throws IOException;
+    }
+
+    private final Cache<String, byte[]> contentBySha;
+
+    static final int MAXIMUM_FILE_CONTENTS = 1024;
+
+    private final Cache<String, Optional<GHContent>> fileContentByPath = CacheBuilder
+        .newBuilder()
+        .maximumSize(MAXIMUM_FILE_CONTENTS)
+        .build();
+
+    private final ConcurrentMap<String, GHContent> writtenFileContentByPath = new ConcurrentHashMap<>();
+
+    GitHubContentCache(final long maximumBytes) {
+        this.contentBySha =
+            CacheBuilder
+                .newBuilder()
+                .maximumWeight(maximumBytes)
+                .<String, byte[]>weigher((sha, content) -> content.length)
+                .build();
+    }
+
+    /**
+     * Reads the content of the blob identified by {@code sha}, invoking the {@code loader} only if the content is not
+     * already cached. Content without a known sha is read through the {@code loader} every time.
+     *
+     * @throws UncheckedIOException if the content could not be loaded
+     */
+    InputStream read(final String sha, final ContentLoader loader)
+        throws UncheckedIOException {
+        try {
+            if (sha == null) {
+                return loader.open();
+            }
+            return new ByteArrayInputStream(
+                contentBySha.get(
+                    sha,
+                    () -> {
+                        try (final InputStream content = loader.open()) {
+                            return IOUtils.toByteArray(content);
+                        }
+                    }
+                )
+            );
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw new UncheckedIOException((IOException) e.getCause());
+            }
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Looks up the file at {@code path}, returning the content of its latest write if it was written to through the
+     * repository's paths, and otherwise invoking the {@code loader} only if the path was not looked up recently. A
+     * path the {@code loader} reports as not found is remembered as such.
+     *
+     * @return the file at {@code path}, or {@link Optional#empty()} if there is no file at {@code path}.
+     * @throws IOException if the {@code loader} failed for any other reason than the path not being found, such
+     *                     failures are not cached.
+     */
+    Optional<GHContent> getFileContent(final String path, final FileContentLoader loader)
+        throws IOException {
+        final String normalizedPath = FilenameUtils.normalize(path);
+        final GHContent writtenContent = writtenFileContentByPath.get(normalizedPath);
+        if (writtenContent != null) {
+            return Optional.of(writtenContent);
+        }
+        try {
+            return fileContentByPath.get(
+                normalizedPath,
+                () -> {
+                    try {
+                        return Optional.of(loader.load());
+                    } catch (final IOException e) {
+                        if (isNotFound(e)) {
+                            return Optional.empty();
+                        }
+                        throw e;
+                    }
+                }
+            );
+        } catch (final ExecutionException e) {
+            Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Lists the directory at {@code path} through the {@code loader}, unless nothing was found at {@code path} when it
+     * was last looked up. A directory the {@code loader} reports as not found is remembered as such, so jumping to a
+     * missing directory again does not cost another request.
+     *
+     * @return the contents of the directory at {@code path}.
+     * @throws GHFileNotFoundException if there is no directory at {@code path}.
+     * @throws IOException if the {@code loader} failed for any other reason.
+     */
+    List<GHContent> getDirectoryContent(
+        final String path,
+        final DirectoryContentLoader loader
+    ) throws IOException {
+        final String normalizedPath = FilenameUtils.normalize(path);
+        final Optional<GHContent> fileContent = fileContentByPath.getIfPresent(
+            normalizedPath
+        );
+        if ((fileContent != null) && !fileContent.isPresent()) {
+            throw new GHFileNotFoundException(path + " not found");
+        }
+        try {
+            return loader.load();
+        } catch (final IOException e) {
+            if (isNotFound(e)) {
+                fileContentByPath.put(normalizedPath, Optional.empty());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Records that the file at {@code path} was just written and now has the {@code content} returned by the write.
+     */
+    void putFileContent(final String path, final GHContent content) {
+        final String normalizedPath = FilenameUtils.normalize(path);
+        writtenFileContentByPath.put(normalizedPath, content);
+        invalidateLookups(normalizedPath);
+    }
+
+    /**
+     * Forgets what is known about the file at {@code path}, to be called whenever the file is written to.
+     */
+    void invalidateFileContent(final String path) {
+        final String normalizedPath = FilenameUtils.normalize(path);
+        writtenFileContentByPath.remove(normalizedPath);
+        invalidateLookups(normalizedPath);
+    }
+
+    /**
+     * Forgets the looked up {@code path} along with its parent directories, which exist once a file is written below
+     * them even if they were not found before.
+     */
+    private void invalidateLookups(final String normalizedPath) {
+        for (
+            String path = normalizedPath;
+            !Strings.isNullOrEmpty(path);
+            path = FilenameUtils.getFullPathNoEndSeparator(path)
+        ) {
+            fileContentByPath.invalidate(path);
+            if (path.equals(FilenameUtils.getFullPathNoEndSeparator(path))) {
+                break;
+            }
+        }
+    }
+
+    private static boolean isNotFound(final IOException e) {
+        return Throwables
+            .getCausalChain(e)
+            .stream()
+            .anyMatch(cause -> cause instanceof GHFileNotFoundException);
+    }
+}
@@ -0,0 +1,126 @@
+package com.intuit.innersource.reposcanner.repofilepath.github;
+
+import com.google.common.base.Joiner;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryChangeSet;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.kohsuke.github.GHCommitBuilder;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GHTreeBuilder;
+
+/**
+ * Writes the changes staged to the files of a {@link GitHubRepositoryPath} as a single commit on the repository's
+ * default branch through the Git Data API: a blob per file created or modified, one tree on top of the tree of the
+ * commit the files were read from, the commit and a fast forward update of the branch. The update fails rather than
+ * discarding commits if the branch moved since the files were read.
+ */
+final class GitHubRepositoryChangeSet extends RepositoryChangeSet {
+
+    private final GitHubRepositoryPath root;
+
+    GitHubRepositoryChangeSet(final GitHubRepositoryPath root) {
+        this.root = root;
+    }
+
+    /**
+     * Joins {@code lines} without a trailing line break, as {@link GitHubRepositoryFilePath#appendLines(Iterable)}
+     * does.
+     */
+    @Override
+    protected String formatLines(final Iterable<String> lines) {
+        return Joiner.on("\n").join(lines);
+    }
+
+    /**
+     * Returns the staged path of the file, as the path it was staged for keeps reading the commit it was read at,
+     * whereas the staged path reads that commit with the change applied, as committed.
+     */
+    @Override
+    protected RepositoryFilePath committedFilePath(final FileChange change) {
+        return stage(change.filePath());
+    }
+
+    @Override
+    protected void write(final List<FileChange> changes, final String message)
+        throws IOException {
+        final GHRepository repository = root.repository();
+        final GitHubRequestScheduler requestScheduler = root.requestScheduler();
+        // the commit every file was read at, looked up before the first of them was read
+        final Optional<String> parentCommit = root.getRevision();
+
+        final GHTreeBuilder tree = repository.createTree();
+        if (parentCommit.isPresent()) {
+            final String baseTree = requestScheduler
+                .execute(() -> repository.getTree(parentCommit.get()))
+                .getSha();
+            tree.baseTree(baseTree);
+        }
+        boolean hasFileChanges = false;
+        for (final FileChange change : changes) {
+            if (change.isDirectory()) {
+                // git does not track empty directories, they are created along with their first file
+                continue;
+            }
+            final String content = readContent(change) + change.appendedContent();
+            final String filePath = StringUtils.removeStart(
+                change.filePath().toFilePathString(),
+                "/"
+            );
+            // adding a file to the tree uploads its blob
+            requestScheduler.execute(() -> tree.add(filePath, content, false));
+            hasFileChanges = true;
+        }
+        if (!hasFileChanges) {
+            return;
+        }
+
+        final String treeSha = requestScheduler.execute(tree::create).getSha();
+        final GHCommitBuilder commit = repository
+            .createCommit()
+            .message(message)
+            .tree(treeSha);
+        parentCommit.ifPresent(commit::parent);
+        final String commitSha = requestScheduler.execute(commit::create).getSHA1();
+
+        final String branch = repository.getDefaultBranch();
+        if (branch == null) {
+            throw new IOException(
+                "repository " +
+                root.getRepositoryId() +
+                " has no default branch to commit to"
+            );
+        }
+        if (parentCommit.isPresent()) {
+            requestScheduler.execute(
+                () -> {
+                    repository.getRef("heads/" + branch).updateTo(commitSha);
+                    return null;
+                }
+            );
+        } else {
+            requestScheduler.execute(
+                () -> repository.createRef("refs/heads/" + branch, commitSha)
+            );
+        }
+        for (final FileChange change : changes) {
+            root
+                .contentCache()
+                .invalidateFileContent(change.filePath().toFilePathString());
+        }
+    }
+
+    private static String readContent(final FileChange change) throws IOException {
+        if (!change.existed()) {
+            return "";
+        }
+        try (InputStream content = change.filePath().read()) {
+            return IOUtils.toString(content, StandardCharsets.UTF_8);
+        }
+    }
+}
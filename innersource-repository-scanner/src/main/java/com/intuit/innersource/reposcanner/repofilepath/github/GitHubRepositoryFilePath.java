@@ -11,15 +11,18 @@ import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.immutables.value.Value.Auxiliary;
 import org.immutables.value.Value.Immutable;
 import org.immutables.value.Value.Style;
 import org.immutables.value.Value.Style.BuilderVisibility;
 import org.immutables.value.Value.Style.ImplementationVisibility;
 import org.kohsuke.github.GHContent;
+import org.kohsuke.github.GHContentUpdateResponse;
 import org.kohsuke.github.GHFileNotFoundException;
 
 @Immutable
@@ -31,8 +34,31 @@ abstract class GitHubRepositoryFilePath implements RepositoryFilePath {
 
     public abstract GHContent content();
 
-    public static GitHubRepositoryFilePath of(final GHContent content) {
-        return ImmutableGitHubRepositoryFilePath.builder().content(content).build();
+    /**
+     * The commit the file was read at, see {@link GitHubRepositoryPath#getRevision()}.
+     */
+    @Auxiliary
+    abstract Optional<String> revision();
+
+    @Auxiliary
+    abstract GitHubContentCache contentCache();
+
+    @Auxiliary
+    abstract GitHubRequestScheduler requestScheduler();
+
+    public static GitHubRepositoryFilePath of(
+        final GHContent content,
+        final Optional<String> revision,
+        final GitHubContentCache contentCache,
+        final GitHubRequestScheduler requestScheduler
+    ) {
+        return ImmutableGitHubRepositoryFilePath
+            .builder()
+            .content(content)
+            .revision(revision)
+            .contentCache(contentCache)
+            .requestScheduler(requestScheduler)
+            .build();
     }
 
     @Override
@@ -62,11 +88,8 @@ abstract class GitHubRepositoryFilePath implements RepositoryFilePath {
 
     @Override
     public InputStream read() throws UncheckedIOException {
-        try {
-            return content().read();
-        } catch (final IOException e) {
-            throw new UncheckedIOException(e);
-        }
+        return contentCache()
+            .read(content().getSha(), () -> requestScheduler().execute(content()::read));
     }
 
     @Override
@@ -77,11 +100,19 @@ abstract class GitHubRepositoryFilePath implements RepositoryFilePath {
             );
         }
         try {
-            return content()
-                .listDirectoryContent()
-                .toList()
+            // the api url of the content carries the revision it was read at
+            return requestScheduler()
+                .execute(() -> content().listDirectoryContent().toList())
                 .stream()
-                .map(GitHubRepositoryFilePath::of)
+                .map(
+                    directoryContent ->
+                        of(
+                            directoryContent,
+                            revision(),
+                            contentCache(),
+                            requestScheduler()
+                        )
+                )
                 .collect(Collectors.toList());
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
@@ -96,14 +127,30 @@ abstract class GitHubRepositoryFilePath implements RepositoryFilePath {
     @Override
     public RepositoryFilePath resolvePath(final String other) {
         try {
+            final String resolvedPath = FilenameUtils.normalize(
+                Paths.get(toFilePathString()).resolve(other).toString()
+            );
             return GitHubRepositoryFilePath.of(
-                content()
-                    .getOwner()
+                contentCache()
                     .getFileContent(
-                        FilenameUtils.normalize(
-                            Paths.get(toFilePathString()).resolve(other).toString()
-                        )
+                        resolvedPath,
+                        () ->
+                            requestScheduler()
+                                .execute(
+                                    () ->
+                                        GitHubRepositoryPath.getFileContent(
+                                            content().getOwner(),
+                                            resolvedPath,
+                                            revision()
+                                        )
+                                )
                     )
+                    .orElseThrow(
+                        () -> new GHFileNotFoundException(resolvedPath + " not found")
+                    ),
+                revision(),
+                contentCache(),
+                requestScheduler()
             );
         } catch (final IOException fileContentException) {
             if (
@@ -118,7 +165,10 @@ abstract class GitHubRepositoryFilePath implements RepositoryFilePath {
             ) {
                 return GitHubRepositoryStagedFilePath.of(
                     content().getOwner(),
-                    Paths.get(toFilePathString()).resolve(other)
+                    Paths.get(toFilePathString()).resolve(other),
+                    revision(),
+                    contentCache(),
+                    requestScheduler()
                 );
             }
             throw new UncheckedIOException(fileContentException);
@@ -131,16 +181,35 @@ abstract class GitHubRepositoryFilePath implements RepositoryFilePath {
         // that touch would be a noop.
     }
 
+    /**
+     * Appends to the latest content of the file known to the repository's cache, which is the content at the {@link
+     * #revision()} until the file is written to. The content returned by the update replaces it, since refreshing the
+     * content read at the revision would read it at the revision again.
+     */
     @Override
     public void appendLines(final Iterable<String> lines) {
         try {
+            final GHContent latestContent = contentCache()
+                .getFileContent(toFilePathString(), this::content)
+                .orElse(content());
             final String currentContent = IOUtils.toString(
-                read(),
+                contentCache()
+                    .read(
+                        latestContent.getSha(),
+                        () -> requestScheduler().execute(latestContent::read)
+                    ),
                 StandardCharsets.UTF_8
             );
             final String updatedContent = currentContent + Joiner.on("\n").join(lines);
-            content().update(updatedContent, "modified from InnerSource Readiness Fixup");
-            content().refresh();
+            final GHContentUpdateResponse update = requestScheduler()
+                .execute(
+                    () ->
+                        latestContent.update(
+                            updatedContent,
+                            "modified from InnerSource Readiness Fixup"
+                        )
+                );
+            contentCache().putFileContent(toFilePathString(), update.getContent());
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -2,21 +2,36 @@ package com.intuit.innersource.reposcanner.repofilepath.github;
 
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.google.common.base.Throwables;
+import com.google.common.collect.Sets;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryChangeSet;
 import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import com.intuit.innersource.reposcanner.repofilepath.RevisionedRepositoryFilePath;
+import com.intuit.innersource.reposcanner.repofilepath.StagingRepositoryFilePath;
 import com.intuit.innersource.reposcanner.repofilepath.github.ImmutableGitHubRepositoryPath;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.io.FilenameUtils;
+import org.immutables.value.Value.Auxiliary;
+import org.immutables.value.Value.Check;
+import org.immutables.value.Value.Default;
 import org.immutables.value.Value.Immutable;
+import org.immutables.value.Value.Lazy;
 import org.immutables.value.Value.Style;
 import org.immutables.value.Value.Style.BuilderVisibility;
 import org.immutables.value.Value.Style.ImplementationVisibility;
+import org.kohsuke.github.GHCommit;
+import org.kohsuke.github.GHCompare;
+import org.kohsuke.github.GHContent;
 import org.kohsuke.github.GHFileNotFoundException;
 import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.HttpException;
 
 /**
  * A remote GitHub repository file path representing a repository hosted either by the Public GitHub servers or an
@@ -31,22 +46,259 @@ import org.kohsuke.github.GHRepository;
     visibility = ImplementationVisibility.PACKAGE,
     builderVisibility = BuilderVisibility.PACKAGE
 )
-public abstract class GitHubRepositoryPath implements RepositoryFilePath {
+public abstract class GitHubRepositoryPath
+    implements RevisionedRepositoryFilePath, StagingRepositoryFilePath {
+
+    /**
+     * The compare api lists at most this many changed files, comparisons changing more files are truncated.
+     */
+    private static final int MAXIMUM_COMPARE_FILES = 300;
 
     GitHubRepositoryPath() {}
 
+    public abstract static class Builder {
+
+        Builder() {}
+
+        /**
+         * Fetches the entire tree of the repository's default branch with a single recursive Git Trees API request
+         * the first time it is needed, and answers {@code listAll()}, {@code isDirectory()}, {@code exists()} and
+         * {@code size()} from that in-memory snapshot instead of issuing one request per directory. If GitHub
+         * truncates the tree because the repository is too large, per directory requests are used as before.
+         *
+         * @param useTreeSnapshot whether to serve file metadata from a tree snapshot, defaults to false.
+         * @return {@code this} builder for chaining
+         */
+        public abstract Builder useTreeSnapshot(boolean useTreeSnapshot);
+
+        /**
+         * Overrides the default 32 MiB bound on the total size of file contents cached in memory. Contents are cached
+         * by blob sha and shared by every file path resolved from this repository root, so repeated reads of the same
+         * file within a scan, or across the report and fixup commands, download it only once.
+         *
+         * @param contentCacheMaximumBytes the maximum number of bytes of file content to cache, 0 disables caching.
+         * @return {@code this} builder for chaining
+         */
+        public abstract Builder contentCacheMaximumBytes(long contentCacheMaximumBytes);
+
+        /**
+         * Overrides the default scheduler, which is created for this repository root alone and, since a {@link
+         * GHRepository} does not expose its GitHub client, cannot see the client's rate limit. Supply a scheduler
+         * {@link GitHubRequestScheduler#create created} for the client of {@link #repository()}, whose {@link
+         * GitHubRequestScheduler#rateLimitChecker() rate limit checker} is installed on that client, and share it
+         * between every repository scanned through that client, so that their requests are throttled together as the
+         * client's rate limit runs low.
+         *
+         * @param requestScheduler the scheduler every GitHub api request of this repository is sent through.
+         * @return {@code this} builder for chaining
+         */
+        public abstract Builder requestScheduler(GitHubRequestScheduler requestScheduler);
+
+        public abstract GitHubRepositoryPath build();
+    }
+
     public abstract GHRepository repository();
 
+    @Default
+    public boolean useTreeSnapshot() {
+        return false;
+    }
+
+    @Default
+    public long contentCacheMaximumBytes() {
+        return 32L * 1024L * 1024L;
+    }
+
+    @Check
+    void checkContentCacheMaximumBytes() {
+        if (contentCacheMaximumBytes() < 0) {
+            throw new IllegalArgumentException(
+                "contentCacheMaximumBytes must not be negative"
+            );
+        }
+    }
+
+    /**
+     * Returns the scheduler every GitHub api request of this repository is sent through, its metrics report on the
+     * requests of every repository sharing the scheduler.
+     *
+     * @return the scheduler of this repository's GitHub api requests.
+     */
+    @Default
+    @Auxiliary
+    public GitHubRequestScheduler requestScheduler() {
+        return GitHubRequestScheduler.create();
+    }
+
+    @Lazy
+    GitHubContentCache contentCache() {
+        return new GitHubContentCache(contentCacheMaximumBytes());
+    }
+
+    @Lazy
+    Optional<GitHubRepositoryTree> treeSnapshot() {
+        if (!useTreeSnapshot()) {
+            return Optional.empty();
+        }
+        return GitHubRepositoryTree.fetch(
+            repository(),
+            getRevision(),
+            requestScheduler()
+        );
+    }
+
     /**
      * Creates a new {@code GitHubRepositoryPath} instance from the supplied {@code repository} GitHub api instance.
      *
      * @throws IllegalArgumentException if {@code path} is null
      */
     public static GitHubRepositoryPath of(final GHRepository repository) {
+        return create(repository).build();
+    }
+
+    /**
+     * Creates a new {@code GitHubRepositoryPath.Builder} from the supplied {@code repository} GitHub api instance,
+     * which can optionally be configured before building the path.
+     *
+     * @throws IllegalArgumentException if {@code path} is null
+     */
+    public static Builder create(final GHRepository repository) {
         if (repository == null) {
             throw new IllegalArgumentException("repository must not be null");
         }
-        return ImmutableGitHubRepositoryPath.builder().repository(repository).build();
+        return ImmutableGitHubRepositoryPath.builder().repository(repository);
+    }
+
+    @Override
+    public String getRepositoryId() {
+        return repository().getHtmlUrl().toString();
+    }
+
+    /**
+     * Looks up the commit at the head of the repository's default branch with a single Git Refs API request the first
+     * time it is needed, which is before the first file is read. Every file, directory listing and tree read through
+     * this path and the paths resolved from it is read at that commit, so they stay consistent with each other and
+     * with the commit a {@link #newChangeSet() change set} is written on top of, even if the branch moves meanwhile.
+     */
+    @Lazy
+    @Override
+    public Optional<String> getRevision() throws UncheckedIOException {
+        final String defaultBranch = repository().getDefaultBranch();
+        if (defaultBranch == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(
+                requestScheduler()
+                    .execute(() -> repository().getRef("heads/" + defaultBranch))
+                    .getObject()
+                    .getSha()
+            );
+        } catch (final IOException e) {
+            if (
+                Throwables
+                    .getCausalChain(e)
+                    .stream()
+                    .anyMatch(
+                        cause ->
+                            (cause instanceof GHFileNotFoundException) ||
+                            (
+                                (cause instanceof HttpException) &&
+                                ((HttpException) cause).getResponseCode() == 409
+                            )
+                    )
+            ) {
+                // the default branch does not exist yet, the repository is empty
+                return Optional.empty();
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Compares {@code revision} with the head of the repository's default branch with a single compare API request.
+     * The changes cannot be determined if the head is not a descendant of {@code revision}, since GitHub then lists
+     * the changes since the merge base of the two, nor if more files changed than the compare API lists.
+     */
+    @Override
+    public Optional<Set<String>> getFilePathsChangedSince(final String revision)
+        throws UncheckedIOException {
+        final Optional<String> headRevision = getRevision();
+        if (!headRevision.isPresent()) {
+            return Optional.empty();
+        }
+        if (headRevision.get().equals(revision)) {
+            return Optional.of(Collections.emptySet());
+        }
+        try {
+            final GHCompare compare = requestScheduler()
+                .execute(() -> repository().getCompare(revision, headRevision.get()));
+            if (
+                (
+                    compare.getStatus() != GHCompare.Status.ahead &&
+                    compare.getStatus() != GHCompare.Status.identical
+                ) ||
+                compare.getFiles().length >= MAXIMUM_COMPARE_FILES
+            ) {
+                return Optional.empty();
+            }
+            final Set<String> changedFilePaths = Sets.newLinkedHashSet();
+            for (final GHCommit.File file : compare.getFiles()) {
+                changedFilePaths.add('/' + file.getFileName());
+                if (file.getPreviousFilename() != null) {
+                    changedFilePaths.add('/' + file.getPreviousFilename());
+                }
+            }
+            return Optional.of(changedFilePaths);
+        } catch (final IOException e) {
+            if (
+                Throwables
+                    .getCausalChain(e)
+                    .stream()
+                    .anyMatch(cause -> cause instanceof GHFileNotFoundException)
+            ) {
+                // revision is not a commit of this repository
+                return Optional.empty();
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a change set which writes every staged change as a single commit on top of the {@link #getRevision()
+     * revision} the files were read from, with one Git Data API request per file changed plus a handful for the tree,
+     * the commit and the branch, instead of the commit per file created or modified made by the write operations of
+     * the paths resolved from this repository root.
+     */
+    @Override
+    public RepositoryChangeSet newChangeSet() {
+        return new GitHubRepositoryChangeSet(this);
+    }
+
+    /**
+     * Looks up the file at {@code path} at {@code revision}, or on the default branch of an empty repository.
+     */
+    static GHContent getFileContent(
+        final GHRepository repository,
+        final String path,
+        final Optional<String> revision
+    ) throws IOException {
+        return revision.isPresent()
+            ? repository.getFileContent(path, revision.get())
+            : repository.getFileContent(path);
+    }
+
+    /**
+     * Lists the directory at {@code path} at {@code revision}, or on the default branch of an empty repository.
+     */
+    static List<GHContent> getDirectoryContent(
+        final GHRepository repository,
+        final String path,
+        final Optional<String> revision
+    ) throws IOException {
+        return revision.isPresent()
+            ? repository.getDirectoryContent(path, revision.get())
+            : repository.getDirectoryContent(path);
     }
 
     @Override
@@ -83,11 +335,42 @@ public abstract class GitHubRepositoryPath implements RepositoryFilePath {
 
     @Override
     public List<RepositoryFilePath> listAll() throws UncheckedIOException {
+        // resolved before any request is scheduled, since resolving it schedules a request of its own
+        final Optional<String> revision = getRevision();
+        final Optional<GitHubRepositoryTree> treeSnapshot = treeSnapshot();
+        if (treeSnapshot.isPresent()) {
+            return treeSnapshot
+                .get()
+                .getChildren(toFilePathString())
+                .stream()
+                .map(
+                    entry ->
+                        GitHubRepositoryTreeEntryPath.of(
+                            repository(),
+                            treeSnapshot.get(),
+                            entry,
+                            revision,
+                            contentCache(),
+                            requestScheduler()
+                        )
+                )
+                .collect(Collectors.toList());
+        }
         try {
-            return repository()
-                .getDirectoryContent(toFilePathString())
+            return requestScheduler()
+                .execute(
+                    () -> getDirectoryContent(repository(), toFilePathString(), revision)
+                )
                 .stream()
-                .map(GitHubRepositoryFilePath::of)
+                .map(
+                    content ->
+                        GitHubRepositoryFilePath.of(
+                            content,
+                            revision,
+                            contentCache(),
+                            requestScheduler()
+                        )
+                )
                 .collect(Collectors.toList());
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
@@ -101,14 +384,44 @@ public abstract class GitHubRepositoryPath implements RepositoryFilePath {
 
     @Override
     public RepositoryFilePath resolvePath(final String childPath) {
+        // resolved before any request is scheduled, since resolving it schedules a request of its own
+        final Optional<String> revision = getRevision();
+        final Optional<GitHubRepositoryTree> treeSnapshot = treeSnapshot();
+        if (treeSnapshot.isPresent()) {
+            return GitHubRepositoryTreeEntryPath.resolve(
+                repository(),
+                treeSnapshot.get(),
+                Paths.get(toFilePathString()).resolve(childPath).toString(),
+                revision,
+                contentCache(),
+                requestScheduler()
+            );
+        }
         try {
+            final String resolvedPath = FilenameUtils.normalize(
+                Paths.get(toFilePathString()).resolve(childPath).toString()
+            );
             return GitHubRepositoryFilePath.of(
-                repository()
+                contentCache()
                     .getFileContent(
-                        FilenameUtils.normalize(
-                            Paths.get(toFilePathString()).resolve(childPath).toString()
-                        )
+                        resolvedPath,
+                        () ->
+                            requestScheduler()
+                                .execute(
+                                    () ->
+                                        getFileContent(
+                                            repository(),
+                                            resolvedPath,
+                                            revision
+                                        )
+                                )
                     )
+                    .orElseThrow(
+                        () -> new GHFileNotFoundException(resolvedPath + " not found")
+                    ),
+                revision,
+                contentCache(),
+                requestScheduler()
             );
         } catch (final IOException fileContentException) {
             if (
@@ -123,7 +436,10 @@ public abstract class GitHubRepositoryPath implements RepositoryFilePath {
             ) {
                 return GitHubRepositoryStagedFilePath.of(
                     repository(),
-                    Paths.get(toFilePathString()).resolve(childPath)
+                    Paths.get(toFilePathString()).resolve(childPath),
+                    revision,
+                    contentCache(),
+                    requestScheduler()
                 );
             }
             throw new UncheckedIOException(fileContentException);
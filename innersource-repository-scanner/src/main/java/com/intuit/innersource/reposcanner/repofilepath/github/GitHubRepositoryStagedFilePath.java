@@ -11,12 +11,15 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.immutables.value.Value.Auxiliary;
 import org.immutables.value.Value.Immutable;
 import org.immutables.value.Value.Style;
 import org.immutables.value.Value.Style.BuilderVisibility;
 import org.immutables.value.Value.Style.ImplementationVisibility;
+import org.kohsuke.github.GHContent;
 import org.kohsuke.github.GHFileNotFoundException;
 import org.kohsuke.github.GHRepository;
 
@@ -31,20 +34,69 @@ abstract class GitHubRepositoryStagedFilePath implements RepositoryFilePath {
 
     public abstract Path stagedFilePath();
 
+    /**
+     * The commit the file is looked up at, see {@link GitHubRepositoryPath#getRevision()}.
+     */
+    @Auxiliary
+    abstract Optional<String> revision();
+
+    @Auxiliary
+    abstract GitHubContentCache contentCache();
+
+    @Auxiliary
+    abstract GitHubRequestScheduler requestScheduler();
+
     /**
      * @throws IllegalArgumentException if {@code path} is null
      */
     public static GitHubRepositoryStagedFilePath of(
         final GHRepository repository,
-        final Path stagedFilePath
+        final Path stagedFilePath,
+        final Optional<String> revision,
+        final GitHubContentCache contentCache,
+        final GitHubRequestScheduler requestScheduler
     ) {
         return ImmutableGitHubRepositoryStagedFilePath
             .builder()
             .repository(repository)
             .stagedFilePath(stagedFilePath)
+            .revision(revision)
+            .contentCache(contentCache)
+            .requestScheduler(requestScheduler)
             .build();
     }
 
+    /**
+     * Looks up the file at the staged path through the repository's cache, so the fixup's back to back {@code
+     * exists}, {@code size} and {@code appendLines} calls on a path cost a single file contents request.
+     *
+     * @throws GHFileNotFoundException if there is no file at the staged path.
+     */
+    private GitHubRepositoryFilePath fetchFilePath() throws IOException {
+        return GitHubRepositoryFilePath.of(
+            contentCache()
+                .getFileContent(
+                    toFilePathString(),
+                    () ->
+                        requestScheduler()
+                            .execute(
+                                () ->
+                                    GitHubRepositoryPath.getFileContent(
+                                        repository(),
+                                        toFilePathString(),
+                                        revision()
+                                    )
+                            )
+                )
+                .orElseThrow(
+                    () -> new GHFileNotFoundException(toFilePathString() + " not found")
+                ),
+            revision(),
+            contentCache(),
+            requestScheduler()
+        );
+    }
+
     @Override
     public String getFileName() {
         return stagedFilePath().getFileName().toString();
@@ -58,9 +110,7 @@ abstract class GitHubRepositoryStagedFilePath implements RepositoryFilePath {
     @Override
     public boolean isDirectory() {
         try {
-            return GitHubRepositoryFilePath
-                .of(repository().getFileContent(toFilePathString()))
-                .isDirectory();
+            return fetchFilePath().isDirectory();
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -69,9 +119,7 @@ abstract class GitHubRepositoryStagedFilePath implements RepositoryFilePath {
     @Override
     public boolean exists() {
         try {
-            return GitHubRepositoryFilePath
-                .of(repository().getFileContent(toFilePathString()))
-                .exists();
+            return fetchFilePath().exists();
         } catch (final IOException e) {
             if (
                 Throwables
@@ -88,9 +136,7 @@ abstract class GitHubRepositoryStagedFilePath implements RepositoryFilePath {
     @Override
     public long size() {
         try {
-            return GitHubRepositoryFilePath
-                .of(repository().getFileContent(toFilePathString()))
-                .size();
+            return fetchFilePath().size();
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -99,20 +145,45 @@ abstract class GitHubRepositoryStagedFilePath implements RepositoryFilePath {
     @Override
     public InputStream read() throws UncheckedIOException {
         try {
-            return GitHubRepositoryFilePath
-                .of(repository().getFileContent(toFilePathString()))
-                .read();
+            return fetchFilePath().read();
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * Lists the directory at the staged path with a single directory contents request, or none if nothing was found at
+     * the path when it was last looked up. The path is resolved to
+     * a staged file path when it is a directory, since the file contents api cannot describe a directory.
+     */
     @Override
     public List<RepositoryFilePath> listAll() throws UncheckedIOException {
         try {
-            return GitHubRepositoryFilePath
-                .of(repository().getFileContent(toFilePathString()))
-                .listAll();
+            return contentCache()
+                .getDirectoryContent(
+                    toFilePathString(),
+                    () ->
+                        requestScheduler()
+                            .execute(
+                                () ->
+                                    GitHubRepositoryPath.getDirectoryContent(
+                                        repository(),
+                                        toFilePathString(),
+                                        revision()
+                                    )
+                            )
+                )
+                .stream()
+                .map(
+                    content ->
+                        GitHubRepositoryFilePath.of(
+                            content,
+                            revision(),
+                            contentCache(),
+                            requestScheduler()
+                        )
+                )
+                .collect(Collectors.toList());
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -126,13 +197,30 @@ abstract class GitHubRepositoryStagedFilePath implements RepositoryFilePath {
     @Override
     public RepositoryFilePath resolvePath(final String other) {
         try {
+            final String resolvedPath = FilenameUtils.normalize(
+                Paths.get(toFilePathString()).resolve(other).toString()
+            );
             return GitHubRepositoryFilePath.of(
-                repository()
+                contentCache()
                     .getFileContent(
-                        FilenameUtils.normalize(
-                            Paths.get(toFilePathString()).resolve(other).toString()
-                        )
+                        resolvedPath,
+                        () ->
+                            requestScheduler()
+                                .execute(
+                                    () ->
+                                        GitHubRepositoryPath.getFileContent(
+                                            repository(),
+                                            resolvedPath,
+                                            revision()
+                                        )
+                                )
                     )
+                    .orElseThrow(
+                        () -> new GHFileNotFoundException(resolvedPath + " not found")
+                    ),
+                revision(),
+                contentCache(),
+                requestScheduler()
             );
         } catch (final IOException fileContentException) {
             if (
@@ -147,7 +235,10 @@ abstract class GitHubRepositoryStagedFilePath implements RepositoryFilePath {
             ) {
                 return GitHubRepositoryStagedFilePath.of(
                     repository(),
-                    Paths.get(toFilePathString()).resolve(other)
+                    Paths.get(toFilePathString()).resolve(other),
+                    revision(),
+                    contentCache(),
+                    requestScheduler()
                 );
             }
             throw new UncheckedIOException(fileContentException);
@@ -175,8 +266,15 @@ abstract class GitHubRepositoryStagedFilePath implements RepositoryFilePath {
             )
             .ifPresent(
                 ghContentBuilder -> {
+                    contentCache().invalidateFileContent(toFilePathString());
                     try {
-                        ghContentBuilder.commit();
+                        final GHContent createdContent = requestScheduler()
+                            .execute(ghContentBuilder::commit)
+                            .getContent();
+                        if (createdContent != null) {
+                            contentCache()
+                                .putFileContent(toFilePathString(), createdContent);
+                        }
                     } catch (final IOException e) {
                         throw new UncheckedIOException(e);
                     }
@@ -184,14 +282,19 @@ abstract class GitHubRepositoryStagedFilePath implements RepositoryFilePath {
             );
     }
 
+    /**
+     * Appends to the cached file, whose cached content is replaced by the content returned by the update once it
+     * succeeded. The cached entry is dropped if the update failed, since the file may or may not have been written.
+     */
     @Override
     public void appendLines(final Iterable<String> lines) {
         try {
-            GitHubRepositoryFilePath
-                .of(repository().getFileContent(toFilePathString()))
-                .appendLines(lines);
+            fetchFilePath().appendLines(lines);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
+        } catch (final UncheckedIOException e) {
+            contentCache().invalidateFileContent(toFilePathString());
+            throw e;
         }
     }
 
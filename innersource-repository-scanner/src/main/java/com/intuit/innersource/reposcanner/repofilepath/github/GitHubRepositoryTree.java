@@ -0,0 +1,92 @@
+package com.intuit.innersource.reposcanner.repofilepath.github;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GHTree;
+import org.kohsuke.github.GHTreeEntry;
+
+/**
+ * An in-memory snapshot of every entry in a repository's git tree, fetched with a single recursive Git Trees API
+ * request, which answers directory listings and file metadata lookups without further API calls. Submodules are
+ * left out, as they are when reading a local repository's object database.
+ */
+final class GitHubRepositoryTree {
+
+    private static final String TREE_ENTRY_TYPE = "tree";
+    private static final String SUBMODULE_ENTRY_TYPE = "commit";
+
+    private final ImmutableMap<String, GHTreeEntry> entriesByPath;
+    private final ImmutableListMultimap<String, GHTreeEntry> entriesByParentPath;
+
+    private GitHubRepositoryTree(final List<GHTreeEntry> entries) {
+        final ImmutableMap.Builder<String, GHTreeEntry> byPath = ImmutableMap.builder();
+        final ImmutableListMultimap.Builder<String, GHTreeEntry> byParentPath = ImmutableListMultimap.builder();
+        for (final GHTreeEntry entry : entries) {
+            if (SUBMODULE_ENTRY_TYPE.equals(entry.getType())) {
+                // submodules are left out since their commits are not in this repository
+                continue;
+            }
+            byPath.put(entry.getPath(), entry);
+            byParentPath.put(parentPathOf(entry.getPath()), entry);
+        }
+        this.entriesByPath = byPath.build();
+        this.entriesByParentPath = byParentPath.build();
+    }
+
+    /**
+     * Fetches the recursive tree of the {@code repository} at {@code revision}, or of its default branch if the
+     * revision is not known.
+     *
+     * @return the snapshot, or {@link Optional#empty()} if GitHub truncated the tree because the repository is too
+     * large to be listed in a single request, in which case callers should fall back to per directory listings.
+     * @throws UncheckedIOException if the tree could not be fetched
+     */
+    static Optional<GitHubRepositoryTree> fetch(
+        final GHRepository repository,
+        final Optional<String> revision,
+        final GitHubRequestScheduler requestScheduler
+    ) throws UncheckedIOException {
+        try {
+            final GHTree tree = requestScheduler.execute(
+                () ->
+                    repository.getTreeRecursive(
+                        revision.orElse(repository.getDefaultBranch()),
+                        1
+                    )
+            );
+            if (tree.isTruncated()) {
+                return Optional.empty();
+            }
+            return Optional.of(new GitHubRepositoryTree(tree.getTree()));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    Optional<GHTreeEntry> getEntry(final String filePath) {
+        return Optional.ofNullable(entriesByPath.get(normalize(filePath)));
+    }
+
+    List<GHTreeEntry> getChildren(final String directoryPath) {
+        return entriesByParentPath.get(normalize(directoryPath));
+    }
+
+    static boolean isDirectory(final GHTreeEntry entry) {
+        return TREE_ENTRY_TYPE.equals(entry.getType());
+    }
+
+    private static String normalize(final String filePath) {
+        return StringUtils.strip(filePath, "/");
+    }
+
+    private static String parentPathOf(final String entryPath) {
+        final int lastSeparator = entryPath.lastIndexOf('/');
+        return lastSeparator < 0 ? "" : entryPath.substring(0, lastSeparator);
+    }
+}
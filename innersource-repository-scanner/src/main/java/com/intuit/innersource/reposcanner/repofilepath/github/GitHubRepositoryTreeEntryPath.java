@@ -0,0 +1,206 @@
+package com.intuit.innersource.reposcanner.repofilepath.github;
+
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import com.intuit.innersource.reposcanner.repofilepath.github.ImmutableGitHubRepositoryTreeEntryPath;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.immutables.value.Value.Auxiliary;
+import org.immutables.value.Value.Immutable;
+import org.immutables.value.Value.Style;
+import org.immutables.value.Value.Style.BuilderVisibility;
+import org.immutables.value.Value.Style.ImplementationVisibility;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GHTreeEntry;
+
+/**
+ * A file path backed by an entry of a {@link GitHubRepositoryTree} snapshot. Metadata and directory listings are
+ * answered from the snapshot, file contents are fetched by blob sha and write operations go through the contents
+ * api. The snapshot is not refreshed after writes, so metadata reflects the tree as it was when it was fetched.
+ */
+@Immutable
+@Style(
+    visibility = ImplementationVisibility.PACKAGE,
+    builderVisibility = BuilderVisibility.PACKAGE
+)
+abstract class GitHubRepositoryTreeEntryPath implements RepositoryFilePath {
+
+    public abstract GHRepository repository();
+
+    public abstract GHTreeEntry entry();
+
+    @Auxiliary
+    abstract GitHubRepositoryTree tree();
+
+    /**
+     * The commit the {@link #tree()} was fetched at, see {@link GitHubRepositoryPath#getRevision()}.
+     */
+    @Auxiliary
+    abstract Optional<String> revision();
+
+    @Auxiliary
+    abstract GitHubContentCache contentCache();
+
+    @Auxiliary
+    abstract GitHubRequestScheduler requestScheduler();
+
+    public static GitHubRepositoryTreeEntryPath of(
+        final GHRepository repository,
+        final GitHubRepositoryTree tree,
+        final GHTreeEntry entry,
+        final Optional<String> revision,
+        final GitHubContentCache contentCache,
+        final GitHubRequestScheduler requestScheduler
+    ) {
+        return ImmutableGitHubRepositoryTreeEntryPath
+            .builder()
+            .repository(repository)
+            .tree(tree)
+            .entry(entry)
+            .revision(revision)
+            .contentCache(contentCache)
+            .requestScheduler(requestScheduler)
+            .build();
+    }
+
+    /**
+     * Resolves {@code filePath} against the {@code tree} snapshot, falling back to a staged file path if no entry
+     * exists at that path.
+     */
+    static RepositoryFilePath resolve(
+        final GHRepository repository,
+        final GitHubRepositoryTree tree,
+        final String filePath,
+        final Optional<String> revision,
+        final GitHubContentCache contentCache,
+        final GitHubRequestScheduler requestScheduler
+    ) {
+        final String normalizedFilePath = FilenameUtils.normalize(filePath, true);
+        return tree
+            .getEntry(normalizedFilePath)
+            .<RepositoryFilePath>map(
+                entry ->
+                    of(repository, tree, entry, revision, contentCache, requestScheduler)
+            )
+            .orElseGet(
+                () ->
+                    GitHubRepositoryStagedFilePath.of(
+                        repository,
+                        Paths.get(normalizedFilePath),
+                        revision,
+                        contentCache,
+                        requestScheduler
+                    )
+            );
+    }
+
+    @Override
+    public String getFileName() {
+        return StringUtils.substringAfterLast(toFilePathString(), "/");
+    }
+
+    @Override
+    public String getFileNameWithoutExtension() {
+        return FilenameUtils.getBaseName(getFileName());
+    }
+
+    @Override
+    public boolean isDirectory() {
+        return GitHubRepositoryTree.isDirectory(entry());
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long size() {
+        return entry().getSize();
+    }
+
+    @Override
+    public InputStream read() throws UncheckedIOException {
+        if (isDirectory()) {
+            throw new UncheckedIOException(
+                new IOException("This method is not supported for directories")
+            );
+        }
+        return contentCache()
+            .read(
+                entry().getSha(),
+                () ->
+                    requestScheduler()
+                        .execute(() -> repository().readBlob(entry().getSha()))
+            );
+    }
+
+    @Override
+    public List<RepositoryFilePath> listAll() throws UncheckedIOException {
+        if (!isDirectory()) {
+            throw new UncheckedIOException(
+                new IOException("This method is not supported for files")
+            );
+        }
+        return tree()
+            .getChildren(entry().getPath())
+            .stream()
+            .map(
+                child ->
+                    of(
+                        repository(),
+                        tree(),
+                        child,
+                        revision(),
+                        contentCache(),
+                        requestScheduler()
+                    )
+            )
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public String toFilePathString() {
+        return '/' + StringUtils.removeStart(entry().getPath(), "/");
+    }
+
+    @Override
+    public RepositoryFilePath resolvePath(final String other) {
+        return resolve(
+            repository(),
+            tree(),
+            Paths.get(toFilePathString()).resolve(other).toString(),
+            revision(),
+            contentCache(),
+            requestScheduler()
+        );
+    }
+
+    @Override
+    public void touch() {
+        // tree entries are created from an existing snapshot, we assume file exists and also
+        // that touch would be a noop.
+    }
+
+    @Override
+    public void appendLines(final Iterable<String> lines) {
+        GitHubRepositoryStagedFilePath
+            .of(
+                repository(),
+                Paths.get(toFilePathString()),
+                revision(),
+                contentCache(),
+                requestScheduler()
+            )
+            .appendLines(lines);
+    }
+
+    @Override
+    public void createDirectories() {}
+}
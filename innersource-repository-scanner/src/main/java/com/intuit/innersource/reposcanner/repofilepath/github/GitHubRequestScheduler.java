@@ -0,0 +1,356 @@
+package com.intuit.innersource.reposcanner.repofilepath.github;
+
+import com.google.common.base.Throwables;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.apache.commons.lang3.StringUtils;
+import org.kohsuke.github.GHIOException;
+import org.kohsuke.github.GHRateLimit;
+import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.HttpException;
+import org.kohsuke.github.RateLimitChecker;
+
+/**
+ * Schedules the GitHub api requests of the {@link GitHubRepositoryPath repository paths} sharing a GitHub api client,
+ * so that a scan of many repositories slows down as it approaches the client's rate limit instead of failing mid
+ * report.
+ *
+ * <ul>
+ * <li>The rate limit remaining and its reset time are tracked from the {@code X-RateLimit-*} headers of each
+ * response, as handed to the {@link #rateLimitChecker() rate limit checker} installed on the GitHub api client. When
+ * fewer than {@value #RATE_LIMIT_RESERVE} requests remain, requests wait for the rate limit to reset.</li>
+ * <li>Requests which are rejected by a secondary rate limit, time out or fail with a server error are retried with
+ * exponential backoff, honoring the {@code Retry-After} header when present. Requests are paused for every caller
+ * while backing off, and the number of concurrent requests is halved, then raised back one at a time as requests
+ * succeed.</li>
+ * <li>Counts of requests, retries and failures as well as the time spent throttled are available as metrics.</li>
+ * </ul>
+ */
+public final class GitHubRequestScheduler {
+
+    /**
+     * A GitHub api request.
+     */
+    @FunctionalInterface
+    interface GitHubRequest<T> {
+        T execute() throws IOException;
+    }
+
+    /**
+     * Waits for the given number of milliseconds.
+     */
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    static final int MAXIMUM_CONCURRENCY = 8;
+    static final int MAXIMUM_ATTEMPTS = 5;
+    static final long INITIAL_BACKOFF_MILLIS = 1000L;
+    static final long MAXIMUM_BACKOFF_MILLIS = 60_000L;
+    static final int RATE_LIMIT_RESERVE = 50;
+    private static final int SUCCESSES_PER_CONCURRENCY_INCREASE = 20;
+
+    private final LongSupplier clock;
+    private final Sleeper sleeper;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotReleased = lock.newCondition();
+    private int concurrencyLimit = MAXIMUM_CONCURRENCY;
+    private int inFlightCount;
+    private int successesSinceConcurrencyChange;
+    private long pausedUntilMillis;
+    private int rateLimitRemaining = -1;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong throttledMillis = new AtomicLong();
+
+    private final RateLimitChecker rateLimitChecker = new RateLimitChecker() {
+        @Override
+        protected boolean checkRateLimit(
+            final GHRateLimit.Record rateLimitRecord,
+            final long count
+        ) {
+            noteRateLimit(rateLimitRecord);
+            // never sleep in the client, requests are paused by the scheduler instead
+            return false;
+        }
+    };
+
+    GitHubRequestScheduler(final LongSupplier clock, final Sleeper sleeper) {
+        this.clock = clock;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Creates a scheduler for the requests sent through a GitHub api client. Install its {@link #rateLimitChecker()}
+     * on the client, and share the scheduler between the {@link GitHubRepositoryPath repository paths} of the client,
+     * see {@link GitHubRepositoryPath.Builder#requestScheduler}, since they share its rate limit.
+     */
+    public static GitHubRequestScheduler create() {
+        return new GitHubRequestScheduler(System::currentTimeMillis, Thread::sleep);
+    }
+
+    /**
+     * Returns the checker to install on the GitHub api client with {@link GitHubBuilder#withRateLimitChecker}. The
+     * client hands it the rate limit of its latest response before each request, which the scheduler then throttles
+     * its requests against. Without it requests are only retried and throttled on transient errors.
+     *
+     * @return the rate limit checker tracking the client's rate limit for this scheduler.
+     */
+    public RateLimitChecker rateLimitChecker() {
+        return rateLimitChecker;
+    }
+
+    /**
+     * Executes {@code request} once a request slot is available and any pause for the rate limit is over, retrying
+     * it while it fails with a transient error.
+     *
+     * @throws IOException the error of the last attempt, if the request failed with a non transient error or ran out
+     * of attempts.
+     */
+    <T> T execute(final GitHubRequest<T> request) throws IOException {
+        for (int attempt = 1;; attempt++) {
+            acquireSlot();
+            requestCount.incrementAndGet();
+            try {
+                final T result = request.execute();
+                releaseSlot(true, 0L);
+                return result;
+            } catch (final IOException e) {
+                final long retryDelayMillis = attempt < MAXIMUM_ATTEMPTS
+                    ? retryDelayMillis(e, attempt)
+                    : -1L;
+                if (retryDelayMillis < 0) {
+                    failureCount.incrementAndGet();
+                    releaseSlot(false, 0L);
+                    throw e;
+                }
+                retryCount.incrementAndGet();
+                releaseSlot(false, retryDelayMillis);
+            } catch (final RuntimeException | Error e) {
+                failureCount.incrementAndGet();
+                releaseSlot(false, 0L);
+                throw e;
+            }
+        }
+    }
+
+    private void acquireSlot() throws InterruptedIOException {
+        try {
+            lock.lock();
+            try {
+                while (true) {
+                    final long pauseMillis = pausedUntilMillis - clock.getAsLong();
+                    if (pauseMillis > 0) {
+                        lock.unlock();
+                        try {
+                            throttledMillis.addAndGet(pauseMillis);
+                            sleeper.sleep(pauseMillis);
+                        } finally {
+                            lock.lock();
+                        }
+                    } else if (inFlightCount >= concurrencyLimit) {
+                        slotReleased.await();
+                    } else {
+                        inFlightCount++;
+                        return;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException interrupted = new InterruptedIOException(
+                "interrupted while waiting to send a GitHub api request"
+            );
+            interrupted.initCause(e);
+            throw interrupted;
+        }
+    }
+
+    private void releaseSlot(final boolean succeeded, final long retryDelayMillis) {
+        lock.lock();
+        try {
+            inFlightCount--;
+            if (succeeded) {
+                if (
+                    ++successesSinceConcurrencyChange >=
+                    SUCCESSES_PER_CONCURRENCY_INCREASE &&
+                    concurrencyLimit < MAXIMUM_CONCURRENCY
+                ) {
+                    concurrencyLimit++;
+                    successesSinceConcurrencyChange = 0;
+                }
+            } else if (retryDelayMillis > 0) {
+                concurrencyLimit = Math.max(1, concurrencyLimit / 2);
+                successesSinceConcurrencyChange = 0;
+                pausedUntilMillis =
+                    Math.max(pausedUntilMillis, clock.getAsLong() + retryDelayMillis);
+            }
+            slotReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records the rate limit of the client's latest response, pausing requests until it resets when fewer than
+     * {@value #RATE_LIMIT_RESERVE} requests remain.
+     */
+    void noteRateLimit(final GHRateLimit.Record rateLimitRecord) {
+        lock.lock();
+        try {
+            rateLimitRemaining = rateLimitRecord.getRemaining();
+            if (rateLimitRemaining < RATE_LIMIT_RESERVE) {
+                pausedUntilMillis =
+                    Math.max(
+                        pausedUntilMillis,
+                        TimeUnit.SECONDS.toMillis(rateLimitRecord.getResetEpochSeconds())
+                    );
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return how long to wait before retrying a request which failed with {@code error}, or -1 if the error is not
+     * transient.
+     */
+    private long retryDelayMillis(final IOException error, final int attempt) {
+        final List<Throwable> causalChain = Throwables.getCausalChain(error);
+        final boolean transientError = causalChain
+            .stream()
+            .anyMatch(
+                cause ->
+                    (cause instanceof SocketTimeoutException) ||
+                    (cause instanceof ConnectException) ||
+                    (
+                        (cause instanceof HttpException) &&
+                        isTransient((HttpException) cause)
+                    )
+            );
+        if (!transientError) {
+            return -1L;
+        }
+        final long backoffMillis = Math.min(
+            MAXIMUM_BACKOFF_MILLIS,
+            INITIAL_BACKOFF_MILLIS << (attempt - 1)
+        );
+        final long retryAfterMillis = causalChain
+            .stream()
+            .filter(GHIOException.class::isInstance)
+            .map(cause -> ((GHIOException) cause).getResponseHeaderFields())
+            .mapToLong(GitHubRequestScheduler::retryAfterMillis)
+            .max()
+            .orElse(0L);
+        // jitter the backoff so that concurrent requests which failed together do not retry together
+        return Math.max(
+            retryAfterMillis,
+            backoffMillis /
+            2 +
+            ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1)
+        );
+    }
+
+    private static boolean isTransient(final HttpException error) {
+        final int responseCode = error.getResponseCode();
+        if (responseCode == 403) {
+            // secondary (abuse) rate limits are reported as forbidden
+            final String message = StringUtils
+                .defaultString(error.getMessage())
+                .toLowerCase(Locale.ROOT);
+            return message.contains("rate limit") || message.contains("abuse");
+        }
+        return responseCode == -1 || responseCode == 429 || responseCode >= 500;
+    }
+
+    private static long retryAfterMillis(final Map<String, List<String>> headers) {
+        if (headers == null) {
+            return 0L;
+        }
+        return headers
+            .entrySet()
+            .stream()
+            .filter(header -> "Retry-After".equalsIgnoreCase(header.getKey()))
+            .flatMap(header -> header.getValue().stream())
+            .filter(StringUtils::isNumeric)
+            .mapToLong(seconds -> TimeUnit.SECONDS.toMillis(Long.parseLong(seconds)))
+            .max()
+            .orElse(0L);
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    public long getThrottledMillis() {
+        return throttledMillis.get();
+    }
+
+    /**
+     * @return the number of requests currently allowed to be in flight at once.
+     */
+    public int getConcurrencyLimit() {
+        lock.lock();
+        try {
+            return concurrencyLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the core rate limit remaining as of the last response, or -1 if unknown.
+     */
+    public int getRateLimitRemaining() {
+        lock.lock();
+        try {
+            return rateLimitRemaining;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "GitHubRequestScheduler{requests=" +
+            getRequestCount() +
+            ", retries=" +
+            getRetryCount() +
+            ", failures=" +
+            getFailureCount() +
+            ", throttledMillis=" +
+            getThrottledMillis() +
+            ", concurrencyLimit=" +
+            getConcurrencyLimit() +
+            ", rateLimitRemaining=" +
+            getRateLimitRemaining() +
+            "}"
+        );
+    }
+}
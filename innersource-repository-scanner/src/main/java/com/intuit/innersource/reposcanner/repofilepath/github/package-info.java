@@ -28,5 +28,21 @@
  *   .build()
  *   .call();
  * </pre>
+ * <p>Large repositories can be listed with a single recursive Git Trees API request rather than one request per
+ * directory by enabling the tree snapshot mode.
+ * <pre>
+ * GitHubRepositoryPath.create(repository).useTreeSnapshot(true).build()
+ * </pre>
+ * <p>Requests slow down as the client's rate limit runs low when the repositories scanned through a client share a
+ * request scheduler whose rate limit checker is installed on that client.
+ * <pre>
+ * GitHubRequestScheduler requestScheduler = GitHubRequestScheduler.create();
+ * GitHub gh = new GitHubBuilder()
+ *     .withOAuthToken("yourGithubAccessToken")
+ *     .withRateLimitChecker(requestScheduler.rateLimitChecker())
+ *     .build();
+ *
+ * GitHubRepositoryPath.create(repository).requestScheduler(requestScheduler).build()
+ * </pre>
  */
 package com.intuit.innersource.reposcanner.repofilepath.github;
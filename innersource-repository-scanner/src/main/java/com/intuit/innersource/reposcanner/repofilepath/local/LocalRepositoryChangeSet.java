@@ -0,0 +1,87 @@
+package com.intuit.innersource.reposcanner.repofilepath.local;
+
+import com.intuit.innersource.reposcanner.repofilepath.AtomicFiles;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryChangeSet;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes the changes staged to the files of a local repository one file at a time: the file is copied to a temporary
+ * file next to it, everything staged to be appended is written to the copy at once, and the copy then atomically
+ * replaces the file. A file is therefore either left as it was or fully written, never half written, however many
+ * appends were staged to it.
+ */
+final class LocalRepositoryChangeSet extends RepositoryChangeSet {
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Ends each line with the platform's line separator, as {@link LocalRepositoryFilePath#appendLines(Iterable)}
+     * does.
+     */
+    @Override
+    protected String formatLines(final Iterable<String> lines) {
+        final StringBuilder content = new StringBuilder();
+        for (final String line : lines) {
+            content.append(line).append(System.lineSeparator());
+        }
+        return content.toString();
+    }
+
+    @Override
+    protected void write(final List<FileChange> changes, final String message)
+        throws IOException {
+        for (final FileChange change : changes) {
+            if (!(change.filePath() instanceof LocalRepositoryFilePath)) {
+                throw new IOException(
+                    change.filePath().toFilePathString() + " is not a local file path"
+                );
+            }
+            final Path path = ((LocalRepositoryFilePath) change.filePath()).path();
+            if (change.isDirectory()) {
+                Files.createDirectories(path);
+            } else {
+                replace(path, change);
+            }
+        }
+    }
+
+    private static void replace(final Path path, final FileChange change)
+        throws IOException {
+        final Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        // created like any other file rather than with Files.createTempFile, which makes it readable by its owner
+        // only, so a file created by the change set gets the same permissions as one created by appendLines
+        final Path temporaryFile = Files.createFile(
+            directory.resolve(
+                "." + path.getFileName() + "." + UUID.randomUUID() + TEMPORARY_FILE_SUFFIX
+            )
+        );
+        AtomicFiles.replace(
+            path,
+            temporaryFile,
+            copy -> {
+                if (change.existed()) {
+                    // copies the permissions of the file along with its content
+                    Files.copy(
+                        path,
+                        copy,
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.COPY_ATTRIBUTES
+                    );
+                }
+                Files.write(
+                    copy,
+                    change.appendedContent().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.APPEND
+                );
+            }
+        );
+    }
+}
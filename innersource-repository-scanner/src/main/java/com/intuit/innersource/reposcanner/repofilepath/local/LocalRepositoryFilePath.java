@@ -1,9 +1,17 @@
 package com.intuit.innersource.reposcanner.repofilepath.local;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryChangeSet;
 import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import com.intuit.innersource.reposcanner.repofilepath.RevisionedRepositoryFilePath;
+import com.intuit.innersource.reposcanner.repofilepath.StagingRepositoryFilePath;
 import com.intuit.innersource.reposcanner.repofilepath.local.ImmutableLocalRepositoryFilePath;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -13,9 +21,12 @@ import java.nio.file.attribute.FileTime;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.SystemUtils;
 import org.immutables.value.Value.Immutable;
 import org.immutables.value.Value.Style;
 import org.immutables.value.Value.Style.BuilderVisibility;
@@ -33,7 +44,14 @@ import org.immutables.value.Value.Style.ImplementationVisibility;
     visibility = ImplementationVisibility.PACKAGE,
     builderVisibility = BuilderVisibility.PACKAGE
 )
-public abstract class LocalRepositoryFilePath implements RepositoryFilePath {
+public abstract class LocalRepositoryFilePath
+    implements RevisionedRepositoryFilePath, StagingRepositoryFilePath {
+
+    private static final String SYMBOLIC_REF_PREFIX = "ref:";
+    private static final String GIT_DIRECTORY_FILE_PREFIX = "gitdir:";
+    private static final File NULL_DEVICE = new File(
+        SystemUtils.IS_OS_WINDOWS ? "NUL" : "/dev/null"
+    );
 
     LocalRepositoryFilePath() {}
 
@@ -56,6 +74,214 @@ public abstract class LocalRepositoryFilePath implements RepositoryFilePath {
         return ImmutableLocalRepositoryFilePath.builder().path(path).build();
     }
 
+    @Override
+    public String getRepositoryId() {
+        return toFilePathString();
+    }
+
+    /**
+     * Returns the commit checked out in {@code this} repository root, provided the working tree has no uncommitted
+     * changes and no untracked files which are not ignored by git. The files of a working tree with such changes are
+     * not the files of any commit, so it has no revision. Requires the git executable to be on the path, without it
+     * the working tree cannot be checked and no revision is returned.
+     */
+    @Override
+    public Optional<String> getRevision() throws UncheckedIOException {
+        final Optional<String> checkedOutCommit = getCheckedOutCommit();
+        if (!checkedOutCommit.isPresent()) {
+            return Optional.empty();
+        }
+        final Optional<List<String>> workingTreeChanges = git(
+            "status",
+            "--porcelain",
+            "--untracked-files=normal",
+            "-z"
+        );
+        if (!workingTreeChanges.isPresent() || !workingTreeChanges.get().isEmpty()) {
+            return Optional.empty();
+        }
+        return checkedOutCommit;
+    }
+
+    /**
+     * Reads the commit checked out in {@code this} repository root from its {@code .git} directory, following {@code
+     * HEAD} to the branch it refers to, if any. Uncommitted changes to the working tree are not reflected in the
+     * commit.
+     */
+    Optional<String> getCheckedOutCommit() throws UncheckedIOException {
+        try {
+            final Optional<Path> gitDirectory = findGitDirectory();
+            if (!gitDirectory.isPresent()) {
+                return Optional.empty();
+            }
+            final String head = readFirstLine(gitDirectory.get().resolve("HEAD"));
+            if (!StringUtils.startsWith(head, SYMBOLIC_REF_PREFIX)) {
+                return Optional.ofNullable(StringUtils.trimToNull(head));
+            }
+            // the branches of a linked worktree are stored in the common directory of the main worktree
+            final Path commonDirectory = Files.exists(
+                    gitDirectory.get().resolve("commondir")
+                )
+                ? gitDirectory
+                    .get()
+                    .resolve(
+                        readFirstLine(gitDirectory.get().resolve("commondir")).trim()
+                    )
+                    .normalize()
+                : gitDirectory.get();
+            return readRef(
+                commonDirectory,
+                StringUtils.removeStart(head, SYMBOLIC_REF_PREFIX).trim()
+            );
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Runs {@code git diff} between {@code revision} and the working tree of {@code this} repository root, so that
+     * uncommitted changes are included, along with the untracked files which are not ignored by git. Requires the git
+     * executable to be on the path, the changes cannot be determined without it.
+     */
+    @Override
+    public Optional<Set<String>> getFilePathsChangedSince(final String revision)
+        throws UncheckedIOException {
+        if (StringUtils.isBlank(revision) || revision.startsWith("-")) {
+            // not a commit, and must not be mistaken for an option of git
+            return Optional.empty();
+        }
+        final Optional<List<String>> changedFiles = git(
+            "diff",
+            "--name-only",
+            "--no-renames",
+            "--relative",
+            "-z",
+            revision,
+            "--"
+        );
+        final Optional<List<String>> untrackedFiles = git(
+            "ls-files",
+            "--others",
+            "--exclude-standard",
+            "-z"
+        );
+        if (!changedFiles.isPresent() || !untrackedFiles.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(
+            Stream
+                .concat(changedFiles.get().stream(), untrackedFiles.get().stream())
+                .map(changedFile -> '/' + changedFile)
+                .collect(ImmutableSet.toImmutableSet())
+        );
+    }
+
+    /**
+     * @return the NUL separated entries git printed, or {@link Optional#empty()} if git is not installed or failed.
+     */
+    private Optional<List<String>> git(final String... arguments)
+        throws UncheckedIOException {
+        final Process git;
+        try {
+            git =
+                new ProcessBuilder(
+                    ImmutableList.<String>builder().add("git").add(arguments).build()
+                )
+                    .directory(path().toFile())
+                    .redirectError(NULL_DEVICE)
+                    .start();
+        } catch (final IOException e) {
+            // git is not installed
+            return Optional.empty();
+        }
+        try {
+            git.getOutputStream().close();
+            final byte[] output;
+            try (InputStream in = git.getInputStream()) {
+                output = ByteStreams.toByteArray(in);
+            }
+            if (git.waitFor() != 0) {
+                return Optional.empty();
+            }
+            return Optional.of(
+                ImmutableList.copyOf(
+                    StringUtils.split(new String(output, StandardCharsets.UTF_8), '\0')
+                )
+            );
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException interrupted = new InterruptedIOException(
+                "interrupted while waiting for git"
+            );
+            interrupted.initCause(e);
+            throw new UncheckedIOException(interrupted);
+        } finally {
+            git.destroy();
+        }
+    }
+
+    private Optional<Path> findGitDirectory() throws IOException {
+        final Path dotGit = path().resolve(".git");
+        if (Files.isDirectory(dotGit)) {
+            return Optional.of(dotGit);
+        }
+        if (Files.isRegularFile(dotGit)) {
+            // a linked worktree or submodule, whose .git file points at its git directory
+            final String gitDirectory = readFirstLine(dotGit);
+            if (StringUtils.startsWith(gitDirectory, GIT_DIRECTORY_FILE_PREFIX)) {
+                return Optional.of(
+                    path()
+                        .resolve(
+                            StringUtils
+                                .removeStart(gitDirectory, GIT_DIRECTORY_FILE_PREFIX)
+                                .trim()
+                        )
+                        .normalize()
+                );
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<String> readRef(
+        final Path gitDirectory,
+        final String refName
+    ) throws IOException {
+        final Path looseRef = gitDirectory.resolve(refName);
+        if (Files.isRegularFile(looseRef)) {
+            return Optional.ofNullable(StringUtils.trimToNull(readFirstLine(looseRef)));
+        }
+        final Path packedRefs = gitDirectory.resolve("packed-refs");
+        if (!Files.isRegularFile(packedRefs)) {
+            return Optional.empty();
+        }
+        try (Stream<String> lines = Files.lines(packedRefs, StandardCharsets.UTF_8)) {
+            return lines
+                .filter(line -> !line.startsWith("#") && !line.startsWith("^"))
+                .map(line -> StringUtils.split(line, ' '))
+                .filter(fields -> fields.length == 2 && fields[1].equals(refName))
+                .map(fields -> fields[0])
+                .findFirst();
+        }
+    }
+
+    private static String readFirstLine(final Path file) throws IOException {
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return lines.findFirst().orElse("");
+        }
+    }
+
+    /**
+     * Creates a change set which writes each file changed once, however many changes were staged to it, replacing the
+     * file atomically through a temporary file so that it is never left half written.
+     */
+    @Override
+    public RepositoryChangeSet newChangeSet() {
+        return new LocalRepositoryChangeSet();
+    }
+
     @Override
     public String getFileName() {
         return Optional.of(path()).map(Path::getFileName).map(Path::toString).orElse("");
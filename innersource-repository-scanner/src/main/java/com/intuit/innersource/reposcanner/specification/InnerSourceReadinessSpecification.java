@@ -1,5 +1,6 @@
 package com.intuit.innersource.reposcanner.specification;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.intuit.innersource.reposcanner.jsonservice.JsonService;
 import com.intuit.innersource.reposcanner.specification.ImmutableDirectoriesToSearch;
@@ -22,15 +23,19 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.immutables.gson.Gson;
+import org.immutables.value.Value.Check;
 import org.immutables.value.Value.Derived;
 import org.immutables.value.Value.Immutable;
+import org.immutables.value.Value.Lazy;
 import org.immutables.value.Value.Style;
 import org.immutables.value.Value.Style.BuilderVisibility;
 import org.immutables.value.Value.Style.ImplementationVisibility;
@@ -575,6 +580,14 @@ public abstract class InnerSourceReadinessSpecification {
         }
 
         public abstract String regexPattern();
+
+        /**
+         * @return the {@link #regexPattern()} compiled once per check instance.
+         */
+        @Lazy
+        public Pattern compiledRegexPattern() {
+            return Pattern.compile(regexPattern());
+        }
     }
 
     /**
@@ -619,6 +632,17 @@ public abstract class InnerSourceReadinessSpecification {
         }
 
         public abstract Set<String> propertyNames();
+
+        /**
+         * Rejects checks without property names, which also keeps json checks of other requirements from being read as
+         * this check, as it is the first {@link Gson.ExpectedSubtypes expected subtype} of {@link FileCheck}.
+         */
+        @Check
+        void checkPropertyNames() {
+            if (propertyNames().isEmpty()) {
+                throw new IllegalArgumentException("propertyNames must not be empty");
+            }
+        }
     }
 
     /**
@@ -641,6 +665,14 @@ public abstract class InnerSourceReadinessSpecification {
         }
 
         public abstract String titleRegexPattern();
+
+        /**
+         * @return the {@link #titleRegexPattern()} compiled once per check instance.
+         */
+        @Lazy
+        public Pattern compiledTitleRegexPattern() {
+            return Pattern.compile(titleRegexPattern());
+        }
     }
 
     /**
@@ -669,6 +701,17 @@ public abstract class InnerSourceReadinessSpecification {
         public abstract boolean matchCase();
 
         public abstract boolean matchIfSectionEmpty();
+
+        /**
+         * @return the {@link #synonyms()} lower-cased, computed once per check instance.
+         */
+        @Lazy
+        public Set<String> lowerCaseSynonyms() {
+            return synonyms()
+                .stream()
+                .map(text -> text.toLowerCase(Locale.ROOT))
+                .collect(ImmutableSet.toImmutableSet());
+        }
     }
 
     /**
@@ -695,5 +738,16 @@ public abstract class InnerSourceReadinessSpecification {
         public abstract List<String> altTextSynonyms();
 
         public abstract boolean matchCase();
+
+        /**
+         * @return the {@link #altTextSynonyms()} lower-cased, computed once per check instance.
+         */
+        @Lazy
+        public Set<String> lowerCaseAltTextSynonyms() {
+            return altTextSynonyms()
+                .stream()
+                .map(text -> text.toLowerCase(Locale.ROOT))
+                .collect(ImmutableSet.toImmutableSet());
+        }
     }
 }
@@ -569,6 +569,7 @@ abstract class BaseTestFixture extends ExternalResource implements CommandTestFi
     protected List<RepositoryFilePath> fixedFiles;
     protected List<String> logOutput;
     protected LoggingService loggingService;
+    protected int reportParallelism;
     protected Exception thrownException;
 
     @Override
@@ -602,6 +603,7 @@ abstract class BaseTestFixture extends ExternalResource implements CommandTestFi
                     logOutput.add("ERROR: " + error);
                 }
             };
+        reportParallelism = 1;
         thrownException = null;
     }
 
@@ -613,6 +615,11 @@ abstract class BaseTestFixture extends ExternalResource implements CommandTestFi
         this.loggingService = loggingService;
     }
 
+    @Override
+    public void given_report_parallelism(final int parallelism) {
+        this.reportParallelism = parallelism;
+    }
+
     @Override
     public void then_readiness_report_matches(final Object expectedReadinessReport) {
         if (expectedReadinessReport == null) {
@@ -669,6 +676,20 @@ abstract class BaseTestFixture extends ExternalResource implements CommandTestFi
         }
     }
 
+    @Override
+    public void then_readiness_report_matches_report_with_parallelism(
+        final int parallelism
+    ) {
+        Assertions.assertThat(thrownException).isNull();
+        final InnerSourceReadinessReport report = readinessReport;
+
+        given_report_parallelism(parallelism);
+        when_run_report_command();
+
+        Assertions.assertThat(thrownException).isNull();
+        Assertions.assertThat(readinessReport.toJson()).isEqualTo(report.toJson());
+    }
+
     @Override
     public void then_fixed_files_match(final Object... expected) {
         if ((expected.length == 1) && (expected[0] instanceof List)) {
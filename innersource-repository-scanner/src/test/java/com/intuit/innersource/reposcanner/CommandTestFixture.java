@@ -9,12 +9,16 @@ public interface CommandTestFixture {
 
     void given_logging_service(LoggingService scanLogConsumer);
 
+    void given_report_parallelism(int parallelism);
+
     void when_run_report_command();
 
     void when_run_fixup_command();
 
     void then_readiness_report_matches(Object expectedScanResults);
 
+    void then_readiness_report_matches_report_with_parallelism(int parallelism);
+
     void then_fixed_files_match(Object... expected);
 
     void then_log_contains_lines(String... expectedScanLogLines);
@@ -1845,6 +1845,54 @@ public class InnerSourceReadinessReportCommandTest extends TestFixtures {
         then_log_warning_count_is(0);
     }
 
+    @Test
+    public void givenCandidatesInEverySearchedDirectory_whenScanRepoInParallel_thenReportMatchesSequentialScan() {
+        given_github_repo(
+            fileWithContents(
+                "/CONTRIBUTING.md",
+                classpath("/contributings/CONTRIBUTING-1.md")
+            ),
+            fileWithContents(
+                "/docs/CONTRIBUTING.md",
+                classpath("/contributings/CONTRIBUTING-COMPLETE.md")
+            ),
+            fileWithContents(
+                "/.github/CONTRIBUTING.md",
+                classpath("/contributings/CONTRIBUTING-COMPLETE-COMMENT-HINTS.md")
+            ),
+            fileWithContents("/README.md", classpath("/readmes/README-1.md")),
+            fileWithContents("/docs/README.md", classpath("/readmes/README-COMPLETE.md")),
+            fileWithContents(
+                "/.github/README.md",
+                classpath("/readmes/README-COMPLETE-COMMENT-HINTS.md")
+            )
+        );
+
+        given_report_parallelism(4);
+
+        when_run_report_command();
+
+        then_readiness_report_matches(
+            "README.md..................................................................FOUND\n" +
+            "README.md Title............................................................FOUND\n" +
+            "README.md Description......................................................FOUND\n" +
+            "README.md Build Status Badges..............................................FOUND\n" +
+            "README.md Usage Section....................................................FOUND\n" +
+            "README.md Local Development Section........................................FOUND\n" +
+            "README.md Contributing Section.............................................FOUND\n" +
+            "README.md Support Section..................................................FOUND\n" +
+            "CODEOWNERS.............................................................NOT_FOUND\n" +
+            "CODEOWNERS Default Rule................................................NOT_FOUND\n" +
+            "CONTRIBUTING.md............................................................FOUND\n" +
+            "CONTRIBUTING.md Before PR Section..........................................FOUND\n" +
+            "CONTRIBUTING.md During PR Section..........................................FOUND\n" +
+            "CONTRIBUTING.md After PR Section...........................................FOUND\n" +
+            "PULL_REQUEST_TEMPLATE.md...............................................NOT_FOUND\n"
+        );
+
+        then_readiness_report_matches_report_with_parallelism(1);
+    }
+
     @Test
     public void givenCompleteContributingUsingCommentHints_whenScanRepo_thenAllContributingMetricsFound() {
         given_github_repo(
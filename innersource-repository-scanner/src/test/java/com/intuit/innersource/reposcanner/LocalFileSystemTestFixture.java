@@ -84,6 +84,7 @@ public class LocalFileSystemTestFixture extends BaseTestFixture {
                     )
                     .loggingService(loggingService)
                     .specification(SPECIFICATION)
+                    .parallelism(reportParallelism)
                     .build()
                     .call();
         } catch (final Exception e) {
@@ -79,6 +79,16 @@ public class LoggingServiceTests {
         then_standard_error_receives("ERROR: hello world\n");
     }
 
+    @Test
+    public void testStandardErrorConsoleLoggingServiceInfoLevel() throws Exception {
+        given_log_message("hello world");
+
+        when_log_to_standard_error_console_at_info_level();
+
+        then_standard_error_receives("INFO: hello world\n");
+        then_standard_output_receives(null);
+    }
+
     @Test
     public void testNoopLoggingServiceInfoLevel() throws Exception {
         given_log_message("hello world");
@@ -170,6 +180,10 @@ public class LoggingServiceTests {
         ConsoleLoggingService.INSTANCE.error(logMessage);
     }
 
+    private void when_log_to_standard_error_console_at_info_level() {
+        ConsoleLoggingService.STANDARD_ERROR.info(logMessage);
+    }
+
     private void when_log_to_noop_at_info_level() {
         NoopLoggingService.INSTANCE.info(logMessage);
     }
@@ -21,14 +21,29 @@ import org.assertj.core.util.Lists;
 import org.kohsuke.github.GHContent;
 import org.kohsuke.github.GHContentUpdateResponse;
 import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GHTree;
+import org.kohsuke.github.GHTreeEntry;
 import org.kohsuke.github.PagedIterable;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 
 public class RemoteGitHubTestFixture extends LocalFileSystemTestFixture {
 
+    private final boolean useTreeSnapshot;
     private GHRepository remoteRepo;
 
+    public RemoteGitHubTestFixture() {
+        this(false);
+    }
+
+    /**
+     * @param useTreeSnapshot whether the remote repository is read through a recursive tree snapshot, in which case a
+     * submodule is added at {@code docs} unless the repository has a {@code docs} directory of its own.
+     */
+    public RemoteGitHubTestFixture(final boolean useTreeSnapshot) {
+        this.useTreeSnapshot = useTreeSnapshot;
+    }
+
     @Override
     protected void before() throws Throwable {
         super.before();
@@ -90,6 +105,61 @@ public class RemoteGitHubTestFixture extends LocalFileSystemTestFixture {
                             .map(f -> mockFiles.getOrDefault(f, mockRemoteFile(f)))
                             .collect(Collectors.toList())
                 );
+            Mockito
+                .when(remoteRepo.getTreeRecursive(Mockito.any(), Mockito.eq(1)))
+                .thenAnswer(invocation -> mockRemoteTree());
+            Mockito
+                .when(remoteRepo.readBlob(Mockito.anyString()))
+                .thenAnswer(
+                    invocation ->
+                        Files.newInputStream(
+                            repoRoot.resolve(invocation.getArgument(0, String.class))
+                        )
+                );
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private GHTree mockRemoteTree() throws IOException {
+        final List<GHTreeEntry> entries = Files
+            .walk(repoRoot)
+            .filter(p -> !p.equals(repoRoot))
+            .map(
+                p ->
+                    mockRemoteTreeEntry(
+                        repoRoot.relativize(p).toString(),
+                        Files.isDirectory(p) ? "tree" : "blob",
+                        p.toString()
+                    )
+            )
+            .collect(Collectors.toList());
+        if (!Files.exists(repoRoot.resolve("docs"))) {
+            // submodules are listed as commit entries whose sha is not a blob of this repository
+            entries.add(mockRemoteTreeEntry("docs", "commit", "submodule-commit"));
+        }
+        final GHTree tree = Mockito.mock(GHTree.class);
+        Mockito.when(tree.isTruncated()).thenReturn(false);
+        Mockito.when(tree.getTree()).thenReturn(entries);
+        return tree;
+    }
+
+    private GHTreeEntry mockRemoteTreeEntry(
+        final String path,
+        final String type,
+        final String sha
+    ) throws UncheckedIOException {
+        try {
+            final GHTreeEntry entry = Mockito.mock(GHTreeEntry.class);
+            Mockito.when(entry.getPath()).thenReturn(path);
+            Mockito.when(entry.getType()).thenReturn(type);
+            Mockito.when(entry.getSha()).thenReturn(sha);
+            Mockito
+                .when(entry.getSize())
+                .thenReturn(
+                    "blob".equals(type) ? Files.size(repoRoot.resolve(path)) : 0L
+                );
+            return entry;
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -117,7 +187,11 @@ public class RemoteGitHubTestFixture extends LocalFileSystemTestFixture {
                         } catch (Exception e) {
                             throw new RuntimeException(e);
                         }
-                        return Mockito.mock(GHContentUpdateResponse.class);
+                        final GHContentUpdateResponse update = Mockito.mock(
+                            GHContentUpdateResponse.class
+                        );
+                        Mockito.when(update.getContent()).thenReturn(remoteFile);
+                        return update;
                     }
                 );
             Mockito
@@ -164,11 +238,18 @@ public class RemoteGitHubTestFixture extends LocalFileSystemTestFixture {
                     .apply(
                         Optional
                             .ofNullable(remoteRepo)
-                            .map(GitHubRepositoryPath::of)
+                            .map(
+                                repository ->
+                                    GitHubRepositoryPath
+                                        .create(repository)
+                                        .useTreeSnapshot(useTreeSnapshot)
+                                        .build()
+                            )
                             .orElse(null)
                     )
                     .loggingService(loggingService)
                     .specification(SPECIFICATION)
+                    .parallelism(reportParallelism)
                     .build()
                     .call();
         } catch (final Exception e) {
@@ -184,7 +265,13 @@ public class RemoteGitHubTestFixture extends LocalFileSystemTestFixture {
                     .apply(
                         Optional
                             .ofNullable(remoteRepo)
-                            .map(GitHubRepositoryPath::of)
+                            .map(
+                                repository ->
+                                    GitHubRepositoryPath
+                                        .create(repository)
+                                        .useTreeSnapshot(useTreeSnapshot)
+                                        .build()
+                            )
                             .orElse(null)
                     )
                     .specification(SPECIFICATION)
@@ -22,6 +22,10 @@ abstract class TestFixtures implements CommandTestFixture {
             new Object[][] {
                 { new LocalFileSystemTestFixture(), "Local Filesystem Tests" },
                 { new RemoteGitHubTestFixture(), "Remote GitHub Tests" },
+                {
+                    new RemoteGitHubTestFixture(true),
+                    "Remote GitHub Tree Snapshot Tests",
+                },
             }
         );
     }
@@ -50,6 +54,11 @@ abstract class TestFixtures implements CommandTestFixture {
         fixture.given_logging_service(scanLogConsumer);
     }
 
+    @Override
+    public void given_report_parallelism(final int parallelism) {
+        fixture.given_report_parallelism(parallelism);
+    }
+
     @Override
     public void when_run_report_command() {
         fixture.when_run_report_command();
@@ -65,6 +74,13 @@ abstract class TestFixtures implements CommandTestFixture {
         fixture.then_readiness_report_matches(expectedScanResults);
     }
 
+    @Override
+    public void then_readiness_report_matches_report_with_parallelism(
+        final int parallelism
+    ) {
+        fixture.then_readiness_report_matches_report_with_parallelism(parallelism);
+    }
+
     @Override
     public void then_fixed_files_match(final Object... expected) {
         fixture.then_fixed_files_match(expected);
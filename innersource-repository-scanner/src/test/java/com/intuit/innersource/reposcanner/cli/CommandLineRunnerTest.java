@@ -0,0 +1,65 @@
+package com.intuit.innersource.reposcanner.cli;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.assertj.core.api.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import picocli.CommandLine;
+
+public class CommandLineRunnerTest {
+
+    private PrintStream preTestStdOut;
+    private ByteArrayOutputStream stdoutStream;
+
+    @Before
+    public void setUp() {
+        preTestStdOut = System.out;
+        stdoutStream = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(stdoutStream, true));
+    }
+
+    @After
+    public void tearDown() {
+        System.setOut(preTestStdOut);
+    }
+
+    @Test
+    public void givenRepositoryToFix_whenReportAndFixup_thenStandardOutputIsReportJson()
+        throws IOException {
+        final Path repository = Files.createTempDirectory("repository");
+
+        final int exitCode = new CommandLine(CommandLineRunner.class)
+            .setCaseInsensitiveEnumValuesAllowed(true)
+            .execute(
+                "--command",
+                "REPORT_AND_FIXUP",
+                "--repository",
+                repository.toString()
+            );
+
+        Assertions.assertThat(exitCode).isEqualTo(0);
+        // the fixup created files, which it logs elsewhere
+        Assertions
+            .assertThat(Files.exists(repository.resolve("CONTRIBUTING.md")))
+            .isTrue();
+        // fails on anything printed after the report's json
+        final JsonElement standardOutput = new JsonParser()
+            .parse(new String(stdoutStream.toByteArray(), StandardCharsets.UTF_8));
+        Assertions
+            .assertThat(
+                standardOutput
+                    .getAsJsonObject()
+                    .get("isRepositoryInnerSourceReady")
+                    .getAsBoolean()
+            )
+            .isFalse();
+    }
+}
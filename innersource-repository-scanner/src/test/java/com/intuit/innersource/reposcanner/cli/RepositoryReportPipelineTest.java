@@ -0,0 +1,124 @@
+package com.intuit.innersource.reposcanner.cli;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Ordering;
+import com.intuit.innersource.reposcanner.commands.report.InnerSourceReadinessReport;
+import com.intuit.innersource.reposcanner.commands.report.InnerSourceReadinessReportCommand;
+import com.intuit.innersource.reposcanner.repofilepath.local.LocalRepositoryFilePath;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RepositoryReportPipelineTest {
+
+    private InnerSourceReadinessReport report;
+
+    @Before
+    public void given_report_of_empty_repository() throws IOException {
+        report =
+            InnerSourceReadinessReportCommand
+                .create(
+                    LocalRepositoryFilePath.of(Files.createTempDirectory("repository"))
+                )
+                .build()
+                .call();
+    }
+
+    @Test
+    public void givenFailingRepository_whenRun_thenErrorPrintedAndOnlyReportedRepositoriesPassedOn()
+        throws InterruptedException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final List<String> reportedRepositories = new CopyOnWriteArrayList<>();
+
+        final int failureCount = new RepositoryReportPipeline<String>(
+            2,
+            name -> name,
+            name -> {
+                if (name.equals("org/rate-limited")) {
+                    throw new IOException("API rate limit exceeded");
+                }
+                return LocalRepositoryFilePath.of(
+                    Files.createTempDirectory("repository")
+                );
+            },
+            repositoryPath -> report
+        )
+            .run(
+                ImmutableList.of("org/a", "org/rate-limited", "org/b").iterator(),
+                new PrintStream(out, true),
+                reportedRepositories::add
+            );
+
+        Assertions.assertThat(failureCount).isEqualTo(1);
+        Assertions
+            .assertThat(Ordering.natural().sortedCopy(reportedRepositories))
+            .containsExactly("org/a", "org/b");
+        final String[] lines = new String(out.toByteArray(), StandardCharsets.UTF_8)
+            .split(System.lineSeparator());
+        Assertions.assertThat(lines.length).isEqualTo(3);
+        Assertions
+            .assertThat(
+                ImmutableList
+                    .copyOf(lines)
+                    .stream()
+                    .filter(
+                        line ->
+                            line.contains("\"repository\":\"org/rate-limited\"") &&
+                            line.contains("\"error\":")
+                    )
+                    .count()
+            )
+            .isEqualTo(1L);
+    }
+
+    @Test
+    public void givenManyRepositories_whenRun_thenEachReportedOnceWithBoundedLookAhead()
+        throws InterruptedException {
+        final int parallelism = 3;
+        final List<String> repositories = Collections.nCopies(20, "org/repo");
+        final List<String> reportedRepositories = new CopyOnWriteArrayList<>();
+        final int[] taken = { 0 };
+        final int[] maximumAhead = { 0 };
+
+        final int failureCount = new RepositoryReportPipeline<String>(
+            parallelism,
+            name -> name,
+            name -> LocalRepositoryFilePath.of(Files.createTempDirectory("repository")),
+            repositoryPath -> report
+        )
+            .run(
+                new Iterator<String>() {
+                    @Override
+                    public boolean hasNext() {
+                        return taken[0] < repositories.size();
+                    }
+
+                    @Override
+                    public String next() {
+                        taken[0]++;
+                        maximumAhead[0] =
+                            Math.max(
+                                maximumAhead[0],
+                                taken[0] - reportedRepositories.size()
+                            );
+                        return repositories.get(taken[0] - 1);
+                    }
+                },
+                new PrintStream(new ByteArrayOutputStream(), true),
+                reportedRepositories::add
+            );
+
+        Assertions.assertThat(failureCount).isEqualTo(0);
+        Assertions.assertThat(reportedRepositories).hasSize(20);
+        Assertions.assertThat(maximumAhead[0] <= 2 * parallelism).isTrue();
+    }
+}
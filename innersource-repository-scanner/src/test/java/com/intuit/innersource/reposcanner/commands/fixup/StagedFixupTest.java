@@ -0,0 +1,90 @@
+package com.intuit.innersource.reposcanner.commands.fixup;
+
+import com.google.common.collect.ImmutableSet;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import com.intuit.innersource.reposcanner.repofilepath.local.LocalRepositoryFilePath;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.DirectoriesToSearch;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileCheck;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileChecks;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileRequirement;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileToFind;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.RepositoryRequirements;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import org.apache.commons.io.IOUtils;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class StagedFixupTest {
+
+    private static final InnerSourceReadinessSpecification SPECIFICATION = InnerSourceReadinessSpecification.create(
+        "STAGED_FIXUP",
+        RepositoryRequirements.create(
+            DirectoriesToSearch.create("/"),
+            FileRequirement.create(
+                FileToFind.create("/README.md"),
+                FileChecks.create(
+                    FileCheck.markdownFileWithHeading(
+                        "Usage",
+                        ImmutableSet.of(),
+                        false,
+                        true
+                    )
+                )
+            ),
+            FileRequirement.create(
+                FileToFind.create("/CONTRIBUTING.md"),
+                FileChecks.create(FileCheck.fileNotEmpty())
+            )
+        )
+    );
+
+    @Test
+    public void givenStagedFixup_whenFixedFilesRead_thenCommittedContentRead()
+        throws IOException {
+        final Path repository = Files.createTempDirectory("repository");
+        write(repository.resolve("README.md"), "# Title\n");
+
+        final List<RepositoryFilePath> fixedFiles = InnerSourceReadinessFixupCommand
+            .create(LocalRepositoryFilePath.of(repository))
+            .specification(SPECIFICATION)
+            .stageChanges(true)
+            .build()
+            .call();
+
+        Assertions.assertThat(fixedFiles.isEmpty()).isFalse();
+        boolean readmeFixed = false;
+        for (final RepositoryFilePath fixedFile : fixedFiles) {
+            final Path path = Paths.get(fixedFile.toFilePathString());
+            if (Files.isDirectory(path)) {
+                continue;
+            }
+            readmeFixed |= path.equals(repository.resolve("README.md"));
+            Assertions.assertThat(read(fixedFile)).isEqualTo(read(path));
+            Assertions.assertThat(fixedFile.size()).isEqualTo(Files.size(path));
+        }
+        // the existing file, whose staged view would read the fixes twice once they were committed
+        Assertions.assertThat(readmeFixed).isTrue();
+    }
+
+    private static String read(final RepositoryFilePath file) throws IOException {
+        try (InputStream content = file.read()) {
+            return IOUtils.toString(content, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String read(final Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private static void write(final Path file, final String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
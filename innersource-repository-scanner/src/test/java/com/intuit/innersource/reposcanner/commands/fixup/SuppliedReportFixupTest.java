@@ -0,0 +1,89 @@
+package com.intuit.innersource.reposcanner.commands.fixup;
+
+import com.intuit.innersource.reposcanner.commands.report.InnerSourceReadinessReport;
+import com.intuit.innersource.reposcanner.commands.report.InnerSourceReadinessReportCommand;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import com.intuit.innersource.reposcanner.repofilepath.local.LocalRepositoryFilePath;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.DirectoriesToSearch;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileCheck;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileChecks;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileRequirement;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileToFind;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.RepositoryRequirements;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class SuppliedReportFixupTest {
+
+    private static final InnerSourceReadinessSpecification SPECIFICATION = InnerSourceReadinessSpecification.create(
+        "SUPPLIED_REPORT_FIXUP",
+        RepositoryRequirements.create(
+            DirectoriesToSearch.create("/"),
+            FileRequirement.create(
+                FileToFind.create("/CONTRIBUTING.md"),
+                FileChecks.create(FileCheck.fileNotEmpty())
+            )
+        )
+    );
+
+    @Test
+    public void givenSuppliedReport_whenFixup_thenRepositoryNotScanned()
+        throws IOException {
+        final Path readyRepository = Files.createTempDirectory("repository");
+        Files.write(
+            readyRepository.resolve("CONTRIBUTING.md"),
+            "# Contributing\n".getBytes(StandardCharsets.UTF_8)
+        );
+        final InnerSourceReadinessReport readyReport = InnerSourceReadinessReportCommand
+            .create(LocalRepositoryFilePath.of(readyRepository))
+            .specification(SPECIFICATION)
+            .build()
+            .call();
+        final Path emptyRepository = Files.createTempDirectory("repository");
+
+        // a scan of the empty repository would find CONTRIBUTING.md missing and create it
+        final List<RepositoryFilePath> fixedFiles = InnerSourceReadinessFixupCommand
+            .create(LocalRepositoryFilePath.of(emptyRepository))
+            .specification(SPECIFICATION)
+            .report(readyReport)
+            .build()
+            .call();
+
+        Assertions.assertThat(readyReport.isRepositoryInnerSourceReady()).isTrue();
+        Assertions.assertThat(fixedFiles).isEmpty();
+        Assertions
+            .assertThat(Files.exists(emptyRepository.resolve("CONTRIBUTING.md")))
+            .isFalse();
+    }
+
+    @Test
+    public void givenReportOfOtherSpecification_whenBuild_thenRejected()
+        throws IOException {
+        final LocalRepositoryFilePath repository = LocalRepositoryFilePath.of(
+            Files.createTempDirectory("repository")
+        );
+        final InnerSourceReadinessReport report = InnerSourceReadinessReportCommand
+            .create(repository)
+            .specification(InnerSourceReadinessSpecification.PUBLIC_GITHUB_DEFAULT)
+            .build()
+            .call();
+
+        Assertions
+            .assertThatThrownBy(
+                () ->
+                    InnerSourceReadinessFixupCommand
+                        .create(repository)
+                        .specification(SPECIFICATION)
+                        .report(report)
+                        .build()
+            )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("report must be a report according to the same specification");
+    }
+}
@@ -0,0 +1,82 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import com.intuit.innersource.reposcanner.repofilepath.local.LocalRepositoryFilePath;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.DirectoriesToSearch;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileCheck;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileChecks;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileRequirement;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileToFind;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.RepositoryRequirements;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class CandidateFilePrecedenceTest {
+
+    private static final InnerSourceReadinessSpecification SPECIFICATION = InnerSourceReadinessSpecification.create(
+        "CANDIDATE_FILE_PRECEDENCE",
+        RepositoryRequirements.create(
+            DirectoriesToSearch.create("/", "/docs", "/.github"),
+            FileRequirement.create(
+                FileToFind.create("/CONTRIBUTING.md"),
+                FileChecks.create(FileCheck.fileNotEmpty())
+            )
+        )
+    );
+
+    @Test
+    public void givenMixedCaseCandidates_whenReport_thenEvaluatedInPrecedenceOrder()
+        throws IOException {
+        final Path repository = Files.createTempDirectory("repository");
+        write(repository.resolve("docs/contributing.MD"), "# Contributing\n");
+        write(repository.resolve("Contributing"), "# Contributing\n");
+        write(repository.resolve("CONTRIBUTING.md"), "# Contributing\n");
+        write(repository.resolve(".github/Contributing.md"), "# Contributing\n");
+        final Locale defaultLocale = Locale.getDefault();
+        // lower-cases an upper-case I to a dotless i
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            final InnerSourceReadinessReport report = InnerSourceReadinessReportCommand
+                .create(LocalRepositoryFilePath.of(repository))
+                .specification(SPECIFICATION)
+                .build()
+                .call();
+
+            Assertions
+                .assertThat(
+                    report
+                        .getFileRequirementReports()
+                        .get(0)
+                        .getFilesEvaluated()
+                        .stream()
+                        .map(RepositoryFilePath::toFilePathString)
+                        .map(
+                            filePath ->
+                                StringUtils.removeStart(filePath, repository.toString())
+                        )
+                        .collect(Collectors.toList())
+                )
+                .containsExactly(
+                    "/.github/Contributing.md",
+                    "/CONTRIBUTING.md",
+                    "/Contributing",
+                    "/docs/contributing.MD"
+                );
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    private static void write(final Path file, final String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,126 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.intuit.innersource.reposcanner.commands.report.CompiledSpecification.CompiledOption;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.DirectoriesToSearch;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileCheck;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileChecks;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileRequirement;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileRequirementOption;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileToFind;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.RepositoryRequirements;
+import com.intuit.innersource.reposcanner.specification.InvalidInnerSourceReadinessSpecificationException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class CompiledSpecificationTest {
+
+    private static final InnerSourceReadinessSpecification SPECIFICATION = InnerSourceReadinessSpecification.create(
+        "COMPILED_SPECIFICATION",
+        RepositoryRequirements.create(
+            DirectoriesToSearch.create("/", "/docs"),
+            FileRequirement.oneOf(
+                FileRequirementOption.create(
+                    FileToFind.create("/README.md"),
+                    FileChecks.create(
+                        FileCheck.fileNotEmpty(),
+                        FileCheck.fileHasLineMatching("^# ")
+                    )
+                ),
+                FileRequirementOption.create(
+                    FileToFind.create("/docs/README.md"),
+                    FileChecks.create(
+                        FileCheck.fileHasLineMatching("^# "),
+                        FileCheck.fileExists()
+                    )
+                )
+            ),
+            FileRequirement.create(
+                FileToFind.create("/CONTRIBUTING.md"),
+                FileChecks.create(FileCheck.fileHasLineMatching("^# "))
+            )
+        )
+    );
+
+    @Test
+    public void givenIdenticalChecksInDifferentOptions_whenCompiled_thenCheckShared() {
+        final List<CompiledOption> options = CompiledSpecification
+            .of(SPECIFICATION)
+            .options();
+
+        Assertions.assertThat(options.get(0).checkIds()).containsExactly(0, 1);
+        Assertions.assertThat(options.get(1).checkIds()).containsExactly(1, 2);
+        Assertions.assertThat(options.get(2).checkIds()).containsExactly(1);
+        Assertions
+            .assertThat(
+                options.get(1).checks().get(0) == options.get(0).checks().get(1) &&
+                options.get(2).checks().get(0) == options.get(0).checks().get(1)
+            )
+            .isTrue();
+    }
+
+    @Test
+    public void givenCheckWithoutEvaluator_whenCompiled_thenCheckNotEvaluated()
+        throws InvalidInnerSourceReadinessSpecificationException {
+        final InnerSourceReadinessSpecification specification = InnerSourceReadinessSpecification.fromJson(
+            SPECIFICATION.toJson().replace("\"FILE_EXISTS\"", "\"UNKNOWN_REQUIREMENT\"")
+        );
+
+        final CompiledOption option = CompiledSpecification
+            .of(specification)
+            .options()
+            .get(1);
+
+        Assertions.assertThat(option.checks()).hasSize(2);
+        Assertions
+            .assertThat(
+                option
+                    .evaluatorChecks()
+                    .stream()
+                    .flatMap(evaluatorChecks -> evaluatorChecks.checkIndexes().stream())
+                    .collect(Collectors.toList())
+            )
+            .containsExactly(0);
+    }
+
+    @Test
+    public void givenSpecificationReadFromJson_whenCompiled_thenSameSpecificationHash()
+        throws InvalidInnerSourceReadinessSpecificationException {
+        for (final InnerSourceReadinessSpecification specification : Arrays.asList(
+            SPECIFICATION,
+            InnerSourceReadinessSpecification.ENTERPRISE_GITHUB_DEFAULT,
+            InnerSourceReadinessSpecification.PUBLIC_GITHUB_DEFAULT
+        )) {
+            final InnerSourceReadinessSpecification readSpecification = InnerSourceReadinessSpecification.fromJson(
+                specification.toJson()
+            );
+
+            Assertions.assertThat(readSpecification).isEqualTo(specification);
+            // bypasses the cache of compiled specifications, which returns the same instance for equal specifications
+            Assertions
+                .assertThat(
+                    ImmutableCompiledSpecification
+                        .of(readSpecification)
+                        .specificationHash()
+                )
+                .isEqualTo(
+                    ImmutableCompiledSpecification.of(specification).specificationHash()
+                );
+        }
+        Assertions
+            .assertThat(
+                ImmutableCompiledSpecification
+                    .of(InnerSourceReadinessSpecification.PUBLIC_GITHUB_DEFAULT)
+                    .specificationHash()
+                    .equals(
+                        ImmutableCompiledSpecification
+                            .of(SPECIFICATION)
+                            .specificationHash()
+                    )
+            )
+            .isFalse();
+    }
+}
@@ -0,0 +1,69 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Optional;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class DirectoryScanResultStoreTest {
+
+    @Test
+    public void givenStoredResult_whenGetSameRevision_thenResultReturned()
+        throws IOException {
+        final ScanResultStore store = ScanResultStore.inDirectory(
+            Files.createTempDirectory("scan-results")
+        );
+        store.put(ScanResultKey.of("https://github.com/o/r", "abc123", "spec"), "[[]]");
+
+        Assertions
+            .assertThat(
+                store.get(ScanResultKey.of("https://github.com/o/r", "abc123", "spec"))
+            )
+            .isEqualTo(Optional.of("[[]]"));
+    }
+
+    @Test
+    public void givenStoredResult_whenGetOtherRevisionOrSpec_thenEmpty()
+        throws IOException {
+        final ScanResultStore store = ScanResultStore.inDirectory(
+            Files.createTempDirectory("scan-results")
+        );
+        store.put(ScanResultKey.of("https://github.com/o/r", "abc123", "spec"), "[[]]");
+
+        Assertions
+            .assertThat(
+                store.get(ScanResultKey.of("https://github.com/o/r", "def456", "spec"))
+            )
+            .isEmpty();
+        Assertions
+            .assertThat(
+                store.get(ScanResultKey.of("https://github.com/o/r", "abc123", "other"))
+            )
+            .isEmpty();
+    }
+
+    @Test
+    public void givenNewRevisionStored_whenGetPreviousRevision_thenEmpty()
+        throws IOException {
+        final ScanResultStore store = ScanResultStore.inDirectory(
+            Files.createTempDirectory("scan-results")
+        );
+        store.put(ScanResultKey.of("https://github.com/o/r", "abc123", "spec"), "[[]]");
+        store.put(
+            ScanResultKey.of("https://github.com/o/r", "def456", "spec"),
+            "[[], []]"
+        );
+
+        Assertions
+            .assertThat(
+                store.get(ScanResultKey.of("https://github.com/o/r", "abc123", "spec"))
+            )
+            .isEmpty();
+        Assertions
+            .assertThat(
+                store.get(ScanResultKey.of("https://github.com/o/r", "def456", "spec"))
+            )
+            .isEqualTo(Optional.of("[[], []]"));
+    }
+}
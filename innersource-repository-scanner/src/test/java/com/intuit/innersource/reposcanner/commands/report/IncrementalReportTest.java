@@ -0,0 +1,127 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.google.common.collect.ImmutableSet;
+import com.intuit.innersource.reposcanner.repofilepath.local.LocalRepositoryFilePath;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class IncrementalReportTest {
+
+    @Test
+    public void givenChangedFiles_whenIncrementalReport_thenMatchesFullScan()
+        throws IOException {
+        final Path repository = Files.createTempDirectory("repository");
+        write(repository.resolve("README.md"), "# Title\n");
+        write(repository.resolve("CONTRIBUTING.md"), "# Contributing\n");
+        final InnerSourceReadinessReport previousReport = report(repository);
+        write(repository.resolve("README.md"), "# Title\n\nA description.\n\n## Usage\n");
+        Files.delete(repository.resolve("CONTRIBUTING.md"));
+        write(
+            repository.resolve("docs/CONTRIBUTING.md"),
+            "# Contributing\n\n## Before PR\n"
+        );
+
+        final InnerSourceReadinessReport incrementalReport = InnerSourceReadinessReportCommand
+            .create(LocalRepositoryFilePath.of(repository))
+            .previousReport(previousReport)
+            .changedFilePaths(
+                ImmutableSet.of("/README.md", "/CONTRIBUTING.md", "docs/CONTRIBUTING.md")
+            )
+            .build()
+            .call();
+
+        Assertions.assertThat(incrementalReport).isEqualTo(report(repository));
+    }
+
+    @Test
+    public void givenUnchangedFiles_whenIncrementalReport_thenPreviousFileReportsReused()
+        throws IOException {
+        final Path repository = Files.createTempDirectory("repository");
+        write(repository.resolve("README.md"), "# Title\n");
+        final InnerSourceReadinessReport previousReport = report(repository);
+        write(repository.resolve("README.md"), "# Title\n\nA description.\n");
+
+        final InnerSourceReadinessReport incrementalReport = InnerSourceReadinessReportCommand
+            .create(LocalRepositoryFilePath.of(repository))
+            .previousReport(previousReport)
+            .changedFilePaths(ImmutableSet.of("/src/Main.java"))
+            .build()
+            .call();
+
+        Assertions.assertThat(incrementalReport).isEqualTo(previousReport);
+    }
+
+    @Test
+    public void givenChangesInsideIssueTemplateDirectory_whenIncrementalReport_thenMatchesFullScan()
+        throws IOException {
+        final Path repository = Files.createTempDirectory("repository");
+        write(repository.resolve("README.md"), "# Title\n");
+        final Path issueTemplate = repository.resolve(".github/ISSUE_TEMPLATE");
+
+        // the directory is created
+        InnerSourceReadinessReport previousReport = report(repository);
+        write(issueTemplate.resolve("bug.md"), "# Bug\n");
+        previousReport =
+            assertIncrementalReportMatchesFullScan(
+                repository,
+                previousReport,
+                ".github/ISSUE_TEMPLATE/bug.md"
+            );
+
+        // a file in the directory is edited
+        write(
+            issueTemplate.resolve("bug.md"),
+            "---\nname: Bug report\nabout: Report a bug\n---\n# Bug\n"
+        );
+        previousReport =
+            assertIncrementalReportMatchesFullScan(
+                repository,
+                previousReport,
+                "/.github/ISSUE_TEMPLATE/bug.md"
+            );
+
+        // the directory is deleted
+        Files.delete(issueTemplate.resolve("bug.md"));
+        Files.delete(issueTemplate);
+        assertIncrementalReportMatchesFullScan(
+            repository,
+            previousReport,
+            "/.github/ISSUE_TEMPLATE/bug.md"
+        );
+    }
+
+    private static InnerSourceReadinessReport assertIncrementalReportMatchesFullScan(
+        final Path repository,
+        final InnerSourceReadinessReport previousReport,
+        final String changedFilePath
+    ) {
+        final InnerSourceReadinessReport fullReport = report(repository);
+        Assertions.assertThat(fullReport.equals(previousReport)).isFalse();
+
+        final InnerSourceReadinessReport incrementalReport = InnerSourceReadinessReportCommand
+            .create(LocalRepositoryFilePath.of(repository))
+            .previousReport(previousReport)
+            .changedFilePaths(ImmutableSet.of(changedFilePath))
+            .build()
+            .call();
+
+        Assertions.assertThat(incrementalReport).isEqualTo(fullReport);
+        return incrementalReport;
+    }
+
+    private static InnerSourceReadinessReport report(final Path repository) {
+        return InnerSourceReadinessReportCommand
+            .create(LocalRepositoryFilePath.of(repository))
+            .build()
+            .call();
+    }
+
+    private static void write(final Path file, final String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,174 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.intuit.innersource.reposcanner.commands.report.CompiledSpecification.CompiledOption;
+import com.intuit.innersource.reposcanner.commands.report.InnerSourceReadinessReport.FileChecksReport;
+import com.intuit.innersource.reposcanner.commands.report.InnerSourceReadinessReport.FileRequirementReport;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import com.intuit.innersource.reposcanner.repofilepath.local.LocalRepositoryFilePath;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.DirectoriesToSearch;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileCheck;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileChecks;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileRequirement;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileRequirementOption;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileToFind;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.RepositoryRequirements;
+import com.intuit.innersource.reposcanner.specification.InvalidInnerSourceReadinessSpecificationException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class InnerSourceReadinessReportTest {
+
+    private static final FileCheck CHECK = FileCheck.fileNotEmpty();
+
+    private static final FileRequirement REQUIREMENT = FileRequirement.create(
+        FileToFind.create("/README.md"),
+        FileChecks.create(CHECK)
+    );
+
+    private static final FileRequirementOption OPTION = REQUIREMENT
+        .getRequiredFileOptions()
+        .get(0);
+
+    private static final InnerSourceReadinessSpecification SPECIFICATION = InnerSourceReadinessSpecification.create(
+        "INNERSOURCE_READINESS_REPORT",
+        RepositoryRequirements.create(DirectoriesToSearch.create("/"), REQUIREMENT)
+    );
+
+    @Test
+    public void givenDuplicateReports_whenLookedUp_thenFirstReportReturned()
+        throws IOException {
+        final RepositoryFilePath readme = LocalRepositoryFilePath
+            .of(Files.createTempDirectory("repository"))
+            .resolvePath("README.md");
+        final FileRequirementReport first = fileRequirementReport(
+            fileChecksReport(readme, true),
+            fileChecksReport(readme, false)
+        );
+        final FileRequirementReport second = fileRequirementReport(
+            fileChecksReport(readme, false)
+        );
+
+        final InnerSourceReadinessReport report = ImmutableInnerSourceReadinessReport
+            .builder()
+            .specificationEvaluated(SPECIFICATION)
+            .addFileRequirementReports(first, second)
+            .build();
+
+        Assertions
+            .assertThat(report.getFileRequirementReportsFor(REQUIREMENT))
+            .containsExactly(first, second);
+        Assertions
+            .assertThat(report.getFileRequirementReportFor(OPTION).get())
+            .isEqualTo(first);
+        Assertions
+            .assertThat(
+                first.getFileChecksReportFor(readme).get().isFileChecksSatisfied()
+            )
+            .isTrue();
+    }
+
+    @Test
+    public void givenKeysReadFromJson_whenStoredReportLookedUp_thenReportsFound()
+        throws IOException, InvalidInnerSourceReadinessSpecificationException {
+        final Path repository = Files.createTempDirectory("repository");
+        Files.write(
+            repository.resolve("README.md"),
+            "# Title\n".getBytes(StandardCharsets.UTF_8)
+        );
+        final LocalRepositoryFilePath root = LocalRepositoryFilePath.of(repository);
+        final InnerSourceReadinessReport scannedReport = InnerSourceReadinessReportCommand
+            .create(root)
+            .specification(SPECIFICATION)
+            .build()
+            .call();
+        final List<CompiledOption> options = CompiledSpecification
+            .of(SPECIFICATION)
+            .options();
+        final InnerSourceReadinessReport report = InnerSourceReadinessReportCommand.assembleReport(
+            SPECIFICATION,
+            options,
+            StoredScanResults
+                .read(StoredScanResults.write(scannedReport), options, root)
+                .get()
+        );
+        final InnerSourceReadinessSpecification specification = InnerSourceReadinessSpecification.fromJson(
+            SPECIFICATION.toJson()
+        );
+        final FileRequirement requirement = specification
+            .repositoryRequirements()
+            .requiredFiles()
+            .get(0);
+        final FileRequirementOption option = requirement.getRequiredFileOptions().get(0);
+        // equal to the file the stored report restored, but a different instance
+        final RepositoryFilePath readme = StoredRepositoryFilePath.of(
+            root,
+            scannedReport
+                .getFileRequirementReports()
+                .get(0)
+                .getFilesEvaluated()
+                .get(0)
+                .toFilePathString()
+        );
+
+        Assertions.assertThat(requirement == REQUIREMENT).isFalse();
+        Assertions
+            .assertThat(report.getOnlyFileRequirementReportFor(requirement).isPresent())
+            .isTrue();
+        Assertions.assertThat(report.isFileRequirementSatisfied(requirement)).isTrue();
+        Assertions.assertThat(report.isFileRequirementSatisfied(option)).isTrue();
+        final FileChecksReport fileChecksReport = report
+            .getFileRequirementReportFor(option)
+            .get()
+            .getFileChecksReportFor(readme)
+            .get();
+        Assertions.assertThat(fileChecksReport.getFileEvaluated() == readme).isFalse();
+        Assertions
+            .assertThat(
+                fileChecksReport
+                    .getFileCheckReportFor(option.getFileChecks().getChecks().get(0))
+                    .isPresent()
+            )
+            .isTrue();
+    }
+
+    private static FileRequirementReport fileRequirementReport(
+        final FileChecksReport... fileChecksReports
+    ) {
+        final ImmutableFileRequirementReport.Builder report = ImmutableFileRequirementReport
+            .builder()
+            .fileRequirementEvaluated(REQUIREMENT)
+            .optionEvaluated(OPTION)
+            .addFileChecksReports(fileChecksReports);
+        for (final FileChecksReport fileChecksReport : fileChecksReports) {
+            report.addFilesEvaluated(fileChecksReport.getFileEvaluated());
+            if (fileChecksReport.isFileChecksSatisfied()) {
+                report.addFilesSatisfyingFileChecks(fileChecksReport.getFileEvaluated());
+            }
+        }
+        return report.build();
+    }
+
+    private static FileChecksReport fileChecksReport(
+        final RepositoryFilePath file,
+        final boolean satisfied
+    ) {
+        return ImmutableFileChecksReport
+            .builder()
+            .fileEvaluated(file)
+            .fileChecksEvaluated(OPTION.getFileChecks())
+            .addFileCheckReports(
+                ImmutableFileCheckReport
+                    .builder()
+                    .fileCheckEvaluated(CHECK)
+                    .isFileCheckSatisfied(satisfied)
+                    .build()
+            )
+            .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.intuit.innersource.reposcanner.evaluators.MarkdownFileInfo.SectionHeading;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class MarkdownFileNodeVisitorTest {
+
+    @Test
+    public void givenNestedSections_whenVisited_thenSectionContentAssignedPerHeading() {
+        final List<SectionHeading> headings = visit(
+            "# Title\n" +
+            "## Empty\n" +
+            "## Usage\n" +
+            "### Example\n" +
+            "Some text.\n" +
+            "## Help\n" +
+            "> Ask in the channel.\n" +
+            "# Appendix\n"
+        );
+
+        Assertions
+            .assertThat(describe(headings))
+            .containsExactly(
+                "Title=true",
+                "Empty=false",
+                "Usage=true",
+                "Example=true",
+                "Help=true",
+                "Appendix=false"
+            );
+    }
+
+    @Test
+    public void givenCommentHintsOnly_whenVisited_thenSectionHasNoContent() {
+        final List<SectionHeading> headings = visit(
+            "# Title\n\n[//]: # \"Contributing\"\n\n# Next\n\n## Empty\n"
+        );
+
+        Assertions
+            .assertThat(describe(headings))
+            .containsExactly("Title=false", "Empty=false");
+    }
+
+    @Test
+    public void givenTenThousandHeadings_whenVisited_thenEverySectionAssigned() {
+        final StringBuilder markdown = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            markdown.append("## Section ").append(i).append('\n');
+            markdown.append("### Subsection ").append(i).append('\n');
+            if (i % 2 == 0) {
+                markdown.append("content ").append(i).append('\n');
+            }
+        }
+
+        final List<SectionHeading> headings = visit(markdown.toString());
+
+        Assertions.assertThat(headings).hasSize(20_000);
+        for (int i = 0; i < 10_000; i++) {
+            Assertions.assertThat(headings.get(2 * i).hasContent()).isEqualTo(i % 2 == 0);
+            Assertions
+                .assertThat(headings.get(2 * i + 1).hasContent())
+                .isEqualTo(i % 2 == 0);
+        }
+    }
+
+    private static List<SectionHeading> visit(final String markdown) {
+        final MarkdownFileNodeVisitor visitor = new MarkdownFileNodeVisitor();
+        visitor.visit(Parser.builder(new MutableDataSet()).build().parse(markdown));
+        return visitor.getHeadings();
+    }
+
+    private static List<String> describe(final List<SectionHeading> headings) {
+        return headings
+            .stream()
+            .map(heading -> heading.getHeadingText() + "=" + heading.hasContent())
+            .collect(Collectors.toList());
+    }
+}
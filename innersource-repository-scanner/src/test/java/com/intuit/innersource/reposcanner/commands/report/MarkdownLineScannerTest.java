@@ -0,0 +1,141 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.intuit.innersource.reposcanner.evaluators.MarkdownFileInfo;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class MarkdownLineScannerTest {
+
+    @Parameters(name = "{0}")
+    public static Collection<Object[]> data() {
+        return Stream
+            .of("/readmes", "/contributings")
+            .map(MarkdownLineScannerTest.class::getResource)
+            .map(MarkdownLineScannerTest::toPath)
+            .flatMap(MarkdownLineScannerTest::list)
+            .sorted()
+            .map(
+                markdownFile ->
+                    new Object[] { markdownFile.getFileName().toString(), markdownFile }
+            )
+            .collect(Collectors.toList());
+    }
+
+    private final Path markdownFile;
+
+    public MarkdownLineScannerTest(final String name, final Path markdownFile) {
+        this.markdownFile = markdownFile;
+    }
+
+    @Test
+    public void givenMarkdownFixture_whenScanned_thenFactsMatchFlexmark()
+        throws IOException {
+        final String content = new String(
+            Files.readAllBytes(markdownFile),
+            StandardCharsets.UTF_8
+        );
+
+        final Optional<MarkdownFileInfo> scanned = MarkdownLineScanner.scan(content);
+
+        if (scanned.isPresent()) {
+            final MarkdownFileNodeVisitor parsed = new MarkdownFileNodeVisitor();
+            parsed.visit(Parser.builder(new MutableDataSet()).build().parse(content));
+            Assertions.assertThat(describe(scanned.get())).isEqualTo(describe(parsed));
+        }
+    }
+
+    @Test
+    public void givenHtmlBlock_whenScanned_thenFallsBackToFlexmark() {
+        Assertions
+            .assertThat(
+                MarkdownLineScanner.scan("# Title\n\n<p align=\"center\">logo</p>\n")
+            )
+            .isEmpty();
+    }
+
+    @Test
+    public void givenNestedSections_whenScanned_thenSectionContentAssignedPerHeading() {
+        final MarkdownFileInfo scanned = MarkdownLineScanner
+            .scan(
+                "# Title\n" +
+                "## Empty\n" +
+                "## Usage\n" +
+                "### Example\n" +
+                "text ![diagram](diagram.png)\n" +
+                "\n" +
+                "[//]: # \"Support\"\n" +
+                "## Help\n" +
+                "Ask in the channel.\n"
+            )
+            .get();
+
+        Assertions
+            .assertThat(describe(scanned))
+            .isEqualTo(
+                "Title=true,Empty=false,Usage=true,Example=true,\ndiagram,\nSupport=true,"
+            );
+    }
+
+    private static String describe(final MarkdownFileInfo markdownFileInfo) {
+        return (
+            markdownFileInfo
+                .getHeadings()
+                .stream()
+                .map(
+                    heading -> heading.getHeadingText() + "=" + heading.hasContent() + ","
+                )
+                .collect(Collectors.joining()) +
+            "\n" +
+            markdownFileInfo
+                .getImageAltTexts()
+                .stream()
+                .map(altText -> altText.getImageAltText() + ",")
+                .collect(Collectors.joining()) +
+            "\n" +
+            markdownFileInfo
+                .getCommentHints()
+                .stream()
+                .map(
+                    hint ->
+                        hint.getHintText() +
+                        "=" +
+                        hint.hintedElementHasDescription() +
+                        ","
+                )
+                .collect(Collectors.joining())
+        );
+    }
+
+    private static Path toPath(final URL url) {
+        try {
+            return Paths.get(url.toURI());
+        } catch (final URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Stream<Path> list(final Path directory) {
+        try {
+            return Files.list(directory);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
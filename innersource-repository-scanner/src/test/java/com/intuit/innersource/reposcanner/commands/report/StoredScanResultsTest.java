@@ -0,0 +1,85 @@
+package com.intuit.innersource.reposcanner.commands.report;
+
+import com.intuit.innersource.reposcanner.commands.report.CompiledSpecification.CompiledOption;
+import com.intuit.innersource.reposcanner.repofilepath.local.LocalRepositoryFilePath;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class StoredScanResultsTest {
+
+    @Test
+    public void givenStoredReport_whenRead_thenReportRebuilt() throws IOException {
+        final Path repository = Files.createTempDirectory("repository");
+        Files.write(
+            repository.resolve("README.md"),
+            "# Title\n".getBytes(StandardCharsets.UTF_8)
+        );
+        final LocalRepositoryFilePath root = LocalRepositoryFilePath.of(repository);
+        final InnerSourceReadinessReport report = InnerSourceReadinessReportCommand
+            .create(root)
+            .build()
+            .call();
+        final List<CompiledOption> options = CompiledSpecification
+            .of(report.getSpecificationEvaluated())
+            .options();
+
+        final Optional<List<List<InnerSourceReadinessReport.FileChecksReport>>> fileChecksReports = StoredScanResults.read(
+            StoredScanResults.write(report),
+            options,
+            root
+        );
+
+        Assertions.assertThat(fileChecksReports.isPresent()).isTrue();
+        Assertions
+            .assertThat(
+                InnerSourceReadinessReportCommand
+                    .assembleReport(
+                        report.getSpecificationEvaluated(),
+                        options,
+                        fileChecksReports.get()
+                    )
+                    .toJson()
+            )
+            .isEqualTo(report.toJson());
+    }
+
+    @Test
+    public void givenMalformedResult_whenRead_thenEmpty() {
+        final List<CompiledOption> options = CompiledSpecification
+            .of(InnerSourceReadinessReportCommand.create(root()).build().specification())
+            .options();
+        final StringBuilder emptyOptions = new StringBuilder("[");
+        for (int i = 0; i < options.size(); i++) {
+            emptyOptions.append(i == 0 ? "[]" : ",[]");
+        }
+        final String noFiles = emptyOptions.append(']').toString();
+
+        Assertions
+            .assertThat(StoredScanResults.read(noFiles, options, root()).isPresent())
+            .isTrue();
+        for (final String malformed : new String[] {
+            "",
+            "{}",
+            "[[]]",
+            noFiles.replaceFirst("\\[\\]", "1"),
+            noFiles.replaceFirst("\\[\\]", "[1]"),
+            noFiles.replaceFirst("\\[\\]", "[{\"checks\":\"1\"}]"),
+            noFiles.replaceFirst("\\[\\]", "[{\"path\":\"/README.md\",\"checks\":{}}]"),
+        }) {
+            Assertions
+                .assertThat(StoredScanResults.read(malformed, options, root()))
+                .isEmpty();
+        }
+    }
+
+    private static LocalRepositoryFilePath root() {
+        return LocalRepositoryFilePath.of(Paths.get("repository"));
+    }
+}
@@ -0,0 +1,220 @@
+package com.intuit.innersource.reposcanner.evaluators.builtin;
+
+import com.google.common.collect.ImmutableList;
+import com.intuit.innersource.reposcanner.evaluators.EvaluationContext;
+import com.intuit.innersource.reposcanner.evaluators.FileInfo;
+import com.intuit.innersource.reposcanner.evaluators.MarkdownFileInfo;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.DirectoriesToSearch;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileCheck;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileChecks;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileRequirement;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.FileToFind;
+import com.intuit.innersource.reposcanner.specification.InnerSourceReadinessSpecification.RepositoryRequirements;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class FileHasLineMatchingFileCheckEvaluatorTest {
+
+    private static final List<FileCheck> CHECKS = ImmutableList.of(
+        FileCheck.fileHasLineMatching("^\\s*\\*\\s+(\\S+@\\S+|@\\S+).*$"),
+        FileCheck.fileHasLineMatching("^#\\s"),
+        FileCheck.fileHasLineMatching("^##\\s"),
+        FileCheck.fileHasLineMatching("(?i)contribut"),
+        FileCheck.fileHasLineMatching("^\\s*$"),
+        FileCheck.fileHasLineMatching("^no line of any fixture looks like this$")
+    );
+
+    private final FileHasLineMatchingFileCheckEvaluator evaluator = new FileHasLineMatchingFileCheckEvaluator();
+
+    @Parameters(name = "{0}")
+    public static Collection<Object[]> data() {
+        return Stream
+            .of("/codeowners", "/readmes", "/contributings")
+            .map(FileHasLineMatchingFileCheckEvaluatorTest.class::getResource)
+            .map(FileHasLineMatchingFileCheckEvaluatorTest::toPath)
+            .flatMap(FileHasLineMatchingFileCheckEvaluatorTest::list)
+            .sorted()
+            .map(fixture -> new Object[] { fixture.getFileName().toString(), fixture })
+            .collect(Collectors.toList());
+    }
+
+    private final List<String> lines;
+
+    public FileHasLineMatchingFileCheckEvaluatorTest(
+        final String name,
+        final Path fixture
+    ) throws IOException {
+        this.lines = Files.readAllLines(fixture, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void givenLineMatchingFixture_whenEvaluateAll_thenMatchesEvaluate() {
+        final FileInfo fileInfo = new LinesFileInfo(lines);
+        final EvaluationContext context = context(CHECKS);
+
+        Assertions
+            .assertThat(evaluator.evaluateAll(fileInfo, CHECKS, context))
+            .isEqualTo(
+                CHECKS
+                    .stream()
+                    .map(check -> evaluator.evaluate(fileInfo, check, context))
+                    .collect(Collectors.toList())
+            );
+    }
+
+    @Test
+    public void givenEveryCheckMatchedEarly_whenEvaluateAll_thenRemainingLinesNotRead() {
+        final int firstNonBlankLine = firstNonBlankLine();
+        // both checks are matched by the first line which is not blank, the second also by any line before it
+        final List<FileCheck> checks = ImmutableList.of(
+            FileCheck.fileHasLineMatching(
+                "^" + Pattern.quote(lines.get(firstNonBlankLine)) + "$"
+            ),
+            FileCheck.fileHasLineMatching(".*")
+        );
+        final LinesFileInfo fileInfo = new LinesFileInfo(lines);
+
+        final List<Boolean> results = evaluator.evaluateAll(
+            fileInfo,
+            checks,
+            context(checks)
+        );
+
+        Assertions.assertThat(fileInfo.linesRead).isEqualTo(firstNonBlankLine + 1);
+        Assertions.assertThat(results).containsExactly(true, true);
+        Assertions
+            .assertThat(
+                checks
+                    .stream()
+                    .map(check -> evaluator.evaluate(fileInfo, check, context(checks)))
+                    .collect(Collectors.toList())
+            )
+            .isEqualTo(results);
+    }
+
+    private int firstNonBlankLine() {
+        for (int i = 0; i < lines.size(); i++) {
+            if (!lines.get(i).trim().isEmpty()) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("fixture has no line which is not blank");
+    }
+
+    private static EvaluationContext context(final List<FileCheck> checks) {
+        final FileRequirement fileRequirement = FileRequirement.create(
+            FileToFind.create("/CODEOWNERS"),
+            FileChecks.create(
+                checks.get(0),
+                checks.subList(1, checks.size()).toArray(new FileCheck[0])
+            )
+        );
+        return EvaluationContext.create(
+            InnerSourceReadinessSpecification.create(
+                "LINE_MATCHING",
+                RepositoryRequirements.create(
+                    DirectoriesToSearch.create("/"),
+                    fileRequirement
+                )
+            ),
+            fileRequirement,
+            fileRequirement.getRequiredFileOptions().get(0)
+        );
+    }
+
+    private static Path toPath(final URL url) {
+        try {
+            return Paths.get(url.toURI());
+        } catch (final URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Stream<Path> list(final Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList()).stream();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A file of {@code lines}, counting how many of the lines were read by the last pass over them.
+     */
+    private static final class LinesFileInfo implements FileInfo {
+
+        private final List<String> lines;
+        private int linesRead;
+
+        LinesFileInfo(final List<String> lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public List<String> getLines() {
+            linesRead = 0;
+            return new AbstractList<String>() {
+                @Override
+                public String get(final int index) {
+                    linesRead = Math.max(linesRead, index + 1);
+                    return lines.get(index);
+                }
+
+                @Override
+                public int size() {
+                    return lines.size();
+                }
+            };
+        }
+
+        @Override
+        public RepositoryFilePath path() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MarkdownFileInfo asMarkdownFileInfo() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return false;
+        }
+
+        @Override
+        public List<FileInfo> listAll() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long size() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
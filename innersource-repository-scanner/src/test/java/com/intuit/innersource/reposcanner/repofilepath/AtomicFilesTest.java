@@ -0,0 +1,66 @@
+package com.intuit.innersource.reposcanner.repofilepath;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class AtomicFilesTest {
+
+    @Test
+    public void givenExistingFile_whenReplace_thenNewContentWritten() throws IOException {
+        final Path directory = Files.createTempDirectory("atomic");
+        final Path file = write(directory.resolve("README.md"), "# Title\n");
+
+        AtomicFiles.replace(
+            file,
+            Files.createTempFile(directory, "README.md", ".tmp"),
+            temporaryFile -> write(temporaryFile, "# Usage\n")
+        );
+
+        Assertions.assertThat(read(file)).isEqualTo("# Usage\n");
+        Assertions.assertThat(countFiles(directory)).isEqualTo(1L);
+    }
+
+    @Test
+    public void givenWriterFails_whenReplace_thenFileKeptAndTemporaryFileDeleted()
+        throws IOException {
+        final Path directory = Files.createTempDirectory("atomic");
+        final Path file = write(directory.resolve("README.md"), "# Title\n");
+
+        Assertions
+            .assertThatThrownBy(
+                () ->
+                    AtomicFiles.replace(
+                        file,
+                        Files.createTempFile(directory, "README.md", ".tmp"),
+                        temporaryFile -> {
+                            write(temporaryFile, "# Us");
+                            throw new IOException("disk full");
+                        }
+                    )
+            )
+            .isInstanceOf(IOException.class)
+            .hasMessage("disk full");
+
+        Assertions.assertThat(read(file)).isEqualTo("# Title\n");
+        Assertions.assertThat(countFiles(directory)).isEqualTo(1L);
+    }
+
+    private static long countFiles(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static String read(final Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private static Path write(final Path file, final String content) throws IOException {
+        return Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
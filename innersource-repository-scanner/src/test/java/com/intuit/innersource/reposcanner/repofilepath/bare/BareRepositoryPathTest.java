@@ -0,0 +1,362 @@
+package com.intuit.innersource.reposcanner.repofilepath.bare;
+
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.ByteStreams;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ProcessBuilder.Redirect;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.assertj.core.api.Assertions;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class BareRepositoryPathTest {
+
+    private static final int PACKED_REVISIONS = 4;
+
+    private static final List<String> PACKED_FILES = ImmutableList.of(
+        "README.md",
+        "docs/CONTRIBUTING.md",
+        "files/0.txt",
+        "files/1.txt",
+        "files/127.txt",
+        "files/255.txt"
+    );
+
+    @Test
+    public void givenCommit_whenListAllAndRead_thenFilesOfCommitTreeReturned()
+        throws IOException {
+        final Path gitDirectory = Files.createTempDirectory("repository");
+        final String readme = writeObject(gitDirectory, "blob", bytes("# Title\n"));
+        final String docs = writeTree(gitDirectory, "100644 CONTRIBUTING.md", readme);
+        final String commit = writeCommit(
+            gitDirectory,
+            writeTree(gitDirectory, "100644 README.md", readme, "40000 docs", docs)
+        );
+        write(gitDirectory.resolve("HEAD"), "ref: refs/heads/main\n");
+        write(gitDirectory.resolve("refs/heads/main"), commit + "\n");
+
+        final BareRepositoryPath root = BareRepositoryPath.of(gitDirectory);
+
+        Assertions.assertThat(root.getRevision()).isEqualTo(Optional.of(commit));
+        Assertions
+            .assertThat(
+                root
+                    .listAll()
+                    .stream()
+                    .map(RepositoryFilePath::toFilePathString)
+                    .collect(Collectors.toList())
+            )
+            .containsExactly("/README.md", "/docs");
+        Assertions
+            .assertThat(read(root.resolvePath("docs/CONTRIBUTING.md")))
+            .isEqualTo("# Title\n");
+        Assertions.assertThat(root.resolvePath("docs/SUPPORT.md").exists()).isFalse();
+    }
+
+    @Test
+    public void givenTwoCommits_whenGetFilePathsChangedSince_thenChangedFilesReturned()
+        throws IOException {
+        final Path gitDirectory = Files.createTempDirectory("repository");
+        final String title = writeObject(gitDirectory, "blob", bytes("# Title\n"));
+        final String usage = writeObject(
+            gitDirectory,
+            "blob",
+            bytes("# Title\n## Usage\n")
+        );
+        final String firstCommit = writeCommit(
+            gitDirectory,
+            writeTree(
+                gitDirectory,
+                "100644 LICENSE",
+                title,
+                "100644 README.md",
+                title,
+                "40000 docs",
+                writeTree(gitDirectory, "100644 SUPPORT.md", title)
+            )
+        );
+        final String secondCommit = writeCommit(
+            gitDirectory,
+            writeTree(
+                gitDirectory,
+                "100644 LICENSE",
+                title,
+                "100644 README.md",
+                usage,
+                "40000 src",
+                writeTree(gitDirectory, "100644 Main.java", title)
+            )
+        );
+        write(gitDirectory.resolve("HEAD"), secondCommit + "\n");
+
+        Assertions
+            .assertThat(
+                BareRepositoryPath.of(gitDirectory).getFilePathsChangedSince(firstCommit)
+            )
+            .isEqualTo(
+                Optional.of(
+                    ImmutableSet.of("/README.md", "/docs/SUPPORT.md", "/src/Main.java")
+                )
+            );
+    }
+
+    @Test
+    public void givenRepositoryPackedByGc_whenRead_thenMatchesGitShow()
+        throws IOException {
+        // git packs delta bases by offset, as OFS_DELTA objects, unless told otherwise
+        givenPackedRepository_whenRead_thenMatchesGitShow(true);
+    }
+
+    @Test
+    public void givenRepositoryPackedWithRefDeltas_whenRead_thenMatchesGitShow()
+        throws IOException {
+        givenPackedRepository_whenRead_thenMatchesGitShow(false);
+    }
+
+    private static void givenPackedRepository_whenRead_thenMatchesGitShow(
+        final boolean deltaBaseOffset
+    ) throws IOException {
+        final Path repository = Files.createTempDirectory("repository");
+        Assume.assumeTrue(git(repository, "init", "-q").isPresent());
+        final List<String> commits = Lists.newArrayList();
+        for (int revision = 0; revision < PACKED_REVISIONS; revision++) {
+            final StringBuilder readme = new StringBuilder("# Title\n");
+            for (int line = 0; line < 300; line++) {
+                readme.append(
+                    line % PACKED_REVISIONS == revision
+                        ? "line " + line + " as of revision " + revision + "\n"
+                        : "line " + line + "\n"
+                );
+            }
+            write(repository.resolve("README.md"), readme.toString());
+            write(
+                repository.resolve("docs/CONTRIBUTING.md"),
+                "# Contributing\n" + Strings.repeat("## Before PR\n", revision + 1)
+            );
+            // enough objects to spread over most of the 256 buckets of the index's fan-out table, each file is
+            // changed by one revision
+            for (int file = 0; file < 256; file++) {
+                if ((revision == 0) || (file % PACKED_REVISIONS == revision)) {
+                    write(
+                        repository.resolve("files/" + file + ".txt"),
+                        "file " + file + "\nrevision " + revision + "\n"
+                    );
+                }
+            }
+            Assume.assumeTrue(git(repository, "add", "-A").isPresent());
+            Assume.assumeTrue(
+                git(
+                    repository,
+                    "-c",
+                    "user.name=scanner",
+                    "-c",
+                    "user.email=scanner@example.com",
+                    "commit",
+                    "-q",
+                    "-m",
+                    "revision " + revision
+                )
+                    .isPresent()
+            );
+            commits.add(git(repository, "rev-parse", "HEAD").get().trim());
+        }
+        Assume.assumeTrue(
+            git(
+                repository,
+                "-c",
+                "repack.useDeltaBaseOffset=" + deltaBaseOffset,
+                "gc",
+                "--aggressive",
+                "-q"
+            )
+                .isPresent()
+        );
+        final Path gitDirectory = repository.resolve(".git");
+        try (Stream<Path> objects = Files.list(gitDirectory.resolve("objects"))) {
+            // every object is read from the pack
+            Assertions
+                .assertThat(
+                    objects
+                        .map(directory -> directory.getFileName().toString())
+                        .sorted()
+                        .collect(Collectors.toList())
+                )
+                .containsExactly("info", "pack");
+        }
+        final String verifiedPack = git(
+            repository,
+            "verify-pack",
+            "-v",
+            packIndex(gitDirectory).toString()
+        )
+            .get();
+        // the object lines of deltified objects end with the depth of their delta chain and the id of their base
+        Assertions
+            .assertThat(
+                Splitter
+                    .on('\n')
+                    .splitToList(verifiedPack)
+                    .stream()
+                    .anyMatch(line -> StringUtils.split(line, ' ').length == 7)
+            )
+            .isTrue();
+
+        for (final String commit : commits) {
+            final BareRepositoryPath root = BareRepositoryPath
+                .create(gitDirectory)
+                .revision(commit)
+                .build();
+            for (final String file : PACKED_FILES) {
+                Assertions
+                    .assertThat(read(root.resolvePath(file)))
+                    .isEqualTo(git(repository, "show", commit + ":" + file).get());
+            }
+            Assertions
+                .assertThat(
+                    root
+                        .resolvePath("files")
+                        .listAll()
+                        .stream()
+                        .map(RepositoryFilePath::getFileName)
+                        .sorted()
+                        .collect(Collectors.toList())
+                )
+                .isEqualTo(
+                    Splitter
+                        .on('\n')
+                        .omitEmptyStrings()
+                        .splitToList(
+                            git(repository, "ls-tree", "--name-only", commit + ":files")
+                                .get()
+                        )
+                        .stream()
+                        .sorted()
+                        .collect(Collectors.toList())
+                );
+        }
+        // HEAD refers to a branch whose ref was packed along with the objects
+        Assertions
+            .assertThat(BareRepositoryPath.of(gitDirectory).getRevision())
+            .isEqualTo(Optional.of(commits.get(commits.size() - 1)));
+    }
+
+    private static Path packIndex(final Path gitDirectory) throws IOException {
+        try (Stream<Path> packFiles = Files.list(gitDirectory.resolve("objects/pack"))) {
+            return packFiles
+                .filter(packFile -> packFile.toString().endsWith(".idx"))
+                .findFirst()
+                .orElseThrow(() -> new IOException("repository was not packed"));
+        }
+    }
+
+    /**
+     * @return the output of the git command, or empty if it failed or git is not installed.
+     */
+    private static Optional<String> git(
+        final Path repository,
+        final String... arguments
+    ) {
+        try {
+            final Process git = new ProcessBuilder(Lists.asList("git", arguments))
+                .directory(repository.toFile())
+                .redirectError(Redirect.INHERIT)
+                .start();
+            final String output;
+            try (InputStream in = git.getInputStream()) {
+                output = new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8);
+            }
+            return git.waitFor() == 0 ? Optional.of(output) : Optional.empty();
+        } catch (final IOException e) {
+            // git is not installed
+            return Optional.empty();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private static String writeCommit(final Path gitDirectory, final String tree)
+        throws IOException {
+        return writeObject(
+            gitDirectory,
+            "commit",
+            bytes(
+                "tree " +
+                tree +
+                "\nauthor a <a@b> 0 +0000\ncommitter a <a@b> 0 +0000\n\nmessage\n"
+            )
+        );
+    }
+
+    /**
+     * @param entries alternating {@code "mode name"} and object id of each entry, in git's tree entry order.
+     */
+    private static String writeTree(final Path gitDirectory, final String... entries)
+        throws IOException {
+        final ByteArrayOutputStream tree = new ByteArrayOutputStream();
+        for (int i = 0; i < entries.length; i += 2) {
+            tree.write(bytes(entries[i]));
+            tree.write(0);
+            tree.write(BaseEncoding.base16().lowerCase().decode(entries[i + 1]));
+        }
+        return writeObject(gitDirectory, "tree", tree.toByteArray());
+    }
+
+    private static String writeObject(
+        final Path gitDirectory,
+        final String type,
+        final byte[] data
+    ) throws IOException {
+        final ByteArrayOutputStream object = new ByteArrayOutputStream();
+        object.write(bytes(type + ' ' + data.length));
+        object.write(0);
+        object.write(data);
+        final String objectId = Hashing.sha1().hashBytes(object.toByteArray()).toString();
+        final Path looseObject = gitDirectory
+            .resolve("objects")
+            .resolve(objectId.substring(0, 2))
+            .resolve(objectId.substring(2));
+        Files.createDirectories(looseObject.getParent());
+        try (
+            OutputStream out = new DeflaterOutputStream(
+                Files.newOutputStream(looseObject)
+            )
+        ) {
+            out.write(object.toByteArray());
+        }
+        return objectId;
+    }
+
+    private static String read(final RepositoryFilePath file) throws IOException {
+        try (InputStream in = file.read()) {
+            return new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void write(final Path file, final String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, bytes(content));
+    }
+
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,184 @@
+package com.intuit.innersource.reposcanner.repofilepath.github;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class CachingHttpConnectorTest {
+
+    private final List<FakeConnection> connections = Lists.newArrayList();
+    private final Map<String, String> entityTagsByUrl = Maps.newHashMap();
+
+    @Test
+    public void givenCachedResponse_whenNotModified_thenServesCachedBody()
+        throws IOException {
+        final CachingHttpConnector connector = CachingHttpConnector.create(
+            this::connect,
+            Files.createTempDirectory("github-cache"),
+            1024 * 1024
+        );
+        entityTagsByUrl.put("https://api.github.com/repos/o/r/contents/", "\"v1\"");
+
+        final String firstBody = get(
+            connector,
+            "https://api.github.com/repos/o/r/contents/"
+        );
+        final String secondBody = get(
+            connector,
+            "https://api.github.com/repos/o/r/contents/"
+        );
+
+        Assertions
+            .assertThat(firstBody)
+            .isEqualTo("body of https://api.github.com/repos/o/r/contents/");
+        Assertions.assertThat(secondBody).isEqualTo(firstBody);
+        Assertions
+            .assertThat(connections.get(1).getRequestProperty("If-None-Match"))
+            .isEqualTo("\"v1\"");
+        Assertions.assertThat(connector.getNotModifiedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void givenChangedResponse_whenRevalidated_thenServesAndCachesNewBody()
+        throws IOException {
+        final CachingHttpConnector connector = CachingHttpConnector.create(
+            this::connect,
+            Files.createTempDirectory("github-cache"),
+            1024 * 1024
+        );
+        entityTagsByUrl.put("https://api.github.com/repos/o/r/readme", "\"v1\"");
+        get(connector, "https://api.github.com/repos/o/r/readme");
+        entityTagsByUrl.put("https://api.github.com/repos/o/r/readme", "\"v2\"");
+
+        get(connector, "https://api.github.com/repos/o/r/readme");
+
+        Assertions.assertThat(connector.getNotModifiedCount()).isEqualTo(0L);
+        Assertions.assertThat(connector.getStoredCount()).isEqualTo(2L);
+    }
+
+    @Test
+    public void givenCacheFull_whenResponseCached_thenLeastRecentlyUsedEvicted()
+        throws IOException {
+        final Path cacheDirectory = Files.createTempDirectory("github-cache");
+        final CachingHttpConnector connector = CachingHttpConnector.create(
+            this::connect,
+            cacheDirectory,
+            150
+        );
+        entityTagsByUrl.put("https://api.github.com/a", "\"a\"");
+        entityTagsByUrl.put("https://api.github.com/b", "\"b\"");
+
+        get(connector, "https://api.github.com/a");
+        get(connector, "https://api.github.com/b");
+
+        Assertions.assertThat(connector.getEvictedCount()).isEqualTo(1L);
+        Assertions.assertThat(connector.getSizeBytes()).isLessThan(150L);
+
+        get(connector, "https://api.github.com/a");
+
+        Assertions.assertThat(connector.getNotModifiedCount()).isEqualTo(0L);
+    }
+
+    private static String get(final CachingHttpConnector connector, final String url)
+        throws IOException {
+        final HttpURLConnection connection = connector.connect(new URL(url));
+        connection.setRequestMethod("GET");
+        connection.setRequestProperty("Accept", "application/vnd.github.v3+json");
+        Assertions.assertThat(connection.getResponseCode()).isEqualTo(200);
+        try (InputStream in = connection.getInputStream()) {
+            return new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8);
+        }
+    }
+
+    private HttpURLConnection connect(final URL url) {
+        final FakeConnection connection = new FakeConnection(url);
+        connections.add(connection);
+        return connection;
+    }
+
+    /**
+     * Replies 304 when the request's If-None-Match header matches the current entity tag of its url.
+     */
+    private final class FakeConnection extends HttpURLConnection {
+
+        private final Map<String, String> requestProperties = Maps.newHashMap();
+
+        private FakeConnection(final URL url) {
+            super(url);
+        }
+
+        @Override
+        public void setRequestProperty(final String key, final String value) {
+            requestProperties.put(key, value);
+        }
+
+        @Override
+        public String getRequestProperty(final String key) {
+            return requestProperties.get(key);
+        }
+
+        @Override
+        public int getResponseCode() {
+            return currentEntityTag().equals(requestProperties.get("If-None-Match"))
+                ? HTTP_NOT_MODIFIED
+                : HTTP_OK;
+        }
+
+        @Override
+        public String getResponseMessage() {
+            return "OK";
+        }
+
+        @Override
+        public Map<String, List<String>> getHeaderFields() {
+            return ImmutableMap.of(
+                "ETag",
+                ImmutableList.of(currentEntityTag()),
+                "X-RateLimit-Remaining",
+                ImmutableList.of("4999")
+            );
+        }
+
+        @Override
+        public String getHeaderField(final String name) {
+            final List<String> values = getHeaderFields().get(name);
+            return values == null ? null : values.get(0);
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(
+                ("body of " + url).getBytes(StandardCharsets.UTF_8)
+            );
+        }
+
+        private String currentEntityTag() {
+            return entityTagsByUrl.get(url.toString());
+        }
+
+        @Override
+        public void connect() {}
+
+        @Override
+        public void disconnect() {}
+
+        @Override
+        public boolean usingProxy() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.intuit.innersource.reposcanner.repofilepath.github;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+import org.kohsuke.github.GHContent;
+import org.kohsuke.github.GHFileNotFoundException;
+
+public class GitHubContentCacheTest {
+
+    private final GitHubContentCache contentCache = new GitHubContentCache(1024L);
+
+    @Test
+    public void givenMoreLookupsThanMaximum_whenFirstPathLookedUpAgain_thenLoadedAgain()
+        throws IOException {
+        final AtomicInteger loads = new AtomicInteger();
+
+        contentCache.getFileContent("/README.md", () -> notFound(loads));
+        contentCache.getFileContent("/README.md", () -> notFound(loads));
+        Assertions.assertThat(loads.get()).isEqualTo(1);
+        lookUpOtherPaths();
+        contentCache.getFileContent("/README.md", () -> notFound(loads));
+
+        Assertions.assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void givenWrittenFile_whenMoreLookupsThanMaximum_thenWrittenContentKept()
+        throws IOException {
+        final GHContent writtenContent = new GHContent();
+
+        contentCache.putFileContent("/README.md", writtenContent);
+        lookUpOtherPaths();
+
+        Assertions
+            .assertThat(
+                contentCache
+                    .getFileContent(
+                        "/README.md",
+                        () -> {
+                            throw new IOException(
+                                "read at the revision before the write"
+                            );
+                        }
+                    )
+                    .get() ==
+                writtenContent
+            )
+            .isTrue();
+    }
+
+    @Test
+    public void givenWrittenFile_whenInvalidated_thenLoadedAgain() throws IOException {
+        final AtomicInteger loads = new AtomicInteger();
+
+        contentCache.putFileContent("/README.md", new GHContent());
+        contentCache.invalidateFileContent("/README.md");
+
+        Assertions
+            .assertThat(
+                contentCache
+                    .getFileContent("/README.md", () -> notFound(loads))
+                    .isPresent()
+            )
+            .isFalse();
+        Assertions.assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenDirectoryNotFound_whenListedAgain_thenNotLoadedAgain() {
+        final AtomicInteger loads = new AtomicInteger();
+
+        Assertions.assertThat(listNotFound("/docs", loads)).isTrue();
+        Assertions.assertThat(listNotFound("/docs", loads)).isTrue();
+
+        Assertions.assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenDirectoryNotFound_whenFileWrittenBelowIt_thenListedAgain() {
+        final AtomicInteger loads = new AtomicInteger();
+
+        Assertions.assertThat(listNotFound("/docs", loads)).isTrue();
+        contentCache.putFileContent("/docs/README.md", new GHContent());
+        Assertions.assertThat(listNotFound("/docs", loads)).isTrue();
+
+        Assertions.assertThat(loads.get()).isEqualTo(2);
+    }
+
+    /**
+     * @return whether listing {@code path} failed with a {@link GHFileNotFoundException}.
+     */
+    private boolean listNotFound(final String path, final AtomicInteger loads) {
+        try {
+            contentCache.getDirectoryContent(
+                path,
+                () -> {
+                    loads.incrementAndGet();
+                    throw new GHFileNotFoundException("not found");
+                }
+            );
+            return false;
+        } catch (final GHFileNotFoundException e) {
+            return true;
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    private void lookUpOtherPaths() throws IOException {
+        final AtomicInteger loads = new AtomicInteger();
+        for (int i = 0; i < 2 * GitHubContentCache.MAXIMUM_FILE_CONTENTS; i++) {
+            contentCache.getFileContent("/docs/" + i + ".md", () -> notFound(loads));
+        }
+    }
+
+    private static GHContent notFound(final AtomicInteger loads)
+        throws GHFileNotFoundException {
+        loads.incrementAndGet();
+        throw new GHFileNotFoundException("not found");
+    }
+}
@@ -0,0 +1,129 @@
+package com.intuit.innersource.reposcanner.repofilepath.github;
+
+import com.google.common.collect.Lists;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryChangeSet;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.kohsuke.github.GHCommit;
+import org.kohsuke.github.GHCommitBuilder;
+import org.kohsuke.github.GHContent;
+import org.kohsuke.github.GHFileNotFoundException;
+import org.kohsuke.github.GHRef;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GHTree;
+import org.kohsuke.github.GHTreeBuilder;
+import org.mockito.Mockito;
+
+public class GitHubRepositoryChangeSetTest {
+
+    private final GHRepository repository = Mockito.mock(GHRepository.class);
+    private final GHRef branch = Mockito.mock(GHRef.class);
+    private final GHTreeBuilder treeBuilder = Mockito.mock(
+        GHTreeBuilder.class,
+        Mockito.RETURNS_SELF
+    );
+    private final GHCommitBuilder commitBuilder = Mockito.mock(
+        GHCommitBuilder.class,
+        Mockito.RETURNS_SELF
+    );
+
+    @Before
+    public void given_github_repo_with_readme() throws IOException {
+        final GHRef.GHObject head = Mockito.mock(GHRef.GHObject.class);
+        Mockito.when(head.getSha()).thenReturn("head-commit");
+        Mockito.when(branch.getObject()).thenReturn(head);
+        Mockito.when(repository.getDefaultBranch()).thenReturn("main");
+        Mockito.when(repository.getRef("heads/main")).thenReturn(branch);
+
+        final GHTree headTree = Mockito.mock(GHTree.class);
+        Mockito.when(headTree.getSha()).thenReturn("head-tree");
+        Mockito.when(repository.getTree("head-commit")).thenReturn(headTree);
+        final GHTree newTree = Mockito.mock(GHTree.class);
+        Mockito.when(newTree.getSha()).thenReturn("new-tree");
+        Mockito.when(treeBuilder.create()).thenReturn(newTree);
+        Mockito.when(repository.createTree()).thenReturn(treeBuilder);
+        final GHCommit newCommit = Mockito.mock(GHCommit.class);
+        Mockito.when(newCommit.getSHA1()).thenReturn("new-commit");
+        Mockito.when(commitBuilder.create()).thenReturn(newCommit);
+        Mockito.when(repository.createCommit()).thenReturn(commitBuilder);
+
+        final GHContent readme = Mockito.mock(GHContent.class);
+        Mockito.when(readme.getName()).thenReturn("README.md");
+        Mockito.when(readme.getPath()).thenReturn("README.md");
+        Mockito.when(readme.getSha()).thenReturn("readme-blob");
+        Mockito.when(readme.getSize()).thenReturn(7L);
+        Mockito
+            .when(readme.read())
+            .thenAnswer(
+                invocation ->
+                    new ByteArrayInputStream("# Title".getBytes(StandardCharsets.UTF_8))
+            );
+        Mockito
+            .when(
+                repository.getFileContent(Mockito.anyString(), Mockito.eq("head-commit"))
+            )
+            .thenThrow(new GHFileNotFoundException("not found"));
+        Mockito
+            .doReturn(readme)
+            .when(repository)
+            .getFileContent("/README.md", "head-commit");
+    }
+
+    @Test
+    public void givenStagedFixes_whenCommit_thenWrittenAsSingleCommit()
+        throws IOException {
+        final GitHubRepositoryPath root = GitHubRepositoryPath.of(repository);
+        final RepositoryChangeSet changeSet = root.newChangeSet();
+
+        final RepositoryFilePath readme = changeSet.stage(root.resolvePath("README.md"));
+        readme.appendLines(Lists.newArrayList("", "# Usage", ""));
+        readme.appendLines(Lists.newArrayList("", "# Support", ""));
+        final RepositoryFilePath contributing = changeSet.stage(
+            root.resolvePath("CONTRIBUTING.md")
+        );
+        Assertions.assertThat(contributing.exists()).isFalse();
+        contributing.touch();
+        Assertions.assertThat(contributing.exists()).isTrue();
+        Assertions.assertThat(contributing.size()).isZero();
+        contributing.appendLines(Lists.newArrayList("# Contributing"));
+        Assertions.assertThat(readme.size()).isEqualTo(27L);
+
+        final List<RepositoryFilePath> changedFiles = changeSet.commit("fixup");
+
+        Assertions
+            .assertThat(changedFiles)
+            .extracting(RepositoryFilePath::toFilePathString)
+            .containsExactly("/README.md", "/CONTRIBUTING.md");
+        Mockito.verify(treeBuilder).baseTree("head-tree");
+        Mockito
+            .verify(treeBuilder)
+            .add("README.md", "# Title\n# Usage\n\n# Support\n", false);
+        Mockito.verify(treeBuilder).add("CONTRIBUTING.md", "# Contributing", false);
+        Mockito.verify(commitBuilder).tree("new-tree");
+        Mockito.verify(commitBuilder).parent("head-commit");
+        Mockito.verify(commitBuilder).create();
+        Mockito.verify(branch).updateTo("new-commit");
+        Mockito.verify(repository, Mockito.never()).createContent();
+        Mockito.verify(repository, Mockito.never()).getFileContent(Mockito.anyString());
+    }
+
+    @Test
+    public void givenOnlyDirectoriesStaged_whenCommit_thenNothingCommitted() {
+        final GitHubRepositoryPath root = GitHubRepositoryPath.of(repository);
+        final RepositoryChangeSet changeSet = root.newChangeSet();
+
+        changeSet.stage(root.resolvePath(".github/ISSUE_TEMPLATE")).createDirectories();
+        changeSet.commit("fixup");
+
+        Mockito.verify(repository, Mockito.never()).createCommit();
+        Assertions
+            .assertThatThrownBy(() -> changeSet.commit("fixup"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,82 @@
+package com.intuit.innersource.reposcanner.repofilepath.github;
+
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.kohsuke.github.GHContent;
+import org.kohsuke.github.GHRef;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.HttpException;
+import org.mockito.Mockito;
+
+public class GitHubRepositoryPathTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final GitHubRequestScheduler requestScheduler = new GitHubRequestScheduler(
+        now::get,
+        now::addAndGet
+    );
+    private final GHRepository repository = Mockito.mock(GHRepository.class);
+    private final GHContent readme = Mockito.mock(GHContent.class);
+
+    @Before
+    public void given_github_repo_with_readme_at_head_commit() throws IOException {
+        final GHRef head = Mockito.mock(GHRef.class);
+        final GHRef.GHObject headCommit = Mockito.mock(GHRef.GHObject.class);
+        Mockito.when(headCommit.getSha()).thenReturn("head-commit");
+        Mockito.when(head.getObject()).thenReturn(headCommit);
+        Mockito.when(repository.getDefaultBranch()).thenReturn("main");
+        Mockito.when(repository.getRef("heads/main")).thenReturn(head);
+        Mockito.when(readme.getPath()).thenReturn("README.md");
+        Mockito.when(readme.getName()).thenReturn("README.md");
+        Mockito
+            .when(repository.getFileContent("/README.md", "head-commit"))
+            .thenReturn(readme);
+        Mockito
+            .when(repository.getDirectoryContent("/", "head-commit"))
+            .thenReturn(Lists.newArrayList(readme));
+    }
+
+    @Test(timeout = 10000L)
+    public void givenConcurrencyLimitOfOne_whenResolvePath_thenRevisionResolvedFirst()
+        throws IOException {
+        given_concurrency_limit_of_one();
+        final GitHubRepositoryPath root = GitHubRepositoryPath
+            .create(repository)
+            .requestScheduler(requestScheduler)
+            .build();
+
+        Assertions.assertThat(root.resolvePath("README.md").exists()).isTrue();
+        Mockito.verify(repository).getFileContent("/README.md", "head-commit");
+    }
+
+    @Test(timeout = 10000L)
+    public void givenConcurrencyLimitOfOne_whenListAll_thenRevisionResolvedFirst()
+        throws IOException {
+        given_concurrency_limit_of_one();
+        final GitHubRepositoryPath root = GitHubRepositoryPath
+            .create(repository)
+            .requestScheduler(requestScheduler)
+            .build();
+
+        Assertions.assertThat(root.listAll()).hasSize(1);
+        Mockito.verify(repository).getDirectoryContent("/", "head-commit");
+    }
+
+    private void given_concurrency_limit_of_one() throws IOException {
+        final AtomicInteger attempts = new AtomicInteger();
+        requestScheduler.execute(
+            () -> {
+                if (attempts.incrementAndGet() <= 3) {
+                    throw new HttpException("bad gateway", 502, "Bad Gateway", "/repos");
+                }
+                return null;
+            }
+        );
+        Assertions.assertThat(requestScheduler.getConcurrencyLimit()).isEqualTo(1);
+    }
+}
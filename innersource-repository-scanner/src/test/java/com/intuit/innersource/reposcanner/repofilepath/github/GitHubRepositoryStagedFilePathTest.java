@@ -0,0 +1,81 @@
+package com.intuit.innersource.reposcanner.repofilepath.github;
+
+import com.google.common.collect.Lists;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.kohsuke.github.GHContent;
+import org.kohsuke.github.GHContentUpdateResponse;
+import org.kohsuke.github.GHFileNotFoundException;
+import org.kohsuke.github.GHRepository;
+import org.mockito.Mockito;
+
+public class GitHubRepositoryStagedFilePathTest {
+
+    private final GHRepository repository = Mockito.mock(GHRepository.class);
+    private final GHContent readme = Mockito.mock(GHContent.class);
+
+    @Before
+    public void given_github_repo_with_readme() throws IOException {
+        Mockito.when(readme.getName()).thenReturn("README.md");
+        Mockito.when(readme.getPath()).thenReturn("README.md");
+        Mockito.when(readme.getSha()).thenReturn("readme-blob");
+        Mockito.when(readme.getSize()).thenReturn(7L);
+        Mockito
+            .when(readme.read())
+            .thenAnswer(
+                invocation ->
+                    new ByteArrayInputStream("# Title".getBytes(StandardCharsets.UTF_8))
+            );
+        Mockito
+            .when(repository.getFileContent(Mockito.anyString()))
+            .thenThrow(new GHFileNotFoundException("not found"));
+        Mockito.doReturn(readme).when(repository).getFileContent("/README.md");
+        final GHContentUpdateResponse update = Mockito.mock(
+            GHContentUpdateResponse.class
+        );
+        Mockito.when(update.getContent()).thenReturn(readme);
+        Mockito
+            .when(readme.update(Mockito.anyString(), Mockito.anyString()))
+            .thenReturn(update);
+    }
+
+    @Test
+    public void givenStagedPath_whenExistsSizeAndAppendLines_thenLookedUpOnce()
+        throws IOException {
+        final GitHubRepositoryPath root = GitHubRepositoryPath.of(repository);
+        final GitHubRepositoryStagedFilePath stagedReadme = GitHubRepositoryStagedFilePath.of(
+            repository,
+            Paths.get("/README.md"),
+            root.getRevision(),
+            root.contentCache(),
+            root.requestScheduler()
+        );
+
+        Assertions.assertThat(stagedReadme.exists()).isTrue();
+        Assertions.assertThat(stagedReadme.size()).isEqualTo(7L);
+        stagedReadme.appendLines(Lists.newArrayList("# Usage"));
+
+        Mockito.verify(repository, Mockito.times(1)).getFileContent("/README.md");
+        Mockito
+            .verify(readme)
+            .update("# Title# Usage", "modified from InnerSource Readiness Fixup");
+    }
+
+    @Test
+    public void givenMissingFile_whenResolvedAndCheckedAgain_thenNotFoundIsRemembered()
+        throws IOException {
+        final GitHubRepositoryPath root = GitHubRepositoryPath.of(repository);
+
+        final RepositoryFilePath contributing = root.resolvePath("CONTRIBUTING.md");
+
+        Assertions.assertThat(contributing.exists()).isFalse();
+        Assertions.assertThat(contributing.exists()).isFalse();
+        Mockito.verify(repository, Mockito.times(1)).getFileContent("/CONTRIBUTING.md");
+    }
+}
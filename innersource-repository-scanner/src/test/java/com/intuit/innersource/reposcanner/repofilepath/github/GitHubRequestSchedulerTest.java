@@ -0,0 +1,169 @@
+package com.intuit.innersource.reposcanner.repofilepath.github;
+
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+import org.kohsuke.github.GHFileNotFoundException;
+import org.kohsuke.github.GHRateLimit;
+import org.kohsuke.github.HttpException;
+
+public class GitHubRequestSchedulerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<Long> sleeps = Lists.newArrayList();
+    private final GitHubRequestScheduler scheduler = new GitHubRequestScheduler(
+        now::get,
+        millis -> {
+            sleeps.add(millis);
+            now.addAndGet(millis);
+        }
+    );
+
+    @Test
+    public void givenServerErrors_whenExecute_thenRetriedWithBackoffUntilSuccess()
+        throws IOException {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final String result = scheduler.execute(
+            () -> {
+                if (attempts.incrementAndGet() < 3) {
+                    throw new HttpException("bad gateway", 502, "Bad Gateway", "/repos");
+                }
+                return "content";
+            }
+        );
+
+        Assertions.assertThat(result).isEqualTo("content");
+        Assertions.assertThat(attempts.get()).isEqualTo(3);
+        Assertions.assertThat(sleeps).hasSize(2);
+        Assertions.assertThat(scheduler.getRetryCount()).isEqualTo(2L);
+        Assertions.assertThat(scheduler.getConcurrencyLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void givenSecondaryRateLimit_whenExecute_thenRetried() throws IOException {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        scheduler.execute(
+            () -> {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new HttpException(
+                        "You have exceeded a secondary rate limit",
+                        403,
+                        "Forbidden",
+                        "/repos"
+                    );
+                }
+                return "content";
+            }
+        );
+
+        Assertions.assertThat(attempts.get()).isEqualTo(2);
+        Assertions.assertThat(sleeps).hasSize(1);
+    }
+
+    @Test
+    public void givenForbidden_whenExecute_thenNotRetried() {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        Assertions
+            .assertThatThrownBy(
+                () ->
+                    scheduler.execute(
+                        () -> {
+                            attempts.incrementAndGet();
+                            throw new HttpException(
+                                "Must have admin rights to Repository.",
+                                403,
+                                "Forbidden",
+                                "/repos"
+                            );
+                        }
+                    )
+            )
+            .isInstanceOf(HttpException.class);
+
+        Assertions.assertThat(attempts.get()).isEqualTo(1);
+        Assertions.assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    public void givenFileNotFound_whenExecute_thenNotRetried() {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        Assertions
+            .assertThatThrownBy(
+                () ->
+                    scheduler.execute(
+                        () -> {
+                            attempts.incrementAndGet();
+                            throw new GHFileNotFoundException("/README.md");
+                        }
+                    )
+            )
+            .isInstanceOf(GHFileNotFoundException.class);
+
+        Assertions.assertThat(attempts.get()).isEqualTo(1);
+        Assertions.assertThat(sleeps).isEmpty();
+        Assertions.assertThat(scheduler.getFailureCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void givenRateLimitRunningLow_whenExecute_thenPausedUntilReset()
+        throws IOException {
+        final long resetEpochSeconds = 3600L;
+
+        scheduler.noteRateLimit(
+            new GHRateLimit.Record(
+                5000,
+                GitHubRequestScheduler.RATE_LIMIT_RESERVE + 1,
+                60L
+            )
+        );
+        scheduler.execute(() -> "content");
+        scheduler.noteRateLimit(
+            new GHRateLimit.Record(
+                5000,
+                GitHubRequestScheduler.RATE_LIMIT_RESERVE - 1,
+                resetEpochSeconds
+            )
+        );
+        scheduler.execute(() -> "content");
+
+        Assertions.assertThat(sleeps).containsExactly(resetEpochSeconds * 1000L);
+        Assertions
+            .assertThat(scheduler.getRateLimitRemaining())
+            .isEqualTo(GitHubRequestScheduler.RATE_LIMIT_RESERVE - 1);
+    }
+
+    @Test
+    public void givenPersistentServerErrors_whenExecute_thenFailsAfterMaximumAttempts() {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        Assertions
+            .assertThatThrownBy(
+                () ->
+                    scheduler.execute(
+                        () -> {
+                            attempts.incrementAndGet();
+                            throw new HttpException(
+                                "unavailable",
+                                503,
+                                "Unavailable",
+                                "/repos"
+                            );
+                        }
+                    )
+            )
+            .isInstanceOf(HttpException.class);
+
+        Assertions
+            .assertThat(attempts.get())
+            .isEqualTo(GitHubRequestScheduler.MAXIMUM_ATTEMPTS);
+        Assertions.assertThat(scheduler.getConcurrencyLimit()).isEqualTo(1);
+    }
+}
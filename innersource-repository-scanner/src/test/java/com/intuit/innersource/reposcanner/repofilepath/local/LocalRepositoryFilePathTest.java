@@ -0,0 +1,188 @@
+package com.intuit.innersource.reposcanner.repofilepath.local;
+
+import com.google.common.collect.Lists;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryChangeSet;
+import com.intuit.innersource.reposcanner.repofilepath.RepositoryFilePath;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.assertj.core.api.Assertions;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class LocalRepositoryFilePathTest {
+
+    private static final String COMMIT = "8becab0f91c4d0e4382d7a63ea11a33e88d8faab";
+
+    @Test
+    public void givenBranchCheckedOut_whenGetCheckedOutCommit_thenBranchHeadReturned()
+        throws IOException {
+        final Path repository = Files.createTempDirectory("repository");
+        write(repository.resolve(".git/HEAD"), "ref: refs/heads/main\n");
+        write(repository.resolve(".git/refs/heads/main"), COMMIT + "\n");
+
+        Assertions
+            .assertThat(LocalRepositoryFilePath.of(repository).getCheckedOutCommit())
+            .isEqualTo(Optional.of(COMMIT));
+    }
+
+    @Test
+    public void givenPackedBranch_whenGetCheckedOutCommit_thenPackedRefReturned()
+        throws IOException {
+        final Path repository = Files.createTempDirectory("repository");
+        write(repository.resolve(".git/HEAD"), "ref: refs/heads/main\n");
+        write(
+            repository.resolve(".git/packed-refs"),
+            "# pack-refs with: peeled fully-peeled sorted\n" +
+            "1111111111111111111111111111111111111111 refs/heads/feature\n" +
+            COMMIT +
+            " refs/heads/main\n"
+        );
+
+        Assertions
+            .assertThat(LocalRepositoryFilePath.of(repository).getCheckedOutCommit())
+            .isEqualTo(Optional.of(COMMIT));
+    }
+
+    @Test
+    public void givenNoCommits_whenGetCheckedOutCommit_thenEmpty() throws IOException {
+        final Path repository = Files.createTempDirectory("repository");
+        write(repository.resolve(".git/HEAD"), "ref: refs/heads/main\n");
+
+        Assertions
+            .assertThat(LocalRepositoryFilePath.of(repository).getCheckedOutCommit())
+            .isEmpty();
+    }
+
+    @Test
+    public void givenUncommittedChanges_whenGetRevision_thenEmpty() throws IOException {
+        final Path repository = Files.createTempDirectory("repository");
+        Assume.assumeTrue(git(repository, "init", "-q"));
+        write(repository.resolve("README.md"), "# Title\n");
+        Assume.assumeTrue(git(repository, "add", "README.md"));
+        Assume.assumeTrue(
+            git(
+                repository,
+                "-c",
+                "user.name=scanner",
+                "-c",
+                "user.email=scanner@example.com",
+                "commit",
+                "-q",
+                "-m",
+                "initial"
+            )
+        );
+        final LocalRepositoryFilePath root = LocalRepositoryFilePath.of(repository);
+
+        Assertions.assertThat(root.getRevision()).isEqualTo(root.getCheckedOutCommit());
+        Assertions.assertThat(root.getRevision().isPresent()).isTrue();
+
+        root.resolvePath("README.md").appendLines(Lists.newArrayList("# Usage"));
+        Assertions.assertThat(root.getRevision()).isEmpty();
+    }
+
+    @Test
+    public void givenStagedChanges_whenCommit_thenFilesWrittenOnlyOnCommit()
+        throws IOException {
+        final Path repository = Files.createTempDirectory("repository");
+        write(repository.resolve("README.md"), "# Title\n");
+        final LocalRepositoryFilePath root = LocalRepositoryFilePath.of(repository);
+        final RepositoryChangeSet changeSet = root.newChangeSet();
+
+        final RepositoryFilePath readme = changeSet.stage(root.resolvePath("README.md"));
+        readme.appendLines(Lists.newArrayList("", "# Usage"));
+        readme.appendLines(Lists.newArrayList("", "# Support"));
+        final RepositoryFilePath codeowners = changeSet.stage(
+            root.resolvePath(".github/CODEOWNERS")
+        );
+        codeowners.touch();
+        changeSet.stage(root.resolvePath(".github/ISSUE_TEMPLATE")).createDirectories();
+
+        Assertions.assertThat(codeowners.exists()).isTrue();
+        Assertions.assertThat(Files.exists(repository.resolve(".github"))).isFalse();
+        Assertions
+            .assertThat(read(repository.resolve("README.md")))
+            .isEqualTo("# Title\n");
+
+        changeSet.commit("fixup");
+
+        final String lineSeparator = System.lineSeparator();
+        Assertions
+            .assertThat(read(repository.resolve("README.md")))
+            .isEqualTo(
+                "# Title\n" +
+                lineSeparator +
+                "# Usage" +
+                lineSeparator +
+                lineSeparator +
+                "# Support" +
+                lineSeparator
+            );
+        Assertions
+            .assertThat(read(repository.resolve(".github/CODEOWNERS")))
+            .isEqualTo("");
+        Assertions
+            .assertThat(Files.isDirectory(repository.resolve(".github/ISSUE_TEMPLATE")))
+            .isTrue();
+        try (Stream<Path> files = Files.walk(repository)) {
+            // no temporary file is left behind
+            Assertions
+                .assertThat(files.filter(Files::isRegularFile).count())
+                .isEqualTo(2L);
+        }
+    }
+
+    @Test
+    public void givenNewFileStaged_whenCommit_thenCreatedWithDefaultPermissions()
+        throws IOException {
+        final Path repository = Files.createTempDirectory("repository");
+        Assume.assumeTrue(
+            repository.getFileSystem().supportedFileAttributeViews().contains("posix")
+        );
+        final Path createdDirectly = Files.createFile(repository.resolve("SUPPORT.md"));
+        final LocalRepositoryFilePath root = LocalRepositoryFilePath.of(repository);
+        final RepositoryChangeSet changeSet = root.newChangeSet();
+
+        final RepositoryFilePath contributing = changeSet.stage(
+            root.resolvePath("CONTRIBUTING.md")
+        );
+        contributing.touch();
+        contributing.appendLines(Lists.newArrayList("# Contributing"));
+        changeSet.commit("fixup");
+
+        Assertions
+            .assertThat(
+                Files.getPosixFilePermissions(repository.resolve("CONTRIBUTING.md"))
+            )
+            .isEqualTo(Files.getPosixFilePermissions(createdDirectly));
+    }
+
+    private static boolean git(final Path repository, final String... arguments) {
+        try {
+            final Process git = new ProcessBuilder(Lists.asList("git", arguments))
+                .directory(repository.toFile())
+                .inheritIO()
+                .start();
+            return git.waitFor() == 0;
+        } catch (final IOException e) {
+            // git is not installed
+            return false;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String read(final Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private static void write(final Path file, final String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}